@@ -0,0 +1,115 @@
+package com.bentahsin.regionshield.benchmark;
+
+import com.bentahsin.regionshield.BenthRegionShield;
+import com.bentahsin.regionshield.BenthShieldOptions;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Kıyaslamaların ortak kurulumu: tek bir dünya, üst üste binen {@code hookCount} adet kare bölge ve
+ * bölgeye göre farklı yetkilere sahip üç oyuncu.
+ * <ul>
+ *     <li>{@link #owner}: Tüm bölgelerin sahibi. Kontrolleri tüm hook'lar gezilerek izinle sonuçlanır.</li>
+ *     <li>{@link #visitor}: Bölgelerde yetkisi yok. Kontrolleri ilk hook'ta reddedilir.</li>
+ *     <li>{@link #admin}: OP. Kontrolleri bypass adımında izinle sonuçlanır.</li>
+ * </ul>
+ */
+public final class BenchmarkFixture {
+
+    /**
+     * Bölgelerin X ve Z eksenindeki blok genişliği.
+     */
+    public static final int REGION_SIZE = 256;
+
+    /**
+     * Hook'ların koruduğu bölgenin ID'si.
+     */
+    public static final String REGION_ID = "spawn";
+
+    public final World world;
+    public final BenthRegionShield shield;
+    public final Player owner;
+    public final Player visitor;
+    public final Player admin;
+    public final String firstHookName;
+
+    /**
+     * Yeni bir kurulum oluşturur ve hook'ları kaydeder.
+     *
+     * @param options   BenthRegionShield ayarları.
+     * @param hookCount Kaydedilecek hook sayısı.
+     * @param cacheable Hook kararları önbelleğe alınabiliyorsa {@code true}.
+     */
+    public BenchmarkFixture(BenthShieldOptions options, int hookCount, boolean cacheable) {
+        StubServer server = StubServer.get();
+        this.world = server.world("benchmark-" + UUID.randomUUID(), Material.GRASS_BLOCK);
+        Location center = new Location(world, REGION_SIZE / 2.0, 64, REGION_SIZE / 2.0);
+
+        this.owner = server.player("owner", center, false, "benchmark.vip");
+        this.visitor = server.player("visitor", center, false);
+        this.admin = server.player("admin", center, true);
+
+        List<UUID> members = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            members.add(UUID.randomUUID());
+        }
+
+        this.shield = new BenthRegionShield(server.plugin(), options);
+        for (int i = 0; i < hookCount; i++) {
+            shield.registerHook(new StubHook("Stub" + i, REGION_ID, REGION_SIZE, owner.getUniqueId(), members, cacheable));
+        }
+        this.firstHookName = "Stub0";
+    }
+
+    /**
+     * Kıyaslamalar için konsol logları kapalı varsayılan ayar oluşturucusunu döndürür.
+     *
+     * @return Ayar oluşturucusu.
+     */
+    public static BenthShieldOptions.BenthShieldOptionsBuilder options() {
+        return BenthShieldOptions.builder().logToConsole(false);
+    }
+
+    /**
+     * Bölgenin içinde, kare bir ızgaraya yayılmış {@code count} adet farklı blok konumu üretir.
+     *
+     * @param count Konum sayısı. Tam kare olmalıdır.
+     * @return Konumlar.
+     */
+    public Location[] insideLocations(int count) {
+        int side = (int) Math.sqrt(count);
+        int step = Math.max(1, REGION_SIZE / side);
+        Location[] locations = new Location[count];
+        for (int i = 0; i < count; i++) {
+            locations[i] = new Location(world, (i % side) * step, 64, (i / side) * step);
+        }
+        return locations;
+    }
+
+    /**
+     * Hiçbir bölgenin bulunmadığı alanda {@code count} adet farklı blok konumu üretir.
+     *
+     * @param count Konum sayısı.
+     * @return Konumlar.
+     */
+    public Location[] wildernessLocations(int count) {
+        Location[] locations = new Location[count];
+        for (int i = 0; i < count; i++) {
+            locations[i] = new Location(world, -10_000 - i, 64, -10_000);
+        }
+        return locations;
+    }
+
+    /**
+     * Hook'ları kaldırır ve önbelleği temizler.
+     */
+    public void close() {
+        shield.unregisterAll();
+    }
+}
@@ -0,0 +1,104 @@
+package com.bentahsin.regionshield.benchmark;
+
+import com.bentahsin.regionshield.BenthShieldOptions;
+import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.model.InteractionType;
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BenthRegionShield.checkResult} için önbellek isabeti, önbellek ıskalaması ve bypass yollarının kıyaslaması.
+ * <ul>
+ *     <li>{@link #cacheHit()}: 64 farklı bloktan oluşan sıcak küme; her çağrı önbellekten yanıtlanır.</li>
+ *     <li>{@link #cacheMiss()}: 65536 farklı blok, 1024 kayıtlık önbellek. Neredeyse her çağrı tüm hook'ları
+ *     gezer ve kararı önbelleğe yazar.</li>
+ *     <li>{@link #uncacheable()}: Önbelleğe alınamayan hook'lar; önbellek her seferinde atlanır.</li>
+ *     <li>{@link #bypass()}: OP oyuncu; kontrol ezberlenmiş yetki adımında biter.</li>
+ * </ul>
+ * Bellek ayırma hızını görmek için {@code -prof gc} ile çalıştırılmalıdır (Maven profili bunu otomatik yapar).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckResultBenchmark {
+
+    private static final int HOT_BLOCKS = 64;
+    private static final int COLD_BLOCKS = 65_536;
+
+    @Param({"PRIMITIVE", "GUAVA", "TINY_LFU"})
+    public BenthShieldOptions.CacheBackend cacheBackend;
+
+    @Param({"1", "4"})
+    public int hookCount;
+
+    private BenchmarkFixture cached;
+    private BenchmarkFixture thrashing;
+    private BenchmarkFixture uncached;
+    private Location[] hot;
+    private Location[] cold;
+    private Location[] uncachedHot;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cached = new BenchmarkFixture(BenchmarkFixture.options().cacheBackend(cacheBackend).build(), hookCount, true);
+        thrashing = new BenchmarkFixture(BenchmarkFixture.options().cacheBackend(cacheBackend)
+                .cacheMaximumSize(1024).build(), hookCount, true);
+        uncached = new BenchmarkFixture(BenchmarkFixture.options().cacheBackend(cacheBackend).build(), hookCount, false);
+
+        hot = cached.insideLocations(HOT_BLOCKS);
+        cold = thrashing.insideLocations(COLD_BLOCKS);
+        uncachedHot = uncached.insideLocations(HOT_BLOCKS);
+        for (Location location : hot) {
+            cached.shield.checkResult(cached.visitor, location, InteractionType.BLOCK_BREAK);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cached.close();
+        thrashing.close();
+        uncached.close();
+    }
+
+    @Benchmark
+    public ShieldResponse cacheHit() {
+        cursor = (cursor + 1) & (HOT_BLOCKS - 1);
+        return cached.shield.checkResult(cached.visitor, hot[cursor], InteractionType.BLOCK_BREAK);
+    }
+
+    @Benchmark
+    public ShieldResponse cacheMiss() {
+        cursor = (cursor + 1) & (COLD_BLOCKS - 1);
+        return thrashing.shield.checkResult(thrashing.owner, cold[cursor], InteractionType.BLOCK_BREAK);
+    }
+
+    @Benchmark
+    public ShieldResponse uncacheable() {
+        cursor = (cursor + 1) & (HOT_BLOCKS - 1);
+        return uncached.shield.checkResult(uncached.owner, uncachedHot[cursor], InteractionType.BLOCK_BREAK);
+    }
+
+    @Benchmark
+    public ShieldResponse bypass() {
+        cursor = (cursor + 1) & (HOT_BLOCKS - 1);
+        return cached.shield.checkResult(cached.admin, hot[cursor], InteractionType.BLOCK_BREAK);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bentahsin.regionshield.benchmark;
+
+import com.bentahsin.regionshield.api.HookCapabilities;
+import com.bentahsin.regionshield.api.IShieldHook;
+import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionInfo;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bölgeleri kare bir ızgaraya dizen sahte hook. Izgaranın her hücresi {@code cellSize} blok genişliğindedir;
+ * hücrenin ilk {@code regionSize} bloğu bölge, kalanı bölgeler arasındaki vahşi doğadır. Bu sayede oyuncular
+ * yürürken düzenli olarak bölgelere girip çıkar ve bitişik hücreler arasında geçiş yapar.
+ * <p>
+ * Bölge ID'leri {@code r_<x>_<z>} biçimindedir. Tüm bölge bilgileri önceden oluşturulur.
+ */
+public class GridRegionHook implements IShieldHook {
+
+    private final String name;
+    private final int side;
+    private final int cellSize;
+    private final int regionSize;
+    private final RegionInfo[] regions;
+    private final HookCapabilities capabilities = HookCapabilities.builder().threadSafe(true).build();
+
+    /**
+     * Yeni bir ızgara hook'u oluşturur.
+     *
+     * @param name       Hook adı.
+     * @param side       Izgaranın bir kenarındaki bölge sayısı.
+     * @param cellSize   Hücre genişliği (blok).
+     * @param regionSize Hücre içindeki bölgenin genişliği (blok). {@code cellSize}'a eşitse bölgeler bitişiktir.
+     */
+    public GridRegionHook(String name, int side, int cellSize, int regionSize) {
+        this.name = name;
+        this.side = side;
+        this.cellSize = cellSize;
+        this.regionSize = Math.min(regionSize, cellSize);
+        this.regions = new RegionInfo[side * side];
+        for (int x = 0; x < side; x++) {
+            for (int z = 0; z < side; z++) {
+                regions[x * side + z] = new RegionInfo(regionId(x, z), List.of(UUID.randomUUID()), List.of(), name);
+            }
+        }
+    }
+
+    /**
+     * @param x Hücrenin X indeksi.
+     * @param z Hücrenin Z indeksi.
+     * @return Hücredeki bölgenin ID'si.
+     */
+    public static String regionId(int x, int z) {
+        return "r_" + x + "_" + z;
+    }
+
+    /**
+     * @return Izgaranın blok cinsinden genişliği.
+     */
+    public int width() {
+        return side * cellSize;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean canInitialize() {
+        return true;
+    }
+
+    @Override
+    public ShieldResponse check(Player player, Location location, InteractionType type) {
+        return ShieldResponse.allow();
+    }
+
+    @Override
+    public RegionInfo getRegionInfo(Location location) {
+        int x = location.getBlockX();
+        int z = location.getBlockZ();
+        if (x < 0 || z < 0) return null;
+
+        int cellX = x / cellSize;
+        int cellZ = z / cellSize;
+        if (cellX >= side || cellZ >= side) return null;
+        if (x % cellSize >= regionSize || z % cellSize >= regionSize) return null;
+        return regions[cellX * side + cellZ];
+    }
+
+    @Override
+    public HookCapabilities getCapabilities() {
+        return capabilities;
+    }
+}
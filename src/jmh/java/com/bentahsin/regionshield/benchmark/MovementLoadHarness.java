@@ -0,0 +1,242 @@
+package com.bentahsin.regionshield.benchmark;
+
+import com.bentahsin.regionshield.BenthRegionShield;
+import com.bentahsin.regionshield.api.HookMetrics;
+import com.bentahsin.regionshield.api.HookOperation;
+import com.bentahsin.regionshield.api.ShieldMetrics;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Gerçek bir sunucu veya ağ olmadan, {@link StubServer} üzerinde binlerce sentetik oyuncunun bir bölge ızgarasında
+ * dolaştığı yük simülasyonu.
+ * <p>
+ * Her tick'te hareket eden oyuncular için {@link PlayerMoveEvent}, arada bir de {@link PlayerTeleportEvent} tetiklenir
+ * ve sunucu saati ilerletilir. Böylece {@code RegionMovementListener}, {@code RegionLimitManager} (limitli bölgeler
+ * dahil) ve 100 tick'te bir çalışan {@code RegionStayTask} gerçek olay sistemi üzerinden çalışır. Her senaryo için
+ * tick süresinin dağılımı, tick başına olay sayıları ve hook çağrıları raporlanır.
+ * <p>
+ * Çalıştırma:
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:exec@simulate -Dsim.players=250,1000,4000
+ * </pre>
+ * Argümanlar {@code anahtar=değer} biçimindedir:
+ * <ul>
+ *     <li>{@code players}: Virgülle ayrılmış oyuncu sayıları; her biri ayrı bir senaryodur (varsayılan 1000).</li>
+ *     <li>{@code ticks}: Ölçülen tick sayısı (varsayılan 1200).</li>
+ *     <li>{@code warmup}: Ölçüme dahil edilmeyen ısınma tick'i sayısı (varsayılan 400).</li>
+ *     <li>{@code grid}: Izgaranın bir kenarındaki bölge sayısı (varsayılan 16).</li>
+ *     <li>{@code cell}, {@code region}: Hücre ve bölge genişliği (varsayılan 48 ve 32 blok).</li>
+ *     <li>{@code active}: Bir tick'te hareket eden oyuncu oranı (varsayılan 0.6).</li>
+ *     <li>{@code limited}: Oyuncu limiti konan bölge oranı (varsayılan 0.25).</li>
+ *     <li>{@code seed}: Rastgele sayı tohumu (varsayılan 42).</li>
+ * </ul>
+ */
+public final class MovementLoadHarness {
+
+    private static final double WALK_SPEED = 0.216;
+    private static final double SPRINT_SPEED = 0.281;
+    private static final double TURN_CHANCE = 0.05;
+    private static final double TOGGLE_CHANCE = 0.01;
+    private static final double TELEPORT_CHANCE = 0.0005;
+    private static final String HOOK_NAME = "Grid";
+
+    private final Map<String, String> args;
+    private final Random random;
+
+    private MovementLoadHarness(Map<String, String> args) {
+        this.args = args;
+        this.random = new Random(Long.parseLong(args.getOrDefault("seed", "42")));
+    }
+
+    public static void main(String[] argv) {
+        Map<String, String> args = new HashMap<>();
+        for (String arg : argv) {
+            int split = arg.indexOf('=');
+            if (split > 0 && split < arg.length() - 1) args.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+
+        MovementLoadHarness harness = new MovementLoadHarness(args);
+        for (String count : args.getOrDefault("players", "1000").split(",")) {
+            harness.run(Integer.parseInt(count.trim()));
+        }
+    }
+
+    /**
+     * Tek bir senaryoyu çalıştırır ve raporunu basar.
+     */
+    private void run(int playerCount) {
+        int ticks = intArg("ticks", 1200);
+        int warmup = intArg("warmup", 400);
+        int side = intArg("grid", 16);
+        int cell = intArg("cell", 48);
+        int regionSize = intArg("region", 32);
+        double active = doubleArg("active", 0.6);
+        double limited = doubleArg("limited", 0.25);
+
+        StubServer server = StubServer.get();
+        server.reset();
+        World world = server.world("simulation-" + playerCount, Material.GRASS_BLOCK);
+
+        BenthRegionShield shield = new BenthRegionShield(server.plugin(), BenchmarkFixture.options().build());
+        GridRegionHook hook = new GridRegionHook(HOOK_NAME, side, cell, regionSize);
+        shield.registerHook(hook);
+
+        int perRegion = Math.max(1, playerCount / (side * side));
+        for (int x = 0; x < side; x++) {
+            for (int z = 0; z < side; z++) {
+                if (random.nextDouble() < limited) shield.setRegionLimit(HOOK_NAME, GridRegionHook.regionId(x, z), perRegion);
+            }
+        }
+
+        int width = hook.width();
+        List<SimPlayer> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Location position = new Location(world, random.nextDouble() * width, 64, random.nextDouble() * width);
+            SimPlayer sim = new SimPlayer(server.player("sim" + i, position, false), position);
+            sim.heading = random.nextDouble() * Math.PI * 2;
+            sim.moving = random.nextDouble() < active;
+            players.add(sim);
+        }
+
+        long joinStart = System.nanoTime();
+        for (SimPlayer sim : players) {
+            server.join(sim.player);
+        }
+        double joinMillis = (System.nanoTime() - joinStart) / 1_000_000.0;
+
+        for (int i = 0; i < warmup; i++) {
+            step(server, players, width, active);
+        }
+        server.resetEventCounts();
+        shield.resetMetrics();
+
+        long[] tickNanos = new long[ticks];
+        for (int i = 0; i < ticks; i++) {
+            long start = System.nanoTime();
+            step(server, players, width, active);
+            tickNanos[i] = System.nanoTime() - start;
+        }
+
+        report(playerCount, side, ticks, joinMillis, tickNanos, server.eventCounts(), shield);
+
+        for (SimPlayer sim : players) {
+            server.quit(sim.player);
+        }
+        shield.unregisterAll();
+        server.reset();
+    }
+
+    /**
+     * Tüm oyuncuları bir tick ilerletir ve sunucu saatini çalıştırır.
+     */
+    private void step(StubServer server, List<SimPlayer> players, int width, double active) {
+        for (SimPlayer sim : players) {
+            if (random.nextDouble() < TOGGLE_CHANCE) sim.moving = random.nextDouble() < active;
+            if (!sim.moving) continue;
+            if (random.nextDouble() < TURN_CHANCE) sim.heading = random.nextDouble() * Math.PI * 2;
+
+            Location from = sim.position.clone();
+            Location to;
+            boolean teleport = random.nextDouble() < TELEPORT_CHANCE;
+            if (teleport) {
+                to = new Location(from.getWorld(), random.nextDouble() * width, 64, random.nextDouble() * width);
+            } else {
+                double speed = random.nextBoolean() ? WALK_SPEED : SPRINT_SPEED;
+                to = from.clone().add(Math.cos(sim.heading) * speed, 0, Math.sin(sim.heading) * speed);
+                if (to.getX() < 0 || to.getZ() < 0 || to.getX() >= width || to.getZ() >= width) {
+                    sim.heading += Math.PI;
+                    continue;
+                }
+            }
+
+            PlayerMoveEvent event = teleport
+                    ? new PlayerTeleportEvent(sim.player, from, to)
+                    : new PlayerMoveEvent(sim.player, from, to);
+            server.callEvent(event);
+
+            if (event.isCancelled()) {
+                sim.heading += Math.PI;
+            } else {
+                sim.position.setX(to.getX());
+                sim.position.setZ(to.getZ());
+            }
+        }
+        server.tick();
+    }
+
+    /**
+     * Bir senaryonun sonuçlarını basar.
+     */
+    private static void report(int playerCount, int side, int ticks, double joinMillis, long[] tickNanos,
+                               Map<String, Long> events, BenthRegionShield shield) {
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long nanos : sorted) total += nanos;
+
+        System.out.println();
+        System.out.printf(Locale.ROOT, "== %d oyuncu, %d bölge (%dx%d), %d tick ==%n",
+                playerCount, side * side, side, side, ticks);
+        System.out.printf(Locale.ROOT, "Katılım: %.2f ms toplam%n", joinMillis);
+        System.out.printf(Locale.ROOT, "Tick süresi (ms): ort %.3f | p50 %.3f | p95 %.3f | p99 %.3f | maks %.3f%n",
+                total / (double) ticks / 1_000_000.0, percentile(sorted, 0.50), percentile(sorted, 0.95),
+                percentile(sorted, 0.99), sorted[sorted.length - 1] / 1_000_000.0);
+
+        System.out.println("Olaylar (tick başına):");
+        events.forEach((name, count) ->
+                System.out.printf(Locale.ROOT, "  %-28s %10.2f%n", name, count / (double) ticks));
+
+        Map<HookOperation, Long> calls = new EnumMap<>(HookOperation.class);
+        ShieldMetrics metrics = shield.getMetrics();
+        for (HookMetrics entry : metrics.getEntries()) {
+            calls.merge(entry.getOperation(), entry.count(), Long::sum);
+        }
+        System.out.println("Hook çağrıları (tick başına):");
+        calls.forEach((operation, count) ->
+                System.out.printf(Locale.ROOT, "  %-28s %10.2f%n", operation, count / (double) ticks));
+        System.out.println("Önbellek: " + shield.getCacheStats());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private int intArg(String key, int defaultValue) {
+        return Integer.parseInt(args.getOrDefault(key, String.valueOf(defaultValue)));
+    }
+
+    private double doubleArg(String key, double defaultValue) {
+        return Double.parseDouble(args.getOrDefault(key, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * Simülasyondaki tek bir oyuncunun hareket durumu. {@code position}, oyuncu vekilinin
+     * {@code getLocation()} ile döndürdüğü örnektir.
+     */
+    private static final class SimPlayer {
+        private final Player player;
+        private final Location position;
+        private double heading;
+        private boolean moving;
+
+        private SimPlayer(Player player, Location position) {
+            this.player = player;
+            this.position = position;
+        }
+    }
+}
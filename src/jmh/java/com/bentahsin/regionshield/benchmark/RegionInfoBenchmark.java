@@ -0,0 +1,76 @@
+package com.bentahsin.regionshield.benchmark;
+
+import com.bentahsin.regionshield.model.RegionInfo;
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BenthRegionShield.getRegionInfo} kıyaslaması.
+ * <ul>
+ *     <li>{@link #insideRegion()}: İlk hook bölgeyi bulur.</li>
+ *     <li>{@link #wilderness()}: Hiçbir hook bölge bulamaz; tüm hook'lar gezilir.</li>
+ *     <li>{@link #namedHook()}: Adıyla seçilen tek bir hook sorgulanır.</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegionInfoBenchmark {
+
+    private static final int BLOCKS = 64;
+
+    @Param({"1", "4"})
+    public int hookCount;
+
+    private BenchmarkFixture fixture;
+    private Location[] inside;
+    private Location[] outside;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fixture = new BenchmarkFixture(BenchmarkFixture.options().build(), hookCount, true);
+        inside = fixture.insideLocations(BLOCKS);
+        outside = fixture.wildernessLocations(BLOCKS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public RegionInfo insideRegion() {
+        cursor = (cursor + 1) & (BLOCKS - 1);
+        return fixture.shield.getRegionInfo(inside[cursor]);
+    }
+
+    @Benchmark
+    public RegionInfo wilderness() {
+        cursor = (cursor + 1) & (BLOCKS - 1);
+        return fixture.shield.getRegionInfo(outside[cursor]);
+    }
+
+    @Benchmark
+    public RegionInfo namedHook() {
+        cursor = (cursor + 1) & (BLOCKS - 1);
+        return fixture.shield.getRegionInfo(fixture.firstHookName, inside[cursor]);
+    }
+}
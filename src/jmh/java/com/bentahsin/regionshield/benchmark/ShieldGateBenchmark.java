@@ -0,0 +1,121 @@
+package com.bentahsin.regionshield.benchmark;
+
+import com.bentahsin.regionshield.annotations.RegionBlacklist;
+import com.bentahsin.regionshield.annotations.RegionCheck;
+import com.bentahsin.regionshield.annotations.RegionLimit;
+import com.bentahsin.regionshield.annotations.RegionRole;
+import com.bentahsin.regionshield.annotations.RegionRoleType;
+import com.bentahsin.regionshield.annotations.RequireBlock;
+import com.bentahsin.regionshield.annotations.RequireWilderness;
+import com.bentahsin.regionshield.annotations.ShieldBypass;
+import com.bentahsin.regionshield.model.InteractionType;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ShieldGate.inspect} kıyaslaması. Her kıyaslama, farklı bir ek açıklama birleşimine sahip bir metodu
+ * {@code BenthRegionShield.guard} üzerinden denetler. Mantık ilk çağrıda derlenip önbelleğe alındığından ölçülen
+ * süre yalnızca önbellek araması ve doğrulayıcıların çalıştırılmasıdır.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShieldGateBenchmark {
+
+    private BenchmarkFixture fixture;
+    private GuardedActions actions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fixture = new BenchmarkFixture(BenchmarkFixture.options().build(), 1, true);
+        actions = new GuardedActions();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public boolean unannotated() {
+        return fixture.shield.guard(actions, "plain", fixture.owner);
+    }
+
+    @Benchmark
+    public boolean regionCheck() {
+        return fixture.shield.guard(actions, "breakBlock", fixture.owner);
+    }
+
+    @Benchmark
+    public boolean ownerOfLimitedRegion() {
+        return fixture.shield.guard(actions, "manageSpawn", fixture.owner);
+    }
+
+    @Benchmark
+    public boolean blacklistAndGround() {
+        return fixture.shield.guard(actions, "placeOnGrass", fixture.owner);
+    }
+
+    @Benchmark
+    public boolean bypassPermission() {
+        return fixture.shield.guard(actions, "vipAction", fixture.owner);
+    }
+
+    @Benchmark
+    public boolean wildernessDenied() {
+        return fixture.shield.guard(actions, "claimLand", fixture.owner);
+    }
+
+    @Benchmark
+    public boolean visitorDenied() {
+        return fixture.shield.guard(actions, "manageSpawn", fixture.visitor);
+    }
+
+    /**
+     * Denetlenen metotlar. Gövdeleri boştur; yalnızca ek açıklamaları okunur.
+     */
+    public static class GuardedActions {
+
+        public void plain() {
+        }
+
+        @RegionCheck(type = InteractionType.BLOCK_BREAK)
+        public void breakBlock() {
+        }
+
+        @RegionRole(RegionRoleType.OWNER)
+        @RegionLimit(id = BenchmarkFixture.REGION_ID)
+        public void manageSpawn() {
+        }
+
+        @RegionBlacklist(ids = {"arena", "pvp"})
+        @RequireBlock(Material.GRASS_BLOCK)
+        public void placeOnGrass() {
+        }
+
+        @ShieldBypass("benchmark.vip")
+        @RegionCheck(type = InteractionType.BLOCK_BREAK)
+        public void vipAction() {
+        }
+
+        @RequireWilderness
+        public void claimLand() {
+        }
+    }
+}
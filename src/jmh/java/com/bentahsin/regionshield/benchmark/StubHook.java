@@ -0,0 +1,79 @@
+package com.bentahsin.regionshield.benchmark;
+
+import com.bentahsin.regionshield.api.HookCapabilities;
+import com.bentahsin.regionshield.api.IShieldHook;
+import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionInfo;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dünyanın başlangıç noktasından başlayan tek bir kare bölgeyi koruyan, harici eklentiye ihtiyaç duymayan hook.
+ * <p>
+ * Bölgenin içinde sahip dışındaki herkesin tüm etkileşimleri reddedilir; bölgenin dışında her şeye izin verilir.
+ * Yanıtlar önceden oluşturulur, bu sayede ölçülen maliyetin tamamı BenthRegionShield'a aittir.
+ */
+public class StubHook implements IShieldHook {
+
+    private final String name;
+    private final int size;
+    private final UUID owner;
+    private final RegionInfo info;
+    private final ShieldResponse deny;
+    private final HookCapabilities capabilities;
+
+    /**
+     * Yeni bir sahte hook oluşturur.
+     *
+     * @param name      Hook adı.
+     * @param regionId  Korunan bölgenin ID'si.
+     * @param size      Bölgenin X ve Z eksenindeki blok genişliği.
+     * @param owner     Bölge sahibi.
+     * @param members   Bölge üyeleri.
+     * @param cacheable Kararları önbelleğe alınabiliyorsa {@code true}.
+     */
+    public StubHook(String name, String regionId, int size, UUID owner, List<UUID> members, boolean cacheable) {
+        this.name = name;
+        this.size = size;
+        this.owner = owner;
+        this.info = new RegionInfo(regionId, List.of(owner), members, name);
+        this.deny = ShieldResponse.deny(name);
+        this.capabilities = HookCapabilities.builder().threadSafe(true).cacheable(cacheable).build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean canInitialize() {
+        return true;
+    }
+
+    @Override
+    public ShieldResponse check(Player player, Location location, InteractionType type) {
+        if (!contains(location) || owner.equals(player.getUniqueId())) return ShieldResponse.allow();
+        return deny;
+    }
+
+    @Override
+    public RegionInfo getRegionInfo(Location location) {
+        return contains(location) ? info : null;
+    }
+
+    @Override
+    public HookCapabilities getCapabilities() {
+        return capabilities;
+    }
+
+    private boolean contains(Location location) {
+        int x = location.getBlockX();
+        int z = location.getBlockZ();
+        return x >= 0 && z >= 0 && x < size && z < size;
+    }
+}
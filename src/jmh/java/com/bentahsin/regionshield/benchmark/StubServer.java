@@ -0,0 +1,403 @@
+package com.bentahsin.regionshield.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.Warning;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.RegisteredListener;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Kıyaslamalar için gerçek bir Minecraft sunucusu olmadan çalışan, {@link Proxy} tabanlı asgari Bukkit ortamı.
+ * <p>
+ * Yalnızca BenthRegionShield'ın dokunduğu metotlar yanıtlanır; diğer tüm çağrılar türün varsayılan
+ * değerini ({@code null}, {@code 0}, {@code false}) döndürür.
+ * <ul>
+ *     <li>Olaylar Bukkit'in kendi {@link HandlerList} ve {@link RegisteredListener} sınıfları üzerinden dağıtılır;
+ *     öncelik sırası ve {@code ignoreCancelled} gerçek sunucudaki gibi uygulanır. Her olay türü sayılır.</li>
+ *     <li>Zamanlanan görevler yalnızca {@link #tick()} çağrıldığında çalışır. Asenkron görevler de tick thread'inde
+ *     çalıştırılır. JMH kıyaslamaları tick atmadığından tick saati ilerlemez ve önbelleğe yazılan kararlar
+ *     kıyaslama boyunca geçerli kalır.</li>
+ * </ul>
+ * <p>
+ * {@link Bukkit#setServer(Server)} JVM başına bir kez çağrılabildiğinden örnek tekildir.
+ */
+public final class StubServer {
+
+    private static StubServer instance;
+
+    private final Logger logger = Logger.getLogger("StubServer");
+    private final List<World> worlds = new ArrayList<>();
+    private final List<Player> online = new ArrayList<>();
+    private final Map<UUID, Player> players = new HashMap<>();
+    private final Map<Class<?>, long[]> eventCounts = new LinkedHashMap<>();
+    private final List<ScheduledTask> tasks = new ArrayList<>();
+    private final Server server;
+    private final JavaPlugin plugin;
+    private long currentTick;
+    private int nextTaskId = 1;
+
+    private StubServer() {
+        logger.setLevel(Level.WARNING);
+        PluginManager pluginManager = stub(PluginManager.class, this::pluginManager);
+        BukkitScheduler scheduler = stub(BukkitScheduler.class, this::scheduler);
+
+        this.server = stub(Server.class, (method, args) -> switch (method.getName()) {
+            case "getLogger" -> logger;
+            case "getName" -> "StubServer";
+            case "getVersion", "getBukkitVersion" -> "1.20.1-R0.1-SNAPSHOT";
+            case "getPluginManager" -> pluginManager;
+            case "getScheduler" -> scheduler;
+            case "isPrimaryThread" -> true;
+            case "getWorlds" -> new ArrayList<>(worlds);
+            case "getOnlinePlayers" -> Collections.unmodifiableList(online);
+            case "getPlayer" -> args[0] instanceof UUID uuid ? players.get(uuid) : null;
+            case "getWarningState" -> Warning.WarningState.DEFAULT;
+            default -> null;
+        });
+        Bukkit.setServer(server);
+        this.plugin = new BenchmarkPlugin(server);
+    }
+
+    /**
+     * Paylaşılan sahte sunucuyu döndürür; ilk çağrıda oluşturup {@link Bukkit}'e tanıtır.
+     *
+     * @return Sahte sunucu.
+     */
+    public static synchronized StubServer get() {
+        if (instance == null) instance = new StubServer();
+        return instance;
+    }
+
+    /**
+     * @return BenthRegionShield'a verilecek eklenti örneği.
+     */
+    public JavaPlugin plugin() {
+        return plugin;
+    }
+
+    /**
+     * Oyuncuyu çevrimiçi listesine ekler ve {@link PlayerJoinEvent} tetikler.
+     *
+     * @param player Oyuncu.
+     */
+    public void join(Player player) {
+        online.add(player);
+        callEvent(new PlayerJoinEvent(player, ""));
+    }
+
+    /**
+     * {@link PlayerQuitEvent} tetikler ve oyuncuyu çevrimiçi listesinden çıkarır.
+     *
+     * @param player Oyuncu.
+     */
+    public void quit(Player player) {
+        callEvent(new PlayerQuitEvent(player, ""));
+        online.remove(player);
+    }
+
+    /**
+     * Bir olayı, kayıtlı dinleyicilerine öncelik sırasıyla dağıtır.
+     *
+     * @param event Olay.
+     */
+    public void callEvent(Event event) {
+        eventCounts.computeIfAbsent(event.getClass(), k -> new long[1])[0]++;
+        for (RegisteredListener listener : event.getHandlers().getRegisteredListeners()) {
+            try {
+                listener.callEvent(event);
+            } catch (EventException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Sunucu saatini bir tick ilerletir ve zamanı gelen görevleri çalıştırır.
+     */
+    public void tick() {
+        currentTick++;
+        for (ScheduledTask task : new ArrayList<>(tasks)) {
+            if (task.cancelled || task.nextRun > currentTick) continue;
+            task.runnable.run();
+            if (task.period > 0) task.nextRun += task.period;
+            else task.cancelled = true;
+        }
+        tasks.removeIf(task -> task.cancelled);
+    }
+
+    /**
+     * Son sıfırlamadan bu yana tetiklenen olayların, türlerine göre sayısını döndürür.
+     *
+     * @return Olay sınıfının basit adı ve tetiklenme sayısı.
+     */
+    public Map<String, Long> eventCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        eventCounts.forEach((type, count) -> counts.put(type.getSimpleName(), count[0]));
+        return counts;
+    }
+
+    /**
+     * Olay sayaçlarını sıfırlar.
+     */
+    public void resetEventCounts() {
+        eventCounts.clear();
+    }
+
+    /**
+     * Sunucuyu bir sonraki senaryo için temizler: görevler iptal edilir, eklentinin dinleyicileri kaldırılır,
+     * çevrimiçi oyuncu listesi ve olay sayaçları boşaltılır.
+     */
+    public void reset() {
+        tasks.clear();
+        HandlerList.unregisterAll(plugin);
+        online.clear();
+        eventCounts.clear();
+    }
+
+    /**
+     * Zemini her yerde aynı malzemeden oluşan yeni bir dünya oluşturur.
+     *
+     * @param name   Dünya adı.
+     * @param ground Her bloğun türü.
+     * @return Sahte dünya.
+     */
+    public World world(String name, Material ground) {
+        UUID uid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        Block[] block = new Block[1];
+        World world = stub(World.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getUID" -> uid;
+            case "getBlockAt" -> block[0];
+            case "isChunkLoaded" -> true;
+            default -> null;
+        });
+        block[0] = stub(Block.class, (method, args) -> switch (method.getName()) {
+            case "getType" -> ground;
+            case "getRelative" -> block[0];
+            case "getWorld" -> world;
+            default -> null;
+        });
+        worlds.add(world);
+        return world;
+    }
+
+    /**
+     * Verilen konumda duran yeni bir oyuncu oluşturur.
+     * <p>
+     * {@code getLocation()} her çağrıda verilen örneği döndürür; gerçek sunucunun her çağrıda yaptığı kopyalama
+     * ölçüme dahil edilmez. Oyuncuyu hareket ettirmek için bu örnek yerinde güncellenebilir. Oyuncu
+     * {@code getPlayer(UUID)} ile bulunabilir; aynı adla oluşturulan son oyuncu döner.
+     *
+     * @param name        Oyuncu adı.
+     * @param location    Oyuncunun konumu.
+     * @param op          Oyuncu OP ise {@code true}.
+     * @param permissions Oyuncunun sahip olduğu yetkiler.
+     * @return Sahte oyuncu.
+     */
+    public Player player(String name, Location location, boolean op, String... permissions) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        Set<String> granted = new HashSet<>(Arrays.asList(permissions));
+        Player player = stub(Player.class, (method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getUniqueId" -> uuid;
+            case "getLocation" -> location;
+            case "getWorld" -> location.getWorld();
+            case "isOp" -> op;
+            case "isOnline" -> true;
+            case "hasPermission", "isPermissionSet" -> op || args[0] instanceof String && granted.contains(args[0]);
+            default -> null;
+        });
+        players.put(uuid, player);
+        return player;
+    }
+
+    /**
+     * Verilen arayüz için, yanıtı olmayan çağrılarda varsayılan değer döndüren bir vekil (proxy) oluşturur.
+     * {@code equals}, {@code hashCode} ve {@code toString} kimlik (identity) semantiğiyle yanıtlanır.
+     *
+     * @param type   Arayüz.
+     * @param answer Metot adına göre yanıt üreten fonksiyon. {@code null} dönerse varsayılan değer kullanılır.
+     * @param <T>    Arayüz türü.
+     * @return Vekil nesne.
+     */
+    public static <T> T stub(Class<T> type, Answer answer) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> args != null && args.length == 1 && proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            default -> {
+                Object value = answer.answer(method, args);
+                yield value != null ? value : defaultValue(method.getReturnType());
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /**
+     * PluginManager çağrılarını yanıtlar: dinleyici kaydı, olay dağıtımı ve eklenti sorguları.
+     */
+    private Object pluginManager(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "registerEvents" -> {
+                Listener listener = (Listener) args[0];
+                Plugin owner = (Plugin) args[1];
+                owner.getPluginLoader().createRegisteredListeners(listener, owner)
+                        .forEach((type, listeners) -> handlerList(type).registerAll(listeners));
+            }
+            case "registerEvent" -> {
+                Class<? extends Event> type = ((Class<?>) args[0]).asSubclass(Event.class);
+                boolean ignoreCancelled = args.length > 5 && (Boolean) args[5];
+                handlerList(type).register(new RegisteredListener((Listener) args[1], (EventExecutor) args[3],
+                        (EventPriority) args[2], (Plugin) args[4], ignoreCancelled));
+            }
+            case "callEvent" -> callEvent((Event) args[0]);
+            default -> {
+            }
+        }
+        return null;
+    }
+
+    /**
+     * BukkitScheduler çağrılarını yanıtlar. Yalnızca {@link Runnable} alan senkron ve asenkron zamanlama
+     * metotları ile iptal metotları desteklenir.
+     */
+    private Object scheduler(Method method, Object[] args) {
+        String name = method.getName();
+        if (name.equals("cancelTask")) {
+            int id = (Integer) args[0];
+            tasks.forEach(task -> task.cancelled |= task.id == id);
+            return null;
+        }
+        if (name.equals("cancelTasks")) {
+            tasks.forEach(task -> task.cancelled = true);
+            return null;
+        }
+        if (!name.startsWith("runTask") || args.length < 2 || !(args[1] instanceof Runnable runnable)) return null;
+
+        long delay = args.length > 2 ? (Long) args[2] : 0L;
+        long period = args.length > 3 ? (Long) args[3] : -1L;
+        ScheduledTask task = new ScheduledTask(nextTaskId++, runnable, currentTick + Math.max(1L, delay), period);
+        tasks.add(task);
+        return task.handle((Plugin) args[0]);
+    }
+
+    /**
+     * Olay sınıfının, kendisinde veya üst sınıflarında tanımlanan statik {@code getHandlerList()} listesini bulur.
+     */
+    private static HandlerList handlerList(Class<? extends Event> type) {
+        for (Class<?> current = type; current != null && Event.class.isAssignableFrom(current);
+             current = current.getSuperclass()) {
+            try {
+                Method method = current.getDeclaredMethod("getHandlerList");
+                method.setAccessible(true);
+                return (HandlerList) method.invoke(null);
+            } catch (NoSuchMethodException ignored) {
+                // Üst sınıfa bak.
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("getHandlerList bulunamadı: " + type.getName());
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0D;
+        if (type == float.class) return 0F;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+
+    /**
+     * Bir vekil metot çağrısına yanıt üretir.
+     */
+    @FunctionalInterface
+    public interface Answer {
+        Object answer(Method method, Object[] args);
+    }
+
+    /**
+     * Zamanlanmış tek bir görev.
+     */
+    private static final class ScheduledTask {
+        private final int id;
+        private final Runnable runnable;
+        private final long period;
+        private long nextRun;
+        private boolean cancelled;
+
+        private ScheduledTask(int id, Runnable runnable, long nextRun, long period) {
+            this.id = id;
+            this.runnable = runnable;
+            this.nextRun = nextRun;
+            this.period = period;
+        }
+
+        private BukkitTask handle(Plugin owner) {
+            return stub(BukkitTask.class, (method, args) -> switch (method.getName()) {
+                case "getTaskId" -> id;
+                case "getOwner" -> owner;
+                case "isSync" -> true;
+                case "isCancelled" -> cancelled;
+                case "cancel" -> {
+                    cancelled = true;
+                    yield null;
+                }
+                default -> null;
+            });
+        }
+    }
+
+    /**
+     * JavaPlugin'in test amaçlı kurucusunu kullanan, diske hiçbir şey yazmayan eklenti.
+     */
+    private static final class BenchmarkPlugin extends JavaPlugin {
+        @SuppressWarnings("deprecation")
+        private BenchmarkPlugin(Server server) {
+            super(new JavaPluginLoader(server),
+                    new PluginDescriptionFile("RegionShieldBenchmark", "1.0.0", BenchmarkPlugin.class.getName()),
+                    new File("target/benchmark-plugin"), new File("target/benchmark-plugin.jar"));
+        }
+    }
+}
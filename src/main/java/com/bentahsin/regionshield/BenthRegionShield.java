@@ -1,13 +1,21 @@
 package com.bentahsin.regionshield;
 
+import com.bentahsin.regionshield.api.CircuitState;
+import com.bentahsin.regionshield.api.DecisionCacheStats;
+import com.bentahsin.regionshield.api.HookCapabilities;
+import com.bentahsin.regionshield.api.HookOperation;
+import com.bentahsin.regionshield.api.IBatchShieldHook;
+import com.bentahsin.regionshield.api.IDecisionCache;
+import com.bentahsin.regionshield.api.IRegionInvalidator;
 import com.bentahsin.regionshield.api.IShieldHook;
+import com.bentahsin.regionshield.api.RegionSnapshot;
+import com.bentahsin.regionshield.api.ShieldMetrics;
 import com.bentahsin.regionshield.api.ShieldResponse;
 import com.bentahsin.regionshield.internal.*;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
 import com.bentahsin.regionshield.model.RegionBounds;
 import com.bentahsin.regionshield.model.RegionInfo;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,10 +25,18 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.logging.Level;
+import java.util.stream.Stream;
 
 /**
  * <b>BenthRegionShield API'sinin Merkezi Yönetim Sınıfı (Facade).</b>
@@ -51,8 +67,18 @@ public class BenthRegionShield {
     @Getter
     private final BenthShieldOptions options;
 
-    private final List<IShieldHook> hooks;
-    private final Cache<ShieldCacheKey, ShieldResponse> resultCache;
+    private final HookRegistry hookRegistry;
+    private final IDecisionCache resultCache;
+    private final DecisionKeys decisionKeys;
+    private final TickClock clock;
+    private final PermissionCache permissionCache;
+    private final ChunkRegionIndex chunkIndex;
+    private final RegionInfoCache regionInfoCache;
+    private final RegionAreaIndex areaIndex;
+    private final AsyncDispatcher asyncDispatcher;
+    private final RegionInvalidator invalidator;
+    private final HookMetricsCollector metrics;
+    private final CircuitBreakerRegistry breakers;
 
     @Getter
     @SuppressFBWarnings("EI_EXPOSE_REP")
@@ -83,7 +109,7 @@ public class BenthRegionShield {
      * <p>
      * Bu işlem sırasında:
      * <ul>
-     *     <li>Önbellek sistemi (500ms expire) başlatılır.</li>
+     *     <li>Yapılandırılan önbellek arka ucu ({@link BenthShieldOptions#getCacheBackend()}) ve tick saati başlatılır.</li>
      *     <li>Olay dinleyicileri (MovementListener, LimitManager) kaydedilir.</li>
      *     <li>Periyodik görevler (StayTask) zamanlanır.</li>
      * </ul>
@@ -95,26 +121,148 @@ public class BenthRegionShield {
     public BenthRegionShield(JavaPlugin plugin, BenthShieldOptions options) {
         this.plugin = plugin;
         this.options = options;
-        this.hooks = new ArrayList<>();
+        this.clock = new TickClock();
+        this.permissionCache = new PermissionCache(clock, options.getPermissionCacheTicks());
+        this.hookRegistry = new HookRegistry(Math.max(1, options.getCacheExpireTicks()));
         this.gate = new ShieldGate(this);
         this.limitManager = new RegionLimitManager(this);
 
-        this.resultCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(500, TimeUnit.MILLISECONDS)
-                .maximumSize(10000)
-                .build();
+        this.resultCache = createCache(options);
+        this.decisionKeys = new DecisionKeys();
+        this.asyncDispatcher = new AsyncDispatcher(this, options.getAsyncExecutor());
+        this.chunkIndex = options.isChunkIndexEnabled() ? new ChunkRegionIndex(plugin, hookRegistry) : null;
+        this.regionInfoCache = options.isRegionInfoCacheEnabled()
+                ? new RegionInfoCache(options.getRegionInfoCacheMaximumSize(), options.getRegionInfoCacheTicks(),
+                options.getRegionInfoStaleTicks(), options.getRegionInfoScope() == BenthShieldOptions.RegionInfoScope.CHUNK)
+                : null;
+        this.areaIndex = new RegionAreaIndex(this::collectRegionAreas);
+        this.invalidator = new RegionInvalidator(plugin, resultCache, decisionKeys, chunkIndex, regionInfoCache, areaIndex,
+                clock);
+        this.metrics = options.isMetricsEnabled() ? new HookMetricsCollector() : null;
+        this.breakers = options.isCircuitBreakerEnabled() ? new CircuitBreakerRegistry(options, this::logWarning) : null;
 
+        plugin.getServer().getPluginManager().registerEvents(this.decisionKeys, plugin);
+        plugin.getServer().getPluginManager().registerEvents(this.permissionCache, plugin);
         plugin.getServer().getPluginManager().registerEvents(this.limitManager, plugin);
         plugin.getServer().getPluginManager().registerEvents(new RegionMovementListener(this), plugin);
+        if (chunkIndex != null) {
+            plugin.getServer().getPluginManager().registerEvents(chunkIndex, plugin);
+            long refresh = Math.max(20L, options.getChunkIndexRefreshTicks());
+            plugin.getServer().getScheduler().runTaskTimer(plugin, chunkIndex::rescanLoaded, refresh, refresh);
+        }
 
         new RegionStayTask(this).runTaskTimer(plugin, 100L, 100L);
+        clock.runTaskTimer(plugin, 1L, 1L);
+        permissionCache.subscribeLuckPerms(plugin);
+    }
+
+    /**
+     * Yapılandırmaya göre izin kararı önbelleğini oluşturur. Özel bir fabrika verilmişse o kullanılır.
+     */
+    private static IDecisionCache createCache(BenthShieldOptions options) {
+        if (options.getCacheFactory() != null) {
+            IDecisionCache custom = options.getCacheFactory().apply(options);
+            if (custom != null) return custom;
+        }
+
+        int maximumSize = Math.max(16, options.getCacheMaximumSize());
+        switch (options.getCacheBackend()) {
+            case GUAVA:
+                return new GuavaDecisionCache(maximumSize);
+            case TINY_LFU:
+                return new TinyLfuDecisionCache(maximumSize);
+            default:
+                return new PrimitiveDecisionCache(maximumSize);
+        }
+    }
+
+    /**
+     * İzin kararı önbelleğinin isabet, ıskalama ve çıkarma istatistiklerini döndürür.
+     * Önbellek boyutunu ({@link BenthShieldOptions#getCacheMaximumSize()}) çalışma kümesine göre ayarlamak için kullanılır.
+     *
+     * @return Önbellek istatistiklerinin anlık görüntüsü.
+     */
+    public DecisionCacheStats getCacheStats() {
+        return resultCache.stats();
+    }
+
+    /**
+     * Bölge bilgisi önbelleğinin isabet (bayat sunulanlar dahil), ıskalama ve çıkarma istatistiklerini döndürür.
+     *
+     * @return Önbellek istatistiklerinin anlık görüntüsü. Önbellek kapalıysa tüm değerler sıfırdır.
+     */
+    public DecisionCacheStats getRegionInfoCacheStats() {
+        return regionInfoCache != null ? regionInfoCache.stats() : new DecisionCacheStats(0, 0, 0, 0);
+    }
+
+    /**
+     * Her hook için, çağrı türü ve etkileşim türü bazında gecikme histogramlarının ve izin/red/hata sayaçlarının
+     * anlık görüntüsünü döndürür. Hangi hook'un tick süresini tükettiğini bulmak için kullanılır.
+     *
+     * @return Metriklerin anlık görüntüsü. {@link BenthShieldOptions#isMetricsEnabled()} kapalıysa boş.
+     */
+    public ShieldMetrics getMetrics() {
+        return metrics != null ? metrics.snapshot() : new ShieldMetrics(List.of());
+    }
+
+    /**
+     * Biriken tüm hook metriklerini sıfırlar.
+     */
+    public void resetMetrics() {
+        if (metrics != null) metrics.reset();
+    }
+
+    /**
+     * Adı verilen hook'un devre kesicisinin (circuit breaker) durumunu döndürür.
+     *
+     * @param hookName Hook'un adı (büyük/küçük harf duyarsız).
+     * @return Devre durumu. Devre kesici kapalıysa veya hook henüz çağrılmadıysa {@link CircuitState#CLOSED}.
+     */
+    public CircuitState getCircuitState(String hookName) {
+        return breakers != null ? breakers.state(hookName) : CircuitState.CLOSED;
+    }
+
+    /**
+     * Tüm hook'ların devrelerini kapatır. Bozulan bir bölge eklentisi elle düzeltildikten sonra, bekleme süresini
+     * beklemeden normale dönmek için kullanılabilir.
+     */
+    public void resetCircuitBreakers() {
+        if (breakers != null) breakers.resetAll();
+    }
+
+    /**
+     * Bölge veya claim değişikliklerini bildirmek için kullanılan geçersiz kılıcıyı döndürür.
+     * <p>
+     * Kayıtlı hook'lar bu nesneyi {@link IShieldHook#onRegister(org.bukkit.plugin.Plugin, IRegionInvalidator)} ile
+     * otomatik olarak alır. Kendi değişiklik olaylarını yakalayan eklentiler de doğrudan kullanabilir.
+     *
+     * @return Geçersiz kılıcı.
+     */
+    public IRegionInvalidator getInvalidator() {
+        return invalidator;
+    }
+
+    /**
+     * Kayıttan kaldırılan hook'ların dinleyicilerini ve görevlerini kapatır.
+     */
+    private void closeHooks(IShieldHook[] removed) {
+        for (IShieldHook hook : removed) {
+            if (breakers != null) breakers.remove(hook);
+            if (metrics != null) metrics.remove(hook);
+            try {
+                hook.onUnregister();
+            } catch (Exception e) {
+                if (debugMode) logWarning("Hook kapatılırken hata: " + hook.getName() + " (" + e.getMessage() + ")");
+            }
+        }
     }
 
     /**
      * Sisteme yeni bir koruma entegrasyonu (hook) kaydeder.
      * <p>
-     * Kayıt sırasında hook'un {@code canInitialize()} metodu çağrılır. Başarılı olursa listeye eklenir
-     * ve liste {@link IShieldHook#getPriority()} değerine göre (Yüksekten Düşüğe) yeniden sıralanır.
+     * Kayıt sırasında hook'un {@code canInitialize()} metodu çağrılır. Başarılı olursa, {@link IShieldHook#getPriority()}
+     * değerine göre (Yüksekten Düşüğe) sıralanmış yeni bir hook anlık görüntüsü yayınlanır. Devam eden kontroller
+     * eski görüntü üzerinde güvenle tamamlanır.
      *
      * @param hook Kaydedilecek hook uygulaması (Örn: WorldGuardHook, TownySafeHook).
      */
@@ -122,8 +270,15 @@ public class BenthRegionShield {
         if (hook == null) return;
 
         if (hook.canInitialize()) {
-            hooks.add(hook);
-            hooks.sort(Comparator.comparingInt((IShieldHook h) -> h.getPriority().getValue()).reversed());
+            hookRegistry.register(hook);
+            if (regionInfoCache != null) regionInfoCache.invalidateAll();
+            if (chunkIndex != null) chunkIndex.invalidateAll();
+            areaIndex.invalidateAll();
+            try {
+                hook.onRegister(plugin, invalidator);
+            } catch (Exception e) {
+                logWarning("Hook değişiklik olayları dinlenemiyor: " + hook.getName() + " (" + e.getMessage() + ")");
+            }
 
             logInfo("Hook aktif: " + hook.getName());
         } else if (debugMode) {
@@ -136,8 +291,11 @@ public class BenthRegionShield {
      * Plugin disable edilirken veya reload atılırken kullanılması önerilir.
      */
     public void unregisterAll() {
-        hooks.clear();
+        closeHooks(hookRegistry.removeAll());
         resultCache.invalidateAll();
+        if (regionInfoCache != null) regionInfoCache.invalidateAll();
+        if (chunkIndex != null) chunkIndex.invalidateAll();
+        areaIndex.invalidateAll();
     }
 
     /**
@@ -159,9 +317,15 @@ public class BenthRegionShield {
      * <p>
      * <b>Kontrol Sıralaması:</b>
      * <ol>
-     *     <li><b>Bypass Kontrolü:</b> {@code options.getBypassPermission()} yetkisine sahipse veya OP ise izin verilir.</li>
+     *     <li><b>Bypass Kontrolü:</b> {@code options.getBypassPermission()} yetkisine sahipse veya OP ise izin verilir.
+     *     Bu bilgi oyuncu başına ezberlenir (bkz. {@link #hasBypass(Player)}).</li>
      *     <li><b>Dünya Kontrolü:</b> Konum geçersiz bir dünyadaysa izin verilir.</li>
-     *     <li><b>Önbellek (Cache):</b> Aynı sorgu son 500ms içinde yapıldıysa, önbellekten yanıt döndürülür.</li>
+     *     <li><b>Chunk İndeksi:</b> Açıksa ve konumun chunk'ında hiçbir hook'un bölgesi yoksa izin verilir.</li>
+     *     <li><b>Önbellek (Cache):</b> Aynı sorgu yapılandırılan süre (varsayılan 10 tick, ~500ms) içinde yapıldıysa, önbellekten yanıt döndürülür.
+     *     Önbellek anahtarları ilkel değerlerden oluştuğu için bu adım nesne oluşturmaz. {@link BenthShieldOptions.CacheScope#REGION}
+     *     modunda blok anahtarında kayıt yoksa, konumdaki bölge kümesinin parmak izi hesaplanır ve bu parmak izine göre
+     *     tutulan kayda bakılır. Parmak izi hook'ların bölge aramasını gerektirdiğinden yalnızca blok ıskalamasında
+     *     hesaplanır; kararlar her iki anahtara da yazılır.</li>
      *     <li><b>Hook Sorgusu:</b> Kayıtlı hook'lar öncelik sırasına göre gezilir. İşlemi reddeden (DENY) ilk hook sonucu belirler.</li>
      * </ol>
      *
@@ -171,68 +335,578 @@ public class BenthRegionShield {
      * @return Etkileşimin sonucunu (izin/red) ve sağlayıcısını içeren {@link ShieldResponse} nesnesi.
      */
     public ShieldResponse checkResult(Player player, Location location, InteractionType type) {
-        if (player.hasPermission(options.getBypassPermission()) || player.isOp()) {
+        if (hasBypass(player)) {
             return ShieldResponse.allow();
         }
 
         World world = location.getWorld();
-        if (world == null) {
+        if (world == null || isRegionFreeChunk(world, location)) {
             return ShieldResponse.allow();
         }
 
-        ShieldCacheKey cacheKey = new ShieldCacheKey(
-                player.getUniqueId(),
-                world.getName(),
-                location.getBlockX(),
-                location.getBlockY(),
-                location.getBlockZ(),
-                type
-        );
+        int playerSlot = decisionKeys.playerSlot(player);
+        if (playerSlot == DecisionKeys.NO_SLOT) {
+            return checkUncached(player, location, type);
+        }
+
+        long blockKey = DecisionKeys.packBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        long contextKey = DecisionKeys.context(playerSlot, decisionKeys.worldIndex(world), type);
+        int now = clock.now();
 
-        ShieldResponse cachedResponse = resultCache.getIfPresent(cacheKey);
+        ShieldResponse cachedResponse = resultCache.get(blockKey, contextKey, now);
         if (cachedResponse != null) return cachedResponse;
 
-        for (IShieldHook hook : hooks) {
-            try {
-                ShieldResponse response = hook.check(player, location, type);
+        HookRegistry.DispatchPlan plan = hookRegistry.plan(type);
+        long regionKey = IShieldHook.NO_FINGERPRINT;
+        long regionContext = DecisionKeys.regionScoped(contextKey);
+        if (options.getCacheScope() == BenthShieldOptions.CacheScope.REGION && hookRegistry.fingerprinted()) {
+            regionKey = regionFingerprint(location);
+            if (regionKey != IShieldHook.NO_FINGERPRINT) {
+                cachedResponse = resultCache.get(regionKey, regionContext, now);
+                if (cachedResponse != null) {
+                    cacheDecision(blockKey, contextKey, cachedResponse, now, plan.allowTtl());
+                    return cachedResponse;
+                }
+            }
+        }
 
-                if (response.isDenied()) {
-                    if (debugMode) {
-                        logDebug(player, response.getProviderName());
-                    }
-                    resultCache.put(cacheKey, response);
-                    return response;
+        IShieldHook[] hooks = plan.hooks();
+        for (int i = 0; i < hooks.length; i++) {
+            ShieldResponse response = invokeCheck(hooks[i], player, location, type);
+
+            if (response != null && response.isDenied()) {
+                if (debugMode) {
+                    logDebug(player, response.getProviderName());
                 }
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, options.getLogPrefix() + "Hook hatası: " + hook.getName(), e);
+                cacheDecision(blockKey, contextKey, response, now, plan.ttlTicks()[i]);
+                if (regionKey != IShieldHook.NO_FINGERPRINT) {
+                    cacheDecision(regionKey, regionContext, response, now, plan.ttlTicks()[i]);
+                }
+                return response;
             }
         }
 
         ShieldResponse allowed = ShieldResponse.allow();
-        resultCache.put(cacheKey, allowed);
+        cacheDecision(blockKey, contextKey, allowed, now, plan.allowTtl());
+        if (regionKey != IShieldHook.NO_FINGERPRINT) {
+            cacheDecision(regionKey, regionContext, allowed, now, plan.allowTtl());
+        }
         return allowed;
     }
 
+    /**
+     * Önbellek slotu olmayan oyuncular (NPC'ler, çıkış yapmış oyuncular) için kararı önbelleğe dokunmadan verir.
+     */
+    private ShieldResponse checkUncached(Player player, Location location, InteractionType type) {
+        for (IShieldHook hook : hookRegistry.plan(type).hooks()) {
+            ShieldResponse response = invokeCheck(hook, player, location, type);
+            if (response != null && response.isDenied()) {
+                if (debugMode) {
+                    logDebug(player, response.getProviderName());
+                }
+                return response;
+            }
+        }
+        return ShieldResponse.allow();
+    }
+
+    /**
+     * Bir kararı verilen süre boyunca önbelleğe yazar. Süre sıfır veya negatifse (önbelleğe alınamayan bir hook
+     * sorgulandıysa) ya da devresi açık bir hook kararı etkiliyorsa hiçbir şey yapmaz.
+     */
+    private void cacheDecision(long key, long context, ShieldResponse response, int now, int ttlTicks) {
+        if (ttlTicks > 0 && !isCacheSuspended()) {
+            resultCache.put(key, context, response, now, now + ttlTicks);
+        }
+    }
+
+    /**
+     * Bir kararı verilen süre boyunca önbelleğe yazmanın güvenli olup olmadığını döndürür. Devresi açık bir hook
+     * {@link BenthShieldOptions.BreakerFallback#ALLOW} dışında bir yedek kararla temsil ediliyorsa, hook düzeldiğinde
+     * kararların hemen yeniden değerlendirilmesi için önbelleğe yazılmaz.
+     */
+    private boolean isCacheSuspended() {
+        return breakers != null && breakers.isDegraded()
+                && options.getBreakerFallback() != BenthShieldOptions.BreakerFallback.ALLOW;
+    }
+
+    /**
+     * Bir hook'un {@code check} metodunu çağırır. Hook'un devresi açıksa yapılandırılan yedek kararı döndürür.
+     *
+     * @return Hook'un yanıtı; hook bir istisna fırlattıysa veya atlandıysa {@code null}.
+     */
+    private ShieldResponse invokeCheck(IShieldHook hook, Player player, Location location, InteractionType type) {
+        return invokeHook(hook, HookOperation.CHECK, type, () -> hook.check(player, location, type), checkFallback(hook));
+    }
+
+    /**
+     * Bir hook'un {@code getRegionInfo} metodunu çağırır. Hook'un devresi açıksa hook atlanır.
+     *
+     * @return Bölge bilgisi veya bölge yoksa, hook bir istisna fırlattıysa ya da atlandıysa {@code null}.
+     */
+    private RegionInfo invokeRegionInfo(IShieldHook hook, Location location) {
+        return invokeHook(hook, HookOperation.REGION_INFO, null, () -> hook.getRegionInfo(location), null);
+    }
+
+    /**
+     * Bir hook'un {@code getRegionBounds} metodunu çağırır. Hook'un devresi açıksa hook atlanır.
+     *
+     * @return Bölge sınırları veya bölge yoksa, hook bir istisna fırlattıysa ya da atlandıysa {@code null}.
+     */
+    private RegionBounds invokeRegionBounds(IShieldHook hook, Location location) {
+        return invokeHook(hook, HookOperation.REGION_BOUNDS, null, () -> hook.getRegionBounds(location), null);
+    }
+
+    /**
+     * Tüm hook çağrılarının ortak yolu: devre kesiciyi kontrol eder, çağrının süresini ve sonucunu metriklere ve
+     * devre kesiciye işler, hataları (devre kesici açıksa aralıklı olarak) loglar. Sonuç {@code finally} içinde
+     * kaydedilir; hook bir {@link Error} (örn. {@link LinkageError}) fırlatsa da deneme çağrısı sonuçlanır ve hata
+     * olarak sayılır; {@code Error} ise yakalanmadan çağırana iletilir.
+     *
+     * @param fallback Devre açıkken döndürülecek değer.
+     * @return Çağrının sonucu, devre açıksa {@code fallback}, hata oluştuysa {@code null}.
+     */
+    private <T> T invokeHook(IShieldHook hook, HookOperation operation, InteractionType type, Supplier<T> call, T fallback) {
+        CircuitBreaker breaker = breakers != null ? breakers.of(hook) : null;
+        if (breaker != null && !breaker.tryAcquire()) return fallback;
+
+        HookMetricsCollector.OperationStats stats = metrics != null ? metrics.of(hook).get(operation, type) : null;
+        boolean timed = stats != null || breaker != null;
+        long start = timed ? System.nanoTime() : 0L;
+        boolean failed = true;
+        Exception error = null;
+        T result = null;
+        try {
+            result = call.get();
+            failed = false;
+            return result;
+        } catch (Exception e) {
+            error = e;
+            return null;
+        } finally {
+            long elapsed = timed ? System.nanoTime() - start : 0L;
+            if (stats != null) {
+                if (failed) stats.recordError(elapsed);
+                else stats.record(result instanceof ShieldResponse response && response.isDenied(), elapsed);
+            }
+            if (breaker != null) breaker.onResult(failed, elapsed);
+            if (error != null) logHookError(hook, operation, breaker, error);
+        }
+    }
+
+    /**
+     * Devresi açık bir hook için kontrol sorgularında kullanılacak yedek kararı döndürür.
+     */
+    private ShieldResponse checkFallback(IShieldHook hook) {
+        switch (options.getBreakerFallback()) {
+            case ALLOW:
+                return ShieldResponse.allow();
+            case DENY:
+                return ShieldResponse.deny(hook.getName());
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Bir hook hatasını loglar. Kontrol hataları her zaman, bölge sorgusu hataları yalnızca hata ayıklama modunda
+     * loglanır. Devre kesici açıksa aynı hook'un hataları aralıklı olarak basılır ve aradakiler sayılır.
+     */
+    private void logHookError(IShieldHook hook, HookOperation operation, CircuitBreaker breaker, Exception e) {
+        if (operation != HookOperation.CHECK && !debugMode) return;
+
+        int suppressed = breaker != null ? breaker.tryLog() : 0;
+        if (suppressed < 0) return;
+
+        String message = options.getLogPrefix() + "Hook hatası: " + hook.getName() + " (" + operation + ")";
+        if (suppressed > 0) message += " - son logdan bu yana " + suppressed + " hata bastırıldı";
+        plugin.getLogger().log(operation == HookOperation.CHECK ? Level.SEVERE : Level.WARNING, message, e);
+    }
+
+    /**
+     * Çok sayıda konum için izin kontrolünü tek bir çağrıda gerçekleştirir.
+     * <p>
+     * Damar madenciliği, ağaç kesme veya alan araçları gibi tek bir eylemde yüzlerce bloğa dokunan senaryolar için
+     * tasarlanmıştır. {@link #canInteract(Player, Location, InteractionType)} metodunu döngü içinde çağırmak yerine:
+     * <ul>
+     *     <li>Bypass kontrolü yalnızca bir kez yapılır.</li>
+     *     <li>Önbellekte bulunan konumlar hook'lara hiç gönderilmez.</li>
+     *     <li>{@link IBatchShieldHook} uygulayan hook'lar kalan konumları tek seferde (örn. chunk başına bir bölge
+     *     çözümlemesiyle) değerlendirir; diğer hook'lar için konum başına {@code check} çağrılır.</li>
+     *     <li>Bir hook tarafından reddedilen konumlar daha düşük öncelikli hook'lara sorulmaz.</li>
+     * </ul>
+     * Sonuçlar tekil kontrollerle aynı önbelleğe blok bazında yazılır.
+     *
+     * @param player    Kontrol edilecek oyuncu.
+     * @param locations Kontrol edilecek konumlar.
+     * @param type      Kontrol edilecek etkileşim türü.
+     * @return {@code i}. biti, koleksiyonun yineleme sırasındaki {@code i}. konumda etkileşime izin verildiğinde
+     * set edilmiş bir {@link BitSet}.
+     */
+    public BitSet checkBatch(Player player, Collection<Location> locations, InteractionType type) {
+        int size = locations.size();
+        BitSet allowed = new BitSet(size);
+        if (size == 0) return allowed;
+
+        if (hasBypass(player)) {
+            allowed.set(0, size);
+            return allowed;
+        }
+
+        int playerSlot = decisionKeys.playerSlot(player);
+        boolean cached = playerSlot != DecisionKeys.NO_SLOT;
+        int now = clock.now();
+
+        List<Location> pending = new ArrayList<>();
+        int[] pendingIndices = new int[size];
+        long[] pendingKeys = new long[size];
+        long[] pendingContexts = new long[size];
+
+        int index = 0;
+        for (Location location : locations) {
+            World world = location.getWorld();
+            if (world == null || isRegionFreeChunk(world, location)) {
+                allowed.set(index++);
+                continue;
+            }
+
+            long blockKey = DecisionKeys.packBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+            long contextKey = DecisionKeys.context(playerSlot, decisionKeys.worldIndex(world), type);
+            ShieldResponse cachedResponse = cached ? resultCache.get(blockKey, contextKey, now) : null;
+
+            if (cachedResponse != null) {
+                if (cachedResponse.isAllowed()) allowed.set(index);
+            } else {
+                int slot = pending.size();
+                pending.add(location);
+                pendingIndices[slot] = index;
+                pendingKeys[slot] = blockKey;
+                pendingContexts[slot] = contextKey;
+            }
+            index++;
+        }
+
+        int pendingCount = pending.size();
+        if (pendingCount == 0) return allowed;
+
+        BitSet denied = new BitSet(pendingCount);
+        ShieldResponse[] responses = new ShieldResponse[pendingCount];
+        int[] deniedAt = new int[pendingCount];
+        Arrays.fill(deniedAt, -1);
+
+        HookRegistry.DispatchPlan plan = hookRegistry.plan(type);
+        IShieldHook[] hooks = plan.hooks();
+        for (int h = 0; h < hooks.length; h++) {
+            IShieldHook hook = hooks[h];
+            if (hook instanceof IBatchShieldHook batchHook) {
+                invokeBatch(batchHook, player, pending, type, denied);
+            } else {
+                for (int i = denied.nextClearBit(0); i < pendingCount; i = denied.nextClearBit(i + 1)) {
+                    ShieldResponse response = invokeCheck(hook, player, pending.get(i), type);
+                    if (response != null && response.isDenied()) {
+                        denied.set(i);
+                        responses[i] = response;
+                    }
+                }
+            }
+
+            ShieldResponse batchDenial = null;
+            for (int i = denied.nextSetBit(0); i >= 0; i = denied.nextSetBit(i + 1)) {
+                if (deniedAt[i] < 0) deniedAt[i] = h;
+                if (responses[i] != null) continue;
+                if (batchDenial == null) batchDenial = ShieldResponse.deny(hook.getName());
+                responses[i] = batchDenial;
+            }
+
+            if (denied.cardinality() == pendingCount) break;
+        }
+
+        if (debugMode && !denied.isEmpty()) {
+            logDebug(player, denied.cardinality() + "/" + pendingCount + " konum (toplu kontrol)");
+        }
+
+        ShieldResponse allowResponse = ShieldResponse.allow();
+        for (int i = 0; i < pendingCount; i++) {
+            ShieldResponse response = responses[i] != null ? responses[i] : allowResponse;
+            int ttl = deniedAt[i] >= 0 ? plan.ttlTicks()[deniedAt[i]] : plan.allowTtl();
+            if (cached) cacheDecision(pendingKeys[i], pendingContexts[i], response, now, ttl);
+            if (response.isAllowed()) allowed.set(pendingIndices[i]);
+        }
+        return allowed;
+    }
+
+    /**
+     * Bir toplu kontrol hook'unu çağırır; değerlendirilen konum sayısını ve süreyi metriklere ve devre kesiciye işler.
+     * Devre kesici için konum başına ortalama süre kullanılır. Hook'un devresi açıksa ve yedek karar
+     * {@link BenthShieldOptions.BreakerFallback#DENY} ise tüm konumlar reddedilir.
+     */
+    private void invokeBatch(IBatchShieldHook hook, Player player, List<Location> pending, InteractionType type, BitSet denied) {
+        CircuitBreaker breaker = breakers != null ? breakers.of(hook) : null;
+        if (breaker != null && !breaker.tryAcquire()) {
+            if (options.getBreakerFallback() == BenthShieldOptions.BreakerFallback.DENY) denied.set(0, pending.size());
+            return;
+        }
+
+        HookMetricsCollector.OperationStats stats = metrics != null ? metrics.of(hook).check(type) : null;
+        int before = denied.cardinality();
+        int evaluated = Math.max(1, pending.size() - before);
+        boolean timed = stats != null || breaker != null;
+        long start = timed ? System.nanoTime() : 0L;
+        boolean failed = true;
+        Exception error = null;
+        try {
+            hook.checkBatch(player, pending, type, denied);
+            failed = false;
+        } catch (Exception e) {
+            error = e;
+        } finally {
+            long elapsed = timed ? System.nanoTime() - start : 0L;
+            if (stats != null) {
+                int newlyDenied = denied.cardinality() - before;
+                if (failed) stats.recordError(elapsed);
+                else stats.recordBatch(pending.size() - before - newlyDenied, newlyDenied, elapsed);
+            }
+            if (breaker != null) breaker.onResult(failed, elapsed / evaluated);
+            if (error != null) logHookError(hook, HookOperation.CHECK, breaker, error);
+        }
+    }
+
+    /**
+     * {@link #checkResult(Player, Location, InteractionType)} metodunun herhangi bir thread'den çağrılabilen asenkron sürümü.
+     * <p>
+     * Paket dinleyicileri, asenkron sohbet olayları veya veritabanı işlemleri gibi ana thread dışındaki kodlar için tasarlanmıştır:
+     * <ul>
+     *     <li>Ana thread'den çağrılırsa kontrol senkron olarak yapılır ve tamamlanmış bir future döner.</li>
+     *     <li>Bypass, chunk indeksi ve önbellek isabetleri beklemeden, tamamlanmış bir future ile yanıtlanır.</li>
+     *     <li>Aksi halde thread-safe hook'lar {@link BenthShieldOptions#getAsyncExecutor()} üzerinde çalışır;
+     *     yalnızca diğer hook'lar ana thread'e taşınır.</li>
+     *     <li>Aynı oyuncu, blok ve etkileşim türü için eşzamanlı istekler tek bir değerlendirmede birleştirilir.</li>
+     * </ul>
+     * Asenkron yol her zaman blok kapsamlı önbellek anahtarlarını kullanır; bölge parmak izi hesaplaması hook'ları
+     * ana thread dışından çağırmayı gerektireceği için atlanır.
+     *
+     * @param player   Kontrol edilecek oyuncu.
+     * @param location Kontrol edilecek konum.
+     * @param type     Kontrol edilecek etkileşim türü.
+     * @return Sonucu içeren {@link CompletableFuture}.
+     */
+    public CompletableFuture<ShieldResponse> checkAsync(Player player, Location location, InteractionType type) {
+        if (plugin.getServer().isPrimaryThread()) {
+            return CompletableFuture.completedFuture(checkResult(player, location, type));
+        }
+
+        if (hasBypass(player)) {
+            return CompletableFuture.completedFuture(ShieldResponse.allow());
+        }
+
+        World world = location.getWorld();
+        if (world == null || isRegionFreeChunk(world, location)) {
+            return CompletableFuture.completedFuture(ShieldResponse.allow());
+        }
+
+        Location target = location.clone();
+        HookRegistry.DispatchPlan plan = hookRegistry.plan(type);
+        int playerSlot = decisionKeys.playerSlot(player);
+        if (playerSlot == DecisionKeys.NO_SLOT) {
+            return asyncDispatcher.dispatch(plan, hook -> invokeCheck(hook, player, target, type), ShieldResponse::isDenied)
+                    .thenApply(denied -> denied != null ? denied : ShieldResponse.allow());
+        }
+
+        long blockKey = DecisionKeys.packBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        long contextKey = DecisionKeys.context(playerSlot, decisionKeys.worldIndex(world), type);
+
+        ShieldResponse cachedResponse = resultCache.get(blockKey, contextKey, clock.now());
+        if (cachedResponse != null) return CompletableFuture.completedFuture(cachedResponse);
+
+        return asyncDispatcher.collapseCheck(blockKey, contextKey, () -> asyncDispatcher
+                .dispatch(plan, hook -> invokeCheck(hook, player, target, type), ShieldResponse::isDenied)
+                .thenApply(denied -> {
+                    ShieldResponse response = denied != null ? denied : ShieldResponse.allow();
+                    if (debugMode && denied != null) {
+                        logDebug(player, denied.getProviderName());
+                    }
+                    cacheDecision(blockKey, contextKey, response, clock.now(), plan.allowTtl());
+                    return response;
+                }));
+    }
+
+    /**
+     * {@link #getRegionInfo(Location)} metodunun herhangi bir thread'den çağrılabilen asenkron sürümü.
+     * <p>
+     * Ana thread'den çağrılırsa sorgu senkron olarak yapılır. Aksi halde thread-safe hook'lar
+     * {@link BenthShieldOptions#getAsyncExecutor()} üzerinde, diğerleri ana thread'de çalıştırılır ve öncelik
+     * sırasındaki ilk bölge bilgisi döndürülür. Aynı blok için eşzamanlı istekler tek sorguda birleştirilir.
+     * Bölge bilgisi önbelleğindeki kayıtlar beklemeden, tamamlanmış bir future ile yanıtlanır.
+     * <p>
+     * Dönen bilginin sahip ve üye listeleri çözülmüş olarak verilir: {@link RegionInfo#lazy} ile oluşturulmuş
+     * bir bilgi, future tamamlanmadan önce ana thread'de çözülür.
+     *
+     * @param location Bilgi alınacak konum.
+     * @return Bölge varsa {@link RegionInfo}, yoksa {@code null} içeren {@link CompletableFuture}.
+     */
+    public CompletableFuture<RegionInfo> getRegionInfoAsync(Location location) {
+        if (plugin.getServer().isPrimaryThread()) {
+            return CompletableFuture.completedFuture(getRegionInfo(location));
+        }
+
+        World world = location.getWorld();
+        if (world == null || isRegionFreeChunk(world, location)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long blockKey = DecisionKeys.packBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        int worldIndex = decisionKeys.worldIndex(world);
+        if (regionInfoCache == null) {
+            Location target = location.clone();
+            return asyncDispatcher.collapseLookup(blockKey, worldIndex, () -> asyncDispatcher
+                    .dispatch(hookRegistry.planAll(), hook -> invokeRegionInfo(hook, target), info -> true)
+                    .thenCompose(this::resolvedOnMainThread));
+        }
+
+        long key = regionInfoCache.keyOf(location);
+        Object cached = regionInfoCache.get(key, worldIndex, clock.now());
+        if (cached instanceof RegionInfoCache.Stale stale) {
+            refreshRegionInfo(key, worldIndex, location, stale.generation());
+            return resolvedOnMainThread(stale.value());
+        }
+        if (cached != RegionInfoCache.MISS) return resolvedOnMainThread((RegionInfo) cached);
+
+        long generation = regionInfoCache.generation();
+        Location target = location.clone();
+        return asyncDispatcher.collapseLookup(blockKey, worldIndex, () -> asyncDispatcher
+                .dispatch(hookRegistry.planAll(), hook -> invokeRegionInfo(hook, target), info -> true)
+                .thenApply(info -> {
+                    regionInfoCache.put(key, worldIndex, info, clock.now(), generation);
+                    return info;
+                })
+                .thenCompose(this::resolvedOnMainThread));
+    }
+
+    /**
+     * Bilginin tembel listeleri henüz çözülmemişse onları ana thread'de çözer. Çözülmüş bilgiler ve {@code null}
+     * beklemeden döndürülür. Eklenti kapanırken görev zamanlanamazsa bilgi olduğu gibi döndürülür.
+     */
+    private CompletableFuture<RegionInfo> resolvedOnMainThread(RegionInfo info) {
+        if (info == null || info.isResolved()) return CompletableFuture.completedFuture(info);
+
+        CompletableFuture<RegionInfo> future = new CompletableFuture<>();
+        try {
+            plugin.getServer().getScheduler().runTask(plugin, () -> future.complete(info.resolve()));
+        } catch (RuntimeException e) {
+            future.complete(info);
+        }
+        return future;
+    }
+
+    /**
+     * Chunk indeksi açıksa, konumun bulunduğu chunk'ın bölgesiz olarak işaretlenip işaretlenmediğini döndürür.
+     */
+    private boolean isRegionFreeChunk(World world, Location location) {
+        return chunkIndex != null && chunkIndex.isEmpty(world, location.getBlockX(), location.getBlockZ());
+    }
+
+    /**
+     * Chunk indeksindeki tüm işaretleri siler ve yüklü chunk'ları yeniden taramaya alır.
+     * Bir bölge eklentisinde toplu değişiklik yapıldığında (örn. yeniden yükleme) çağrılmalıdır.
+     * Chunk indeksi kapalıysa işlem yapmaz. Ana thread üzerinden çağrılmalıdır.
+     */
+    public void invalidateChunkIndex() {
+        if (chunkIndex != null) chunkIndex.invalidateAll();
+    }
+
+    /**
+     * Bir bölge veya claim oluşturulduğunda, silindiğinde ya da yeniden boyutlandırıldığında etkilenen alanın
+     * chunk indeksindeki işaretlerini siler. Chunk indeksi kapalıysa işlem yapmaz. Ana thread üzerinden
+     * çağrılmalıdır.
+     *
+     * @param world Alanın bulunduğu dünya.
+     * @param minX  Alanın en küçük X blok koordinatı.
+     * @param minZ  Alanın en küçük Z blok koordinatı.
+     * @param maxX  Alanın en büyük X blok koordinatı.
+     * @param maxZ  Alanın en büyük Z blok koordinatı.
+     */
+    public void invalidateChunkIndex(World world, int minX, int minZ, int maxX, int maxZ) {
+        if (chunkIndex != null) chunkIndex.invalidateArea(world, minX, minZ, maxX, maxZ);
+    }
+
+    /**
+     * Tüm kayıtlı hook'ların parmak izlerini öncelik sırasına göre birleştirerek konumdaki bölge kümesinin
+     * ortak parmak izini hesaplar.
+     *
+     * @param location Parmak izi alınacak konum.
+     * @return Birleşik parmak izi veya hook'lardan biri desteklemiyorsa {@link IShieldHook#NO_FINGERPRINT}.
+     */
+    private long regionFingerprint(Location location) {
+        long fingerprint = DecisionKeys.FINGERPRINT_SEED;
+        for (IShieldHook hook : hookRegistry.hooks()) {
+            long part;
+            try {
+                part = hook.getRegionFingerprint(location);
+            } catch (Exception e) {
+                return IShieldHook.NO_FINGERPRINT;
+            }
+            if (part == IShieldHook.NO_FINGERPRINT) return IShieldHook.NO_FINGERPRINT;
+            fingerprint = DecisionKeys.mix(fingerprint, part);
+        }
+        return fingerprint == IShieldHook.NO_FINGERPRINT ? fingerprint + 1 : fingerprint;
+    }
+
     /**
      * Belirtilen konumdaki bölge hakkında bilgi (ID, Sahipler, Üyeler vb.) alır.
      * <p>
      * Hook'ları öncelik sırasına göre sorgular ve bölge bilgisi döndüren ilk hook'un sonucunu verir.
+     * {@link BenthShieldOptions#isRegionInfoCacheEnabled()} açıksa sonuç (bölge yoksa {@code null} da) konum
+     * bazında önbelleğe alınır. Süresi dolmak üzere olan kayıtlar bayat olarak sunulurken arka planda yenilenir.
      *
      * @param location Bilgi alınacak konum.
      * @return Bölge varsa {@link RegionInfo} nesnesi, yoksa {@code null}.
      */
     public RegionInfo getRegionInfo(Location location) {
-        for (IShieldHook hook : hooks) {
-            try {
-                RegionInfo info = hook.getRegionInfo(location);
-                if (info != null) return info;
-            } catch (Exception e) {
-                if (debugMode) plugin.getLogger().severe(options.getLogPrefix() + e.getMessage());
-            }
+        World world = location.getWorld();
+        if (world != null && isRegionFreeChunk(world, location)) return null;
+        if (world == null || regionInfoCache == null) {
+            return resolveRegionInfo(location);
+        }
+
+        long key = regionInfoCache.keyOf(location);
+        int worldIndex = decisionKeys.worldIndex(world);
+        Object cached = regionInfoCache.get(key, worldIndex, clock.now());
+        if (cached instanceof RegionInfoCache.Stale stale) {
+            refreshRegionInfo(key, worldIndex, location, stale.generation());
+            return stale.value();
+        }
+        if (cached != RegionInfoCache.MISS) return (RegionInfo) cached;
+
+        long generation = regionInfoCache.generation();
+        RegionInfo info = resolveRegionInfo(location);
+        regionInfoCache.put(key, worldIndex, info, clock.now(), generation);
+        return info;
+    }
+
+    /**
+     * Hook'ları öncelik sırasıyla sorgular ve bölge bilgisi döndüren ilk hook'un sonucunu verir.
+     */
+    private RegionInfo resolveRegionInfo(Location location) {
+        for (IShieldHook hook : hookRegistry.hooks()) {
+            RegionInfo info = invokeRegionInfo(hook, location);
+            if (info != null) return info;
         }
         return null;
     }
 
+    /**
+     * Bayat bir önbellek kaydını arka planda yeniler. Thread-safe hook'lar asenkron yürütücüde, diğerleri bir
+     * sonraki tick'te ana thread'de sorgulanır; bu sırada kayıt bayat değeriyle sunulmaya devam eder.
+     */
+    private void refreshRegionInfo(long key, int worldIndex, Location location, long generation) {
+        Location target = location.clone();
+        asyncDispatcher.dispatch(hookRegistry.planAll(), hook -> invokeRegionInfo(hook, target), info -> true)
+                .whenComplete((info, error) -> {
+                    if (error != null) regionInfoCache.cancelRefresh(key, worldIndex);
+                    else regionInfoCache.put(key, worldIndex, info, clock.now(), generation);
+                });
+    }
+
     /**
      * Adına göre belirli bir hook'tan (Örn: "WorldGuard") bölge bilgilerini alır.
      * Diğer hook'ları pas geçer.
@@ -243,7 +917,169 @@ public class BenthRegionShield {
      */
     public RegionInfo getRegionInfo(String hookName, Location location) {
         IShieldHook hook = getHook(hookName);
-        return (hook != null) ? hook.getRegionInfo(location) : null;
+        return (hook != null) ? invokeRegionInfo(hook, location) : null;
+    }
+
+    /**
+     * Bir konum için kararları, bölge bilgisini ve bölge sınırlarını hook başına tek bir bölge aramasıyla döndürür.
+     * <p>
+     * Aynı konum için hem izin kontrolü hem de bölge bilgisi/sınırı gereken çağıranlar (ör. bölge girişinde
+     * mesaj gösterip sınır çizen eklentiler) için tasarlanmıştır. {@link #checkResult}, {@link #getRegionInfo(Location)}
+     * ve sınır sorgusunu ayrı ayrı çağırmak yerine, her hook'un {@link IShieldHook#getRegionSnapshot} metodu bir kez
+     * çağrılır:
+     * <ul>
+     *     <li>Bypass yetkisi olan oyuncular için tüm türlere izin verilir; bölge bilgisi ve sınırlar yine sorgulanır.</li>
+     *     <li>Hook'lar öncelik sırasıyla gezilir. Her hook'a yalnızca değerlendirdiği ve henüz reddedilmemiş türler
+     *     sorulur. Bölge bilgisi ve sınırlar, döndüren ilk hook'tan alınır.</li>
+     *     <li>Bilgi ve sınırlar bulunduğunda ve sorulacak tür kalmadığında kalan hook'lar atlanır.</li>
+     *     <li>Devresi açık bir hook atlanır; istenen türler için yapılandırılan yedek karar kullanılır.</li>
+     * </ul>
+     * Sonuç önbelleğe yazılmaz ve önbellekten okunmaz; sık tekrarlanan tekil kontroller için
+     * {@link #checkResult} tercih edilmelidir. Ana thread üzerinden çağrılmalıdır.
+     *
+     * @param player   Kararların verileceği oyuncu; {@code null} ise hiçbir karar değerlendirilmez.
+     * @param location Sorgulanan konum.
+     * @param types    Karar istenen etkileşim türleri.
+     * @return Konumun birleşik anlık görüntüsü; asla {@code null} değildir. Değerlendirilen her tür için bir karar
+     * (izin veya ilk ret) içerir.
+     */
+    public RegionSnapshot getRegionSnapshot(Player player, Location location, InteractionType... types) {
+        Map<InteractionType, ShieldResponse> decisions = new EnumMap<>(InteractionType.class);
+        Set<InteractionType> pending = EnumSet.noneOf(InteractionType.class);
+        if (player != null) {
+            boolean bypass = hasBypass(player);
+            for (InteractionType type : types) {
+                if (bypass) decisions.put(type, ShieldResponse.allow());
+                else pending.add(type);
+            }
+        }
+
+        World world = location.getWorld();
+        if (world == null || isRegionFreeChunk(world, location)) {
+            pending.forEach(type -> decisions.put(type, ShieldResponse.allow()));
+            return new RegionSnapshot(null, null, decisions);
+        }
+
+        RegionInfo info = null;
+        RegionBounds bounds = null;
+        for (IShieldHook hook : hookRegistry.hooks()) {
+            if (info != null && bounds != null && pending.isEmpty()) break;
+
+            Set<InteractionType> asked = evaluatedBy(hook, pending);
+            RegionSnapshot part = invokeHook(hook, HookOperation.SNAPSHOT, null,
+                    () -> hook.getRegionSnapshot(player, location, asked), snapshotFallback(hook, asked));
+            if (part == null) continue;
+
+            if (info == null) info = part.getInfo();
+            if (bounds == null) bounds = part.getBounds();
+            for (InteractionType type : asked) {
+                if (part.isDenied(type)) {
+                    ShieldResponse denied = part.getDecision(type);
+                    if (debugMode) logDebug(player, denied.getProviderName());
+                    decisions.put(type, denied);
+                    pending.remove(type);
+                }
+            }
+        }
+
+        pending.forEach(type -> decisions.put(type, ShieldResponse.allow()));
+        return new RegionSnapshot(info, bounds, decisions);
+    }
+
+    /**
+     * Bekleyen türlerden hook'un değerlendirdiklerini döndürür.
+     */
+    private static Set<InteractionType> evaluatedBy(IShieldHook hook, Set<InteractionType> pending) {
+        if (pending.isEmpty()) return pending;
+        HookCapabilities capabilities = hook.getCapabilities();
+        if (capabilities == null) return EnumSet.copyOf(pending);
+
+        Set<InteractionType> asked = EnumSet.noneOf(InteractionType.class);
+        for (InteractionType type : pending) {
+            if (capabilities.evaluates(type)) asked.add(type);
+        }
+        return asked;
+    }
+
+    /**
+     * Devresi açık bir hook için anlık görüntü sorgularında kullanılacak yedek sonucu döndürür: bölge bilgisi ve
+     * sınır içermez, istenen türler için {@link #checkFallback} kararını taşır.
+     */
+    private RegionSnapshot snapshotFallback(IShieldHook hook, Set<InteractionType> types) {
+        ShieldResponse fallback = checkFallback(hook);
+        if (fallback == null || types.isEmpty()) return RegionSnapshot.empty();
+
+        Map<InteractionType, ShieldResponse> decisions = new EnumMap<>(InteractionType.class);
+        types.forEach(type -> decisions.put(type, fallback));
+        return new RegionSnapshot(null, null, decisions);
+    }
+
+    /**
+     * Verilen blok kutusuyla kesişen, tüm hook'lardaki bölgeleri döndürür.
+     * <p>
+     * Her dünya ilk sorgulandığında, hook'ların {@link IShieldHook#getRegionAreas(World)} sonuçları tek bir uzamsal
+     * indekste birleştirilir; sonraki sorgular yalnızca kutunun düştüğü hücreleri gezer. İndeks, bölge değişiklikleri
+     * {@link #getInvalidator()} ile bildirildiğinde veya hook'lar değiştiğinde yeniden oluşturulur. Yerleşik
+     * hook'ların tümü bölgelerini listeler: WorldGuard bölgeleri, GriefPrevention claim'leri, Towny arsaları ve
+     * Lands chunk'ları ile BentoBox, SuperiorSkyblock ve ASkyBlock adaları. Bölgelerini listeleyemeyen (örn.
+     * {@link IShieldHook#getRegionAreas(World)} metodunu uygulamayan) hook'lar sonuçlarda yer almaz.
+     * <p>
+     * Dönen akış tembeldir; örneğin {@code findFirst()} veya {@code limit()} ile yalnızca gereken kadar bölge gezilir.
+     * Çokgen ve düzensiz bölgeler sınır kutularıyla karşılaştırılır. Ana thread üzerinden çağrılmalıdır.
+     *
+     * @param world Sorgulanan dünya.
+     * @return Kutusu verilen kutuyla kesişen bölgelerin akışı; her bölge en fazla bir kez döner.
+     */
+    public Stream<RegionArea> queryRegions(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return areaIndex.query(world, Math.min(minX, maxX), Math.min(minY, maxY), Math.min(minZ, maxZ),
+                Math.max(minX, maxX), Math.max(minY, maxY), Math.max(minZ, maxZ));
+    }
+
+    /**
+     * Merkeze verilen yarıçaptan daha yakın olan, tüm hook'lardaki bölgeleri döndürür. Uzaklık, merkezden bölgenin
+     * sınır kutusuna olan en kısa uzaklıktır; merkezi içeren bölgeler de döner.
+     * <p>
+     * {@link #queryRegions(World, int, int, int, int, int, int)} ile aynı indeksi kullanır. Ana thread üzerinden
+     * çağrılmalıdır.
+     *
+     * @param center Sorgunun merkezi.
+     * @param radius Blok cinsinden yarıçap.
+     * @return Yarıçap içindeki bölgelerin tembel akışı; merkezin dünyası yoksa boş.
+     */
+    public Stream<RegionArea> queryRegions(Location center, double radius) {
+        World world = center.getWorld();
+        if (world == null || radius < 0) return Stream.empty();
+
+        double x = center.getX();
+        double y = center.getY();
+        double z = center.getZ();
+        double radiusSquared = radius * radius;
+        return queryRegions(world,
+                (int) Math.floor(x - radius), (int) Math.floor(y - radius), (int) Math.floor(z - radius),
+                (int) Math.floor(x + radius), (int) Math.floor(y + radius), (int) Math.floor(z + radius))
+                .filter(area -> area.distanceSquared(x, y, z) <= radiusSquared);
+    }
+
+    /**
+     * Alan indeksi için bir dünyadaki tüm hook'ların bölgelerini öncelik sırasıyla toplar. Hata veren veya
+     * bölgelerini listeleyemeyen hook'lar atlanır.
+     */
+    private List<RegionArea> collectRegionAreas(World world) {
+        List<RegionArea> areas = new ArrayList<>();
+        for (IShieldHook hook : hookRegistry.hooks()) {
+            Collection<RegionArea> part;
+            try {
+                part = hook.getRegionAreas(world);
+            } catch (Exception e) {
+                if (debugMode) logWarning("Hook bölgeleri listelenemedi: " + hook.getName() + " (" + e.getMessage() + ")");
+                continue;
+            }
+            if (part == null) continue;
+            for (RegionArea area : part) {
+                if (area != null) areas.add(area);
+            }
+        }
+        return areas;
     }
 
     /**
@@ -280,17 +1116,12 @@ public class BenthRegionShield {
      */
     public void showBoundaries(Player player) {
         Location loc = player.getLocation();
+        if (isRegionFreeChunk(player.getWorld(), loc)) return;
         RegionBounds bounds = null;
 
-        for (IShieldHook hook : hooks) {
-            try {
-                bounds = hook.getRegionBounds(loc);
-                if (bounds != null) break;
-            } catch (Exception e) {
-                if (debugMode) {
-                    plugin.getLogger().log(Level.WARNING, options.getLogPrefix() + "Error getting bounds from hook: " + hook.getName(), e);
-                }
-            }
+        for (IShieldHook hook : hookRegistry.hooks()) {
+            bounds = invokeRegionBounds(hook, loc);
+            if (bounds != null) break;
         }
 
         if (bounds == null) {
@@ -302,15 +1133,13 @@ public class BenthRegionShield {
 
     /**
      * Kayıtlı bir hook'u benzersiz adına göre arar ve döndürür.
+     * Arama, önceden hazırlanmış isim indeksi üzerinden O(1) maliyetle yapılır.
      *
      * @param name Alınacak hook'un adı (büyük/küçük harfe duyarsız).
      * @return {@link IShieldHook} örneği veya bulunamazsa {@code null}.
      */
     public IShieldHook getHook(String name) {
-        return hooks.stream()
-                .filter(h -> h.getName().equalsIgnoreCase(name))
-                .findFirst()
-                .orElse(null);
+        return hookRegistry.find(name);
     }
 
     /**
@@ -319,8 +1148,11 @@ public class BenthRegionShield {
      * @param name Kayıttan kaldırılacak hook'un adı (büyük/küçük harfe duyarsız).
      */
     public void unregisterHook(String name) {
-        hooks.removeIf(hook -> hook.getName().equalsIgnoreCase(name));
+        closeHooks(hookRegistry.removeNamed(name));
         resultCache.invalidateAll();
+        if (regionInfoCache != null) regionInfoCache.invalidateAll();
+        if (chunkIndex != null) chunkIndex.invalidateAll();
+        areaIndex.invalidateAll();
     }
 
     /**
@@ -336,12 +1168,8 @@ public class BenthRegionShield {
         IShieldHook hook = getHook(hookName);
         if (hook == null) return ShieldResponse.allow();
 
-        try {
-            return hook.check(player, location, type);
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, options.getLogPrefix() + "Specific Check hatası: " + hookName, e);
-            return ShieldResponse.allow();
-        }
+        ShieldResponse response = invokeCheck(hook, player, location, type);
+        return response != null ? response : ShieldResponse.allow();
     }
 
     /**
@@ -367,6 +1195,48 @@ public class BenthRegionShield {
         return gate.inspect(instance, methodName, player, paramTypes);
     }
 
+    /**
+     * Oyuncunun genel bypass yetkisine ({@link BenthShieldOptions#getBypassPermission()}) sahip olup olmadığını
+     * veya OP olup olmadığını kontrol eder.
+     * <p>
+     * Sonuç oyuncu başına bir bit kümesinde ezberlenir; tekrar eden çağrılar yetki eklentisine gitmez.
+     *
+     * @param player Kontrol edilecek oyuncu.
+     * @return Oyuncu tüm korumaları atlayabiliyorsa {@code true}.
+     */
+    public boolean hasBypass(Player player) {
+        return permissionCache.has(player, options.getBypassPermission()) || permissionCache.isOp(player);
+    }
+
+    /**
+     * Oyuncunun verilen yetkiye sahip olup olmadığını ezberlenmiş (memoized) değerden kontrol eder.
+     * {@code @ShieldBypass} ve {@code @RegionCheck(bypassPerm)} gibi sık sorgulanan yetkiler için kullanılır.
+     *
+     * @param player     Kontrol edilecek oyuncu.
+     * @param permission Yetki düğümü.
+     * @return Oyuncu yetkiye sahipse {@code true}.
+     */
+    public boolean hasPermission(Player player, String permission) {
+        return permissionCache.has(player, permission);
+    }
+
+    /**
+     * Bir oyuncunun ezberlenmiş yetkilerini geçersiz kılar. Yetki eklentisi dışında
+     * (örn. bir komutla) yetki veya OP değişikliği yapıldığında çağrılmalıdır.
+     *
+     * @param player Yetkileri yeniden hesaplanacak oyuncu.
+     */
+    public void invalidatePermissions(Player player) {
+        permissionCache.invalidate(player.getUniqueId());
+    }
+
+    /**
+     * Tüm oyuncuların ezberlenmiş yetkilerini geçersiz kılar.
+     */
+    public void invalidatePermissions() {
+        permissionCache.invalidateAll();
+    }
+
     /**
      * Belirtilen bir bölgeye girebilecek maksimum oyuncu sayısını ayarlar.
      *
@@ -1,11 +1,16 @@
 package com.bentahsin.regionshield;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import com.bentahsin.regionshield.api.IDecisionCache;
 import lombok.Builder;
 import lombok.Getter;
 import org.bukkit.Particle;
 import org.bukkit.entity.Player;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * BenthRegionShield kütüphanesinin çalışma davranışlarını özelleştirmek için kullanılan yapılandırma sınıfı.
@@ -33,6 +38,18 @@ public class BenthShieldOptions {
     @Builder.Default
     private String limitBypassPermission = "regionshield.bypass.limit";
 
+    /**
+     * Oyuncuların bypass yetkileri ve OP durumlarının ezberlenmiş (memoized) olarak kalacağı en uzun süre (tick).
+     * <p>
+     * Yetkiler ayrıca oyuncu katıldığında, dünya değiştirdiğinde, LuckPerms yetkileri yeniden hesapladığında ve
+     * {@code BenthRegionShield#invalidatePermissions(Player)} çağrıldığında yenilenir. Bu süre, Bukkit'in yetki
+     * değişiklikleri için bir olay sunmamasına karşı bir güvenlik ağıdır.
+     * <p>
+     * Varsayılan: 100 (5 saniye)
+     */
+    @Builder.Default
+    private int permissionCacheTicks = 100;
+
     /**
      * Konsola basılan logların (hook aktif, hata vb.) gösterilip gösterilmeyeceği.
      * <p>
@@ -68,10 +85,290 @@ public class BenthShieldOptions {
     @Builder.Default
     private BiConsumer<Player, String> limitRejectionHandler = (player, info) -> {};
 
+    /**
+     * İzin kararı önbelleğinde tutulacak en fazla kayıt sayısı. Kayıt sayısı (oyuncu x blok x etkileşim türü)
+     * çalışma kümesine göre ayarlanmalıdır; {@code BenthRegionShield#getCacheStats()} ile izlenebilir.
+     * <p>
+     * Varsayılan: 10000
+     */
+    @Builder.Default
+    private int cacheMaximumSize = 10000;
+
+    /**
+     * Bir iznin önbellekte geçerli kalacağı varsayılan süre (tick). Hook'lar {@code HookCapabilities} ile
+     * kendi sürelerini önerebilir; bir karar, sorgulanan hook'ların en kısa süresi kadar geçerli kalır.
+     * <p>
+     * Hook'lar bölge değişikliklerini {@code IRegionInvalidator} üzerinden bildirdiğinde etkilenen kayıtlar anında
+     * silinir; bu durumda birkaç saniyelik (örn. 100 tick) süreler de güvenle kullanılabilir.
+     * <p>
+     * Varsayılan: 10 (~500ms)
+     */
+    @Builder.Default
+    private int cacheExpireTicks = 10;
+
+    /**
+     * Kullanılacak hazır önbellek arka ucu (ve dolayısıyla çıkarma politikası).
+     * {@link #cacheFactory} belirtilmişse yok sayılır.
+     * <p>
+     * Varsayılan: {@link CacheBackend#PRIMITIVE}
+     */
+    @Builder.Default
+    private CacheBackend cacheBackend = CacheBackend.PRIMITIVE;
+
+    /**
+     * Özel bir önbellek uygulaması sağlamak için kullanılan fabrika. Yapılandırma nesnesini alır ve
+     * bir {@link IDecisionCache} döndürür. {@code null} ise {@link #cacheBackend} kullanılır.
+     * <p>
+     * Varsayılan: null
+     */
+    @Builder.Default
+    private Function<BenthShieldOptions, IDecisionCache> cacheFactory = null;
+
+    /**
+     * İzin kararlarının önbellekte hangi kapsamda tutulacağı.
+     * <p>
+     * {@link CacheScope#REGION} modunda, aynı bölge kümesindeki tüm bloklar tek bir hook değerlendirmesini
+     * paylaşır. Kayıtlı hook'lardan biri parmak izi desteklemiyorsa sistem otomatik olarak blok kapsamına döner.
+     * <p>
+     * Varsayılan: {@link CacheScope#BLOCK}
+     */
+    @Builder.Default
+    private CacheScope cacheScope = CacheScope.BLOCK;
+
+    /**
+     * Hiçbir hook'un bölge barındırmadığı chunk'ları işaretleyen negatif indeksin kullanılıp kullanılmayacağı.
+     * <p>
+     * Açık olduğunda, işaretli chunk'lardaki izin ve bölge bilgisi sorguları hook'lara hiç gitmeden yanıtlanır.
+     * Yalnızca kayıtlı tüm hook'lar {@code IShieldHook#isChunkEmpty} metodunu desteklediğinde etkilidir.
+     * Bölge eklentisindeki değişiklikler en geç {@link #chunkIndexRefreshTicks} süresi içinde yansır; daha hızlı
+     * senkronizasyon için {@code BenthRegionShield#invalidateChunkIndex} çağrılabilir.
+     * <p>
+     * Varsayılan: false
+     */
+    @Builder.Default
+    private boolean chunkIndexEnabled = false;
+
+    /**
+     * Chunk indeksinin yüklü chunk'ları periyodik olarak yeniden tarama aralığı (tick).
+     * <p>
+     * Varsayılan: 1200 (1 dakika)
+     */
+    @Builder.Default
+    private int chunkIndexRefreshTicks = 1200;
+
+    /**
+     * {@code getRegionInfo} sonuçlarının konum bazında önbelleğe alınıp alınmayacağı.
+     * <p>
+     * Bölge bilgisi her blok hareketinde, bölgede kalma olayında, limit kontrollerinde ve {@code ShieldGate}
+     * denetimlerinde sorgulanır. Önbellek açıkken bu sorgular, kayıt taze olduğu sürece hook'lara gitmez.
+     * Bölge bilgisi kararlardan bağımsızdır; hook'ların karar önbelleği tercihleri bu önbelleği etkilemez.
+     * <p>
+     * Varsayılan: true
+     */
+    @Builder.Default
+    private boolean regionInfoCacheEnabled = true;
+
+    /**
+     * Bölge bilgisi önbelleğinin anahtar çözünürlüğü.
+     * <p>
+     * Varsayılan: {@link RegionInfoScope#BLOCK}
+     */
+    @Builder.Default
+    private RegionInfoScope regionInfoScope = RegionInfoScope.BLOCK;
+
+    /**
+     * Bölge bilgisi önbelleğinde tutulacak yaklaşık kayıt sayısı.
+     * <p>
+     * Varsayılan: 16384
+     */
+    @Builder.Default
+    private int regionInfoCacheMaximumSize = 16384;
+
+    /**
+     * Bölge bilgisinin taze sayıldığı süre (tick). Bu süre içinde hook'lar hiç sorgulanmaz.
+     * <p>
+     * Varsayılan: 20 (1 saniye)
+     */
+    @Builder.Default
+    private int regionInfoCacheTicks = 20;
+
+    /**
+     * Taze süre dolduktan sonra bölge bilgisinin bayat olarak sunulabileceği ek süre (tick). Bu süre içinde
+     * ilk sorgu hook'ları arka planda yeniden sorgular ve yanıt gelene kadar tüm sorgulara eski değer döner;
+     * hareket yolu hiçbir zaman hook'ları beklemez. 0 verilirse bayat değer sunulmaz.
+     * Bölge değişiklikleri {@code IRegionInvalidator} ile bildirildiğinde kayıtlar bu sürelerden bağımsız
+     * olarak hemen silinir.
+     * <p>
+     * Varsayılan: 40 (2 saniye)
+     */
+    @Builder.Default
+    private int regionInfoStaleTicks = 40;
+
+    /**
+     * Hook çağrılarının gecikme histogramlarının ve izin/red/hata sayaçlarının tutulup tutulmayacağı.
+     * Sayaçlar çekişmesiz (striped) olduğundan üretimde açık bırakılabilir; kapatıldığında hook çağrıları hiç ölçülmez.
+     * Veriler {@code BenthRegionShield#getMetrics()} ile okunur.
+     * <p>
+     * Varsayılan: true
+     */
+    @Builder.Default
+    private boolean metricsEnabled = true;
+
+    /**
+     * Hook başına devre kesicinin (circuit breaker) kullanılıp kullanılmayacağı.
+     * <p>
+     * Açık olduğunda, son {@link #breakerWindowSize} çağrısının en az {@link #breakerFailureRateThreshold} oranında
+     * hata veren veya {@link #breakerSlowCallMillis} süresini aşan bir hook, {@link #breakerOpenMillis} boyunca hiç
+     * çağrılmaz ve yerine {@link #breakerFallback} kararı kullanılır. Süre dolunca tek bir deneme çağrısı yapılır;
+     * başarılı olursa hook normale döner. Aynı hook'un hata logları da aralıklı olarak basılır.
+     * <p>
+     * Varsayılan: true
+     */
+    @Builder.Default
+    private boolean circuitBreakerEnabled = true;
+
+    /**
+     * Devre kesicinin hata oranını hesaplarken baktığı son çağrı sayısı.
+     * <p>
+     * Varsayılan: 20
+     */
+    @Builder.Default
+    private int breakerWindowSize = 20;
+
+    /**
+     * Devrenin açılabilmesi için penceredeki en az çağrı sayısı.
+     * <p>
+     * Varsayılan: 10
+     */
+    @Builder.Default
+    private int breakerMinimumCalls = 10;
+
+    /**
+     * Devreyi açan hatalı veya yavaş çağrı oranı (0.0 - 1.0).
+     * <p>
+     * Varsayılan: 0.5
+     */
+    @Builder.Default
+    private double breakerFailureRateThreshold = 0.5;
+
+    /**
+     * Bir çağrının yavaş (ve dolayısıyla hatalı) sayılacağı süre (milisaniye).
+     * <p>
+     * Varsayılan: 50
+     */
+    @Builder.Default
+    private long breakerSlowCallMillis = 50L;
+
+    /**
+     * Açılan bir devrenin deneme çağrısına kadar açık kalacağı süre (milisaniye).
+     * <p>
+     * Varsayılan: 10000 (10 saniye)
+     */
+    @Builder.Default
+    private long breakerOpenMillis = 10_000L;
+
+    /**
+     * Devresi açık bir hook yerine kullanılacak karar.
+     * <p>
+     * Varsayılan: {@link BreakerFallback#SKIP}
+     */
+    @Builder.Default
+    private BreakerFallback breakerFallback = BreakerFallback.SKIP;
+
+    /**
+     * {@code checkAsync} ve {@code getRegionInfoAsync} çağrılarında thread-safe hook'ların çalıştırılacağı executor.
+     * Thread-safe olmayan hook'lar her zaman ana thread'e taşınır.
+     * <p>
+     * Örneğin sanal thread'ler için: {@code Executors.newVirtualThreadPerTaskExecutor()}.
+     * <p>
+     * Varsayılan: {@link ForkJoinPool#commonPool()}
+     */
+    @Builder.Default
+    @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+    private Executor asyncExecutor = ForkJoinPool.commonPool();
+
     /**
      * Varsayılan ayarlarla boş bir options nesnesi döndürür.
      */
     public static BenthShieldOptions defaults() {
         return BenthShieldOptions.builder().build();
     }
+
+    /**
+     * Devresi açık (bkz. {@link #circuitBreakerEnabled}) bir hook'un kontrol sorgularında nasıl temsil edileceğini tanımlar.
+     * Bölge bilgisi ve sınır sorgularında hook her durumda atlanır.
+     */
+    public enum BreakerFallback {
+        /**
+         * Hook izin vermiş sayılır. Diğer hook'ların kararları normal şekilde önbelleğe alınır.
+         */
+        ALLOW,
+
+        /**
+         * Hook reddetmiş sayılır. Korumanın açık kalmasının erişilebilirlikten önemli olduğu sunucular içindir.
+         * Devre açıkken verilen kararlar önbelleğe alınmaz.
+         */
+        DENY,
+
+        /**
+         * Hook yok sayılır ve karar diğer hook'lara bırakılır. Devre açıkken verilen kararlar önbelleğe alınmaz;
+         * böylece hook düzeldiğinde kararlar hemen yeniden değerlendirilir.
+         */
+        SKIP
+    }
+
+    /**
+     * Hazır izin kararı önbelleği arka uçlarını tanımlar.
+     */
+    public enum CacheBackend {
+        /**
+         * İlkel dizilere dayalı, açık adresli sabit kapasiteli tablo. Önbellek isabetlerinde hiç nesne oluşturmaz.
+         * Dolu bir yuva penceresinde süresi en erken dolacak kaydı çıkarır.
+         */
+        PRIMITIVE,
+
+        /**
+         * Guava {@code Cache}. Yaklaşık LRU politikası; segmentli kilitleme sayesinde yoğun eşzamanlı erişimde iyi ölçeklenir.
+         */
+        GUAVA,
+
+        /**
+         * W-TinyLFU (Caffeine tarzı) kabul politikası. Tek seferlik taramalara karşı dirençlidir; çalışma kümesi
+         * kapasiteden büyük olduğunda en yüksek isabet oranını sağlar.
+         */
+        TINY_LFU
+    }
+
+    /**
+     * Bölge bilgisi önbelleğinin anahtar çözünürlüğünü tanımlar.
+     */
+    public enum RegionInfoScope {
+        /**
+         * Her blok için ayrı bir kayıt tutulur. Sınırları bloğa göre çizilen tüm bölge eklentileriyle uyumludur.
+         */
+        BLOCK,
+
+        /**
+         * Her chunk için tek bir kayıt tutulur. Yalnızca tüm bölgeleri chunk sınırlarına hizalı olan eklentilerle
+         * (örn. Towny, Lands) kullanılmalıdır; aksi halde chunk içindeki ilk sorgunun sonucu tüm chunk'a uygulanır.
+         */
+        CHUNK
+    }
+
+    /**
+     * İzin kararı önbelleğinin anahtar kapsamını tanımlar.
+     */
+    public enum CacheScope {
+        /**
+         * Her blok koordinatı için ayrı bir kayıt tutulur. Tüm hook'larla uyumludur.
+         */
+        BLOCK,
+
+        /**
+         * Kararlar (oyuncu, bölge kümesi parmak izi, etkileşim türü) üçlüsüne göre tutulur.
+         * Madencilik, inşaat ve tarım gibi aynı bölgede çok sayıda bloğa dokunan iş yüklerinde
+         * hook çağrılarını büyük ölçüde azaltır.
+         */
+        REGION
+    }
 }
\ No newline at end of file
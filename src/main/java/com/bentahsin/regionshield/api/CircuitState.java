@@ -0,0 +1,21 @@
+package com.bentahsin.regionshield.api;
+
+/**
+ * Bir hook'un devre kesicisinin (circuit breaker) durumunu tanımlar.
+ */
+public enum CircuitState {
+    /**
+     * Hook normal şekilde çağrılıyor.
+     */
+    CLOSED,
+
+    /**
+     * Hook hata veya gecikme eşiğini aştı; bekleme süresi boyunca hiç çağrılmaz ve yedek karar kullanılır.
+     */
+    OPEN,
+
+    /**
+     * Bekleme süresi doldu; hook'un düzelip düzelmediğini anlamak için tek bir deneme çağrısına izin verilir.
+     */
+    HALF_OPEN
+}
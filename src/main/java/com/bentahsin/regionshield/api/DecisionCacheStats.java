@@ -0,0 +1,56 @@
+package com.bentahsin.regionshield.api;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Bir {@link IDecisionCache} örneğinin istatistiklerinin değişmez (immutable) anlık görüntüsü.
+ * <p>
+ * Önbellek boyutunu çalışma kümesine göre ayarlamak için kullanılır: düşük isabet oranı ve yüksek çıkarma
+ * sayısı, önbelleğin çalışma kümesinden küçük olduğuna işaret eder.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class DecisionCacheStats {
+
+    /**
+     * Önbellekte bulunan (hit) sorgu sayısı.
+     */
+    private final long hitCount;
+
+    /**
+     * Önbellekte bulunamayan veya süresi dolmuş (miss) sorgu sayısı.
+     */
+    private final long missCount;
+
+    /**
+     * Kapasite yetersizliği nedeniyle süresi dolmadan önbellekten çıkarılan kayıt sayısı.
+     */
+    private final long evictionCount;
+
+    /**
+     * Önbellekteki yaklaşık kayıt sayısı (süresi dolmuş ancak henüz temizlenmemiş kayıtlar dahil olabilir).
+     */
+    private final long size;
+
+    /**
+     * Toplam sorgu sayısını döndürür.
+     *
+     * @return İsabet ve ıskalama sayılarının toplamı.
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * İsabet oranını döndürür.
+     *
+     * @return 0.0 ile 1.0 arasında isabet oranı. Hiç sorgu yapılmadıysa 1.0.
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,122 @@
+package com.bentahsin.regionshield.api;
+
+import com.bentahsin.regionshield.model.InteractionType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Bir {@link IShieldHook}'un yeteneklerini ve önbellekleme tercihlerini tanımlayan değişmez (immutable) üst veri nesnesi.
+ * <p>
+ * Dağıtıcı (dispatcher) bu bilgileri hook kaydedilirken bir kez okur ve her etkileşim türü için hangi hook'ların
+ * sorgulanacağını ve kararın önbellekte ne kadar kalacağını önceden hesaplar. Bu nedenle
+ * {@link IShieldHook#getCapabilities()} her çağrıda aynı değeri döndürmelidir.
+ * <p>
+ * Örnek:
+ * <pre>{@code
+ * return HookCapabilities.builder()
+ *         .cacheTtlTicks(40)
+ *         .evaluatedTypes(EnumSet.complementOf(EnumSet.of(InteractionType.PVP)))
+ *         .uncacheableTypes(EnumSet.of(InteractionType.MOB_DAMAGE))
+ *         .build();
+ * }</pre>
+ */
+@Getter
+@ToString
+public class HookCapabilities {
+
+    /**
+     * Hook'un global önbellek süresini kullanmak istediğini belirten değer.
+     */
+    public static final int DEFAULT_TTL = -1;
+
+    private static final HookCapabilities DEFAULTS = HookCapabilities.builder().build();
+
+    /**
+     * Hook'un ana thread dışından güvenle çağrılıp çağrılamayacağı. Asenkron API, thread-safe hook'ları
+     * yapılandırılan executor üzerinde çalıştırır; diğerlerini ana thread'e taşır.
+     */
+    private final boolean threadSafe;
+
+    /**
+     * Hook'un kararlarının önbelleğe alınabilir olup olmadığı. {@code false} ise, bu hook'un sorgulandığı
+     * hiçbir karar önbelleğe yazılmaz. Yalnızca bazı türler anlık duruma bağlıysa {@link #uncacheableTypes}
+     * tercih edilmelidir.
+     */
+    private final boolean cacheable;
+
+    /**
+     * Hook'un kararları için önerilen önbellek süresi (tick). {@link #DEFAULT_TTL} ise global süre kullanılır.
+     * Bir kararın süresi, o karar için sorgulanan hook'ların en kısa süresidir.
+     */
+    private final int cacheTtlTicks;
+
+    /**
+     * Hook'un gerçekten değerlendirdiği etkileşim türleri. Bu kümede olmayan türler için hook hiç sorgulanmaz.
+     */
+    private final Set<InteractionType> evaluatedTypes;
+
+    /**
+     * Kararları hiç önbelleğe alınmayan etkileşim türleri (örn. savaş zamanına bağlı Towny PvP kararları). Bu
+     * türlerde hook'un sorgulandığı kararlar önbelleğe yazılmaz; diğer türler {@link #cacheTtlTicks} süresini
+     * kullanır.
+     */
+    private final Set<InteractionType> uncacheableTypes;
+
+    /**
+     * Yeni bir yetenek tanımı oluşturur. Genellikle Lombok'un @Builder'ı ile kullanılır.
+     *
+     * @param threadSafe       Hook'un thread-safe olup olmadığı. Belirtilmezse {@code false}.
+     * @param cacheable        Kararların önbelleğe alınabilir olup olmadığı. Belirtilmezse {@code true}.
+     * @param cacheTtlTicks    Önerilen önbellek süresi (tick). Belirtilmezse {@link #DEFAULT_TTL}.
+     * @param evaluatedTypes   Değerlendirilen etkileşim türleri. Belirtilmezse tüm türler.
+     * @param uncacheableTypes Kararları önbelleğe alınmayan etkileşim türleri. Belirtilmezse hiçbiri.
+     */
+    @Builder
+    public HookCapabilities(Boolean threadSafe, Boolean cacheable, Integer cacheTtlTicks, Set<InteractionType> evaluatedTypes,
+                            Set<InteractionType> uncacheableTypes) {
+        this.threadSafe = threadSafe != null && threadSafe;
+        this.cacheable = cacheable == null || cacheable;
+        this.cacheTtlTicks = cacheTtlTicks != null ? cacheTtlTicks : DEFAULT_TTL;
+        this.evaluatedTypes = evaluatedTypes == null || evaluatedTypes.isEmpty()
+                ? Collections.unmodifiableSet(EnumSet.allOf(InteractionType.class))
+                : Collections.unmodifiableSet(EnumSet.copyOf(evaluatedTypes));
+        this.uncacheableTypes = uncacheableTypes == null || uncacheableTypes.isEmpty()
+                ? Collections.unmodifiableSet(EnumSet.noneOf(InteractionType.class))
+                : Collections.unmodifiableSet(EnumSet.copyOf(uncacheableTypes));
+    }
+
+    /**
+     * Hiçbir özel yetenek bildirmeyen hook'lar için varsayılan tanımı döndürür:
+     * thread-safe değil, önbelleğe alınabilir, global süre ve tüm etkileşim türleri.
+     *
+     * @return Paylaşılan varsayılan yetenek tanımı.
+     */
+    public static HookCapabilities defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Hook'un verilen etkileşim türünü değerlendirip değerlendirmediğini döndürür.
+     *
+     * @param type Etkileşim türü.
+     * @return Tür değerlendiriliyorsa {@code true}.
+     */
+    public boolean evaluates(InteractionType type) {
+        return evaluatedTypes.contains(type);
+    }
+
+    /**
+     * Hook'un verilen etkileşim türündeki kararlarının önbelleğe alınıp alınamayacağını döndürür.
+     *
+     * @param type Etkileşim türü.
+     * @return Hook önbelleğe alınabilirse ve tür {@link #uncacheableTypes} içinde değilse {@code true}.
+     */
+    public boolean isCacheable(InteractionType type) {
+        return cacheable && !uncacheableTypes.contains(type);
+    }
+}
@@ -0,0 +1,111 @@
+package com.bentahsin.regionshield.api;
+
+import com.bentahsin.regionshield.model.InteractionType;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Tek bir hook'un tek bir çağrı türü (ve {@link HookOperation#CHECK} için tek bir etkileşim türü) için biriktirdiği
+ * metriklerin değişmez (immutable) anlık görüntüsü.
+ * <p>
+ * Gecikmeler sabit, logaritmik kovalardan (bucket) oluşan bir histogramda tutulur: {@code i}. kova
+ * {@code [2^(i-1), 2^i)} nanosaniye aralığındaki çağrıları sayar. Bu yüzden yüzdelik değerler, ilgili kovanın
+ * üst sınırı olarak (en fazla 2 kat hata payıyla) raporlanır.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class HookMetrics {
+
+    /**
+     * Hook'un adı.
+     */
+    private final String hookName;
+
+    /**
+     * Çağrı türü.
+     */
+    private final HookOperation operation;
+
+    /**
+     * Etkileşim türü. Yalnızca {@link HookOperation#CHECK} için dolu, diğer çağrı türlerinde {@code null}.
+     */
+    private final InteractionType type;
+
+    /**
+     * İzin veren kontrol sayısı. Bölge sorgularında başarıyla tamamlanan çağrı sayısı.
+     */
+    private final long allowCount;
+
+    /**
+     * Reddeden kontrol sayısı. Bölge sorgularında her zaman 0.
+     */
+    private final long denyCount;
+
+    /**
+     * İstisna fırlatan çağrı sayısı.
+     */
+    private final long errorCount;
+
+    /**
+     * Tüm çağrıların toplam süresi (nanosaniye).
+     */
+    private final long totalNanos;
+
+    /**
+     * Logaritmik gecikme histogramının kova sayaçları.
+     */
+    private final long[] latencyBuckets;
+
+    /**
+     * Toplam çağrı sayısını döndürür.
+     *
+     * @return İzin, red ve hata sayılarının toplamı.
+     */
+    public long count() {
+        return allowCount + denyCount + errorCount;
+    }
+
+    /**
+     * Ortalama çağrı süresini döndürür.
+     *
+     * @return Ortalama süre (nanosaniye). Hiç çağrı yoksa 0.
+     */
+    public double meanNanos() {
+        long count = count();
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Verilen yüzdelik dilimin yaklaşık değerini döndürür.
+     *
+     * @param percentile 0.0 ile 1.0 arasında yüzdelik (örn. p99 için 0.99).
+     * @return Yüzdelik dilimin düştüğü kovanın üst sınırı (nanosaniye). Hiç çağrı yoksa 0.
+     */
+    public long percentileNanos(double percentile) {
+        long total = 0;
+        for (long bucket : latencyBuckets) total += bucket;
+        if (total == 0) return 0L;
+
+        long rank = (long) Math.ceil(Math.max(0.0, Math.min(1.0, percentile)) * total);
+        long seen = 0;
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            seen += latencyBuckets[i];
+            if (seen >= rank && seen > 0) return bucketUpperBoundNanos(i);
+        }
+        return bucketUpperBoundNanos(latencyBuckets.length - 1);
+    }
+
+    /**
+     * Bir histogram kovasının üst sınırını döndürür.
+     *
+     * @param bucket Kova indeksi.
+     * @return Kovanın kapsadığı en büyük süre (nanosaniye, hariç).
+     */
+    public static long bucketUpperBoundNanos(int bucket) {
+        return 1L << bucket;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bentahsin.regionshield.api;
+
+/**
+ * Metrikleri tutulan {@link IShieldHook} çağrı türlerini tanımlar.
+ */
+public enum HookOperation {
+    /**
+     * {@link IShieldHook#check} ve {@link IBatchShieldHook#checkBatch} çağrıları. Etkileşim türüne göre ayrı tutulur.
+     */
+    CHECK,
+
+    /**
+     * {@link IShieldHook#getRegionInfo} çağrıları.
+     */
+    REGION_INFO,
+
+    /**
+     * {@link IShieldHook#getRegionBounds} çağrıları.
+     */
+    REGION_BOUNDS,
+
+    /**
+     * {@link IShieldHook#getRegionSnapshot} çağrıları.
+     */
+    SNAPSHOT
+}
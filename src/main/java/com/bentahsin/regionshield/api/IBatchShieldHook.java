@@ -0,0 +1,35 @@
+package com.bentahsin.regionshield.api;
+
+import com.bentahsin.regionshield.model.InteractionType;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Birden çok konumu tek seferde değerlendirebilen hook'lar için isteğe bağlı toplu (bulk) kontrol arayüzü.
+ * <p>
+ * Damar madenciliği (vein-miner), ağaç kesici veya alan araçları gibi tek bir eylemde yüzlerce bloğa dokunan
+ * eklentiler {@code BenthRegionShield#checkBatch} metodunu kullanır. Bu arayüzü uygulayan hook'lar bölgeleri
+ * her blok için ayrı ayrı değil, chunk veya bölge başına bir kez çözümleyerek toplam maliyeti düşürebilir.
+ * <p>
+ * Bu arayüzü uygulamayan hook'lar için RegionShield otomatik olarak {@link #check(Player, Location, InteractionType)}
+ * metodunu her konum için ayrı ayrı çağırır.
+ */
+public interface IBatchShieldHook extends IShieldHook {
+
+    /**
+     * Verilen tüm konumlar için izin kontrolünü tek seferde gerçekleştirir.
+     * <p>
+     * Uygulama, {@code i}. konumda eylemi reddediyorsa {@code denied} kümesinin {@code i}. bitini set etmelidir.
+     * Çağrı öncesinde zaten set edilmiş bitler (daha yüksek öncelikli bir hook tarafından reddedilmiş konumlar)
+     * atlanabilir. İzin verilen konumlar için bitlere dokunulmamalıdır.
+     *
+     * @param player    İşlemi yapan oyuncu.
+     * @param locations Kontrol edilecek konumlar. Farklı dünyalarda olabilirler.
+     * @param type      Gerçekleştirilen etkileşim türü.
+     * @param denied    Reddedilen konumların indekslerinin işaretleneceği bit kümesi.
+     */
+    void checkBatch(Player player, List<Location> locations, InteractionType type, BitSet denied);
+}
@@ -0,0 +1,70 @@
+package com.bentahsin.regionshield.api;
+
+/**
+ * İzin kararı önbelleği için servis sağlayıcı arayüzü (SPI).
+ * <p>
+ * RegionShield varsayılan olarak birkaç hazır arka uç (backend) sunar; bunlardan biri
+ * {@code BenthShieldOptions#getCacheBackend()} ile seçilebilir. Farklı bir önbellek kullanmak isteyen geliştiriciler
+ * bu arayüzü uygulayıp {@code BenthShieldOptions#getCacheFactory()} ile sağlayabilir.
+ * <p>
+ * Bir kayıt iki {@code long} değer ile tanımlanır: paketlenmiş konum (veya bölge parmak izi) anahtarı ve
+ * oyuncu, dünya ve etkileşim türünü içeren bağlam anahtarı. Süreler duvar saati yerine sunucu tick'i ile ifade edilir.
+ * <p>
+ * Uygulamalar <b>thread-safe</b> olmalıdır; asenkron API önbelleği ana thread dışından da kullanır.
+ */
+public interface IDecisionCache {
+
+    /**
+     * Önbellekte süresi dolmamış bir karar varsa onu döndürür.
+     *
+     * @param key     Konum anahtarı.
+     * @param context Bağlam anahtarı.
+     * @param now     Mevcut tick değeri.
+     * @return Geçerli karar veya yoksa {@code null}.
+     */
+    ShieldResponse get(long key, long context, int now);
+
+    /**
+     * Bir kararı önbelleğe yazar. Aynı anahtara sahip bir kayıt varsa üzerine yazılır.
+     *
+     * @param key       Konum anahtarı.
+     * @param context   Bağlam anahtarı.
+     * @param value     Saklanacak karar.
+     * @param now       Mevcut tick değeri.
+     * @param expiresAt Kaydın geçersiz sayılacağı tick değeri.
+     */
+    void put(long key, long context, ShieldResponse value, int now, int expiresAt);
+
+    /**
+     * Verilen filtreyle eşleşen tüm kayıtları siler.
+     *
+     * @param filter Silinecek kayıtları seçen filtre.
+     */
+    void invalidateIf(EntryFilter filter);
+
+    /**
+     * Önbellekteki tüm kayıtları siler.
+     */
+    void invalidateAll();
+
+    /**
+     * Önbelleğin oluşturulmasından bu yana biriken isabet, ıskalama ve çıkarma istatistiklerini döndürür.
+     *
+     * @return İstatistiklerin anlık görüntüsü.
+     */
+    DecisionCacheStats stats();
+
+    /**
+     * Toplu silme işlemlerinde kayıtları anahtarlarına göre seçen filtre.
+     */
+    @FunctionalInterface
+    interface EntryFilter {
+
+        /**
+         * @param key     Kaydın konum anahtarı.
+         * @param context Kaydın bağlam anahtarı.
+         * @return Kayıt silinecekse {@code true}.
+         */
+        boolean test(long key, long context);
+    }
+}
@@ -0,0 +1,58 @@
+package com.bentahsin.regionshield.api;
+
+import org.bukkit.World;
+
+import java.util.UUID;
+
+/**
+ * Bölge veya claim değişikliklerini RegionShield'a bildirmek için kullanılan geçersiz kılma (invalidation) arayüzü.
+ * <p>
+ * Hook'lar bu arayüzü {@link IShieldHook#onRegister(org.bukkit.plugin.Plugin, IRegionInvalidator)} ile alır ve
+ * entegre ettikleri eklentinin değişiklik olaylarını (bölge kaydı, claim düzenlemesi, üye ekleme vb.) buraya iletir.
+ * RegionShield yalnızca etkilenen önbellek kayıtlarını siler; böylece önbellek süreleri güvenle uzatılabilir.
+ * <p>
+ * Tüm metotlar herhangi bir thread'den çağrılabilir.
+ */
+public interface IRegionInvalidator {
+
+    /**
+     * Tüm önbelleklenmiş kararları ve bölge verilerini geçersiz kılar. Değişikliğin kapsamı bilinmiyorsa kullanılır.
+     */
+    void invalidateAll();
+
+    /**
+     * Verilen dünyaya ait tüm önbelleklenmiş kararları ve bölge verilerini geçersiz kılar.
+     *
+     * @param world Değişikliğin olduğu dünya.
+     */
+    void invalidateWorld(World world);
+
+    /**
+     * Verilen blok alanıyla kesişen önbelleklenmiş kararları ve bölge verilerini geçersiz kılar.
+     * Alan, dünyanın tüm yüksekliği boyunca kabul edilir.
+     *
+     * @param world Değişikliğin olduğu dünya.
+     * @param minX  Alanın en küçük X blok koordinatı.
+     * @param minZ  Alanın en küçük Z blok koordinatı.
+     * @param maxX  Alanın en büyük X blok koordinatı.
+     * @param maxZ  Alanın en büyük Z blok koordinatı.
+     */
+    void invalidateArea(World world, int minX, int minZ, int maxX, int maxZ);
+
+    /**
+     * Verilen oyuncuya ait tüm önbelleklenmiş kararları geçersiz kılar (örn. oyuncu bir bölgeye üye olarak eklendiğinde).
+     *
+     * @param playerId Oyuncunun UUID'si.
+     */
+    void invalidatePlayer(UUID playerId);
+
+    /**
+     * RegionShield'ın tick sayacını döndürür. Hook'lar, tick içi sorgu hafızalarını kendi zamanlayıcı görevlerini
+     * başlatmadan bu değere bağlayabilir.
+     * <p>
+     * Değer taşabilir; karşılaştırmalar eşitlik veya fark ({@code a - b > 0}) üzerinden yapılmalıdır.
+     *
+     * @return Mevcut tick değeri.
+     */
+    int currentTick();
+}
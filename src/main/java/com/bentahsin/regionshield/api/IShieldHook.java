@@ -1,10 +1,18 @@
 package com.bentahsin.regionshield.api;
 
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
 import com.bentahsin.regionshield.model.RegionBounds;
 import com.bentahsin.regionshield.model.RegionInfo;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * BenthRegionShield API'si ile diğer bölge koruma eklentileri arasında bir köprü (entegrasyon)
@@ -16,6 +24,12 @@ import org.bukkit.entity.Player;
  */
 public interface IShieldHook {
 
+    /**
+     * {@link #getRegionFingerprint(Location)} tarafından, hook'un o konum için bir parmak izi
+     * sağlayamadığını belirtmek amacıyla döndürülen değer.
+     */
+    long NO_FINGERPRINT = Long.MIN_VALUE;
+
     /**
      * Hook'un (entegrasyonun) benzersiz ve insan tarafından okunabilir adını döndürür.
      * Bu ad, genellikle entegre edilen eklentinin adıdır ve loglarda, mesajlarda
@@ -92,4 +106,115 @@ public interface IShieldHook {
     default RegionBounds getRegionBounds(Location location) {
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Konumdaki bölgeyi bir kez arayıp, istenen etkileşim türleri için kararları, bölge bilgisini ve bölge
+     * sınırlarını tek bir {@link RegionSnapshot} olarak döndürür.
+     * <p>
+     * Varsayılan uygulama {@link #check}, {@link #getRegionInfo} ve {@link #getRegionBounds} metotlarını ayrı ayrı
+     * çağırır. Bölgeyi (claim, kasaba, arazi vb.) bulmak pahalı olan hook'lar bu metodu, aramayı bir kez yapıp üç
+     * sonucu aynı bölgeden çıkaracak şekilde geçersiz kılmalıdır. Sonuçlar üç metodun ayrı ayrı döndüreceği
+     * sonuçlarla aynı olmalıdır.
+     *
+     * @param player   Kararların verileceği oyuncu; {@code null} ise hiçbir karar değerlendirilmez.
+     * @param location Sorgulanan konum.
+     * @param types    Karar istenen etkileşim türleri; boş olabilir.
+     * @return Konumun anlık görüntüsü; asla {@code null} değildir.
+     */
+    default RegionSnapshot getRegionSnapshot(Player player, Location location, Set<InteractionType> types) {
+        Map<InteractionType, ShieldResponse> decisions = new EnumMap<>(InteractionType.class);
+        if (player != null) {
+            for (InteractionType type : types) {
+                decisions.put(type, check(player, location, type));
+            }
+        }
+        return new RegionSnapshot(getRegionInfo(location), getRegionBounds(location), decisions);
+    }
+
+    /**
+     * Verilen dünyadaki tüm bölgeleri, sınır kutularıyla birlikte döndürür.
+     * <p>
+     * {@link com.bentahsin.regionshield.BenthRegionShield#queryRegions} alan sorguları, tüm hook'ların sonuçlarını
+     * dünya başına tek bir uzamsal indekste birleştirir. İndeks dünya ilk sorgulandığında bir kez oluşturulur ve
+     * {@link IRegionInvalidator} ile geçersiz kılınana kadar saklanır; bu yüzden metot pahalı olabilir, ancak
+     * bölgeler değiştiğinde hook'un bunu bildirmesi gerekir. Ana thread üzerinden çağrılır.
+     * <p>
+     * Chunk tabanlı eklentiler her chunk için ayrı bir alan döndürebilir; aynı bölgenin alanları aynı
+     * {@link RegionInfo} örneğini paylaşmalıdır.
+     *
+     * @param world Bölgeleri istenen dünya.
+     * @return Dünyadaki bölgeler veya hook bölgelerini listeleyemiyorsa {@code null} (varsayılan). Bu durumda
+     *         hook'un bölgeleri alan sorgularında yer almaz.
+     */
+    default Collection<RegionArea> getRegionAreas(World world) {
+        return null;
+    }
+
+    /**
+     * Verilen konumdaki bölge kümesini temsil eden kararlı bir parmak izi (fingerprint) döndürür.
+     * <p>
+     * Bu metot, {@link com.bentahsin.regionshield.BenthShieldOptions.CacheScope#REGION} önbellek modunda
+     * kullanılır. Aynı dünyada aynı parmak izine sahip iki konum için {@link #check(Player, Location, InteractionType)}
+     * metodu <u>her oyuncu ve her etkileşim türü için</u> aynı sonucu döndürmelidir. Örneğin kararları bloğun
+     * türüne (Material) bağlı olan hook'lar bu metodu uygulamamalıdır.
+     * <p>
+     * Konumda hiçbir bölge yoksa da sabit bir değer döndürülmelidir (vahşi doğa da bir "bölge kümesidir").
+     * Bu metodu geçersiz kılmayan bir hook kayıtlıyken parmak izi hesaplaması tamamen atlanır.
+     *
+     * @param location Parmak izi alınacak konum.
+     * @return Bölge kümesinin parmak izi veya bu özellik desteklenmiyorsa {@link #NO_FINGERPRINT}.
+     */
+    default long getRegionFingerprint(Location location) {
+        return NO_FINGERPRINT;
+    }
+
+    /**
+     * Verilen chunk sütununda (dünyanın tüm yüksekliği boyunca) bu hook'a ait hiçbir bölge veya claim
+     * bulunmadığını ve dolayısıyla chunk içindeki tüm sorgulara "izin ver" ve "bölge yok" yanıtı verileceğini bildirir.
+     * <p>
+     * Bu metot, {@link com.bentahsin.regionshield.BenthShieldOptions#isChunkIndexEnabled()} açıkken chunk yüklendiğinde
+     * çağrılır. {@link HookCapabilities#isThreadSafe()} bildiren hook'lar <b>asenkron bir thread üzerinden</b> sorulur
+     * ve yalnızca eşzamanlı okumaya dayanıklı veri yapılarını okumalıdır; diğer hook'lar ana thread'de sorulur. Emin olunamayan her durumda (vahşi doğa kuralları, hatalar, desteklenmeyen sürümler) {@code false}
+     * döndürülmelidir; {@code true} yanıtı hook'un o chunk için hiç sorgulanmamasına yol açar.
+     *
+     * @param world  Chunk'ın bulunduğu dünya.
+     * @param chunkX Chunk'ın X koordinatı.
+     * @param chunkZ Chunk'ın Z koordinatı.
+     * @return Chunk'ta bu hook için hiçbir bölge yoksa {@code true}. Varsayılan olarak {@code false}.
+     */
+    default boolean isChunkEmpty(World world, int chunkX, int chunkZ) {
+        return false;
+    }
+
+    /**
+     * Bu hook'un yeteneklerini ve önbellekleme tercihlerini döndürür: thread güvenliği, kararların önbelleğe
+     * alınabilirliği, önerilen önbellek süresi ve gerçekten değerlendirilen etkileşim türleri.
+     * <p>
+     * Değer hook kaydedilirken bir kez okunur; bu yüzden her çağrıda aynı sonucu döndürmelidir.
+     *
+     * @return Hook'un yetenek tanımı. Varsayılan olarak {@link HookCapabilities#defaults()}.
+     */
+    default HookCapabilities getCapabilities() {
+        return HookCapabilities.defaults();
+    }
+
+    /**
+     * Hook başarıyla kaydedildikten hemen sonra çağrılır.
+     * <p>
+     * Entegre edilen eklenti bölge veya claim değişiklikleri için olay (event) sunuyorsa, hook bu olayları burada
+     * dinlemeye başlamalı ve her değişikliği verilen {@link IRegionInvalidator}'a bildirmelidir. Böylece RegionShield
+     * yalnızca etkilenen önbellek kayıtlarını siler ve önbellek süreleri güvenle uzatılabilir.
+     *
+     * @param plugin      RegionShield'ı kullanan ana eklenti; olay dinleyicileri ve görevler bu eklenti adına kaydedilmelidir.
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     */
+    default void onRegister(Plugin plugin, IRegionInvalidator invalidator) {
+    }
+
+    /**
+     * Hook kayıttan kaldırıldığında çağrılır. {@link #onRegister(Plugin, IRegionInvalidator)} içinde kaydedilen
+     * dinleyiciler ve zamanlanmış görevler burada kapatılmalıdır.
+     */
+    default void onUnregister() {
+    }
+}
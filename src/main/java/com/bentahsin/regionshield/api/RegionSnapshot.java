@@ -0,0 +1,97 @@
+package com.bentahsin.regionshield.api;
+
+import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionBounds;
+import com.bentahsin.regionshield.model.RegionInfo;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * Bir konum için tek bir bölge aramasından elde edilen birleşik sonuç: istenen etkileşim türleri için kararlar,
+ * bölge bilgisi ({@link RegionInfo}) ve bölge sınırları ({@link RegionBounds}).
+ * <p>
+ * {@link IShieldHook#getRegionSnapshot} ile üretilir. Konumdaki bölgeyi (claim, kasaba, arazi) bir kez bulup
+ * {@code check}, {@code getRegionInfo} ve {@code getRegionBounds} sonuçlarını aynı aramadan çıkaran hook'lar,
+ * üç ayrı sorgu yerine tek bir sorguyla yanıt verebilir.
+ * <p>
+ * Sınıf değişmezdir (immutable).
+ */
+@Getter
+@ToString
+@SuppressFBWarnings({"EI_EXPOSE_REP"})
+public final class RegionSnapshot {
+
+    private static final InteractionType[] TYPES = InteractionType.values();
+    private static final RegionSnapshot EMPTY = new RegionSnapshot(null, null, Map.of());
+
+    /**
+     * Konumdaki bölgenin bilgisi; bölge yoksa {@code null}.
+     */
+    private final RegionInfo info;
+
+    /**
+     * Konumdaki bölgenin sınırları; bölge yoksa veya sınır desteklenmiyorsa {@code null}.
+     */
+    private final RegionBounds bounds;
+
+    /**
+     * Etkileşim türünün sırasına ({@code ordinal}) göre kararlar; değerlendirilmeyen türler için {@code null}.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final ShieldResponse[] decisions;
+
+    /**
+     * Yeni bir anlık görüntü oluşturur.
+     *
+     * @param info      Bölge bilgisi veya bölge yoksa {@code null}.
+     * @param bounds    Bölge sınırları veya yoksa {@code null}.
+     * @param decisions Değerlendirilen etkileşim türleri için kararlar. {@code null} değerler yok sayılır.
+     */
+    public RegionSnapshot(RegionInfo info, RegionBounds bounds, Map<InteractionType, ShieldResponse> decisions) {
+        this.info = info;
+        this.bounds = bounds;
+        this.decisions = new ShieldResponse[TYPES.length];
+        if (decisions != null) {
+            decisions.forEach((type, response) -> this.decisions[type.ordinal()] = response);
+        }
+    }
+
+    /**
+     * @return Bölgesi, sınırı ve kararı olmayan paylaşılan boş anlık görüntü.
+     */
+    public static RegionSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Bir etkileşim türü için verilen kararı döndürür.
+     *
+     * @param type Etkileşim türü.
+     * @return Karar veya bu tür değerlendirilmediyse {@code null}.
+     */
+    public ShieldResponse getDecision(InteractionType type) {
+        return decisions[type.ordinal()];
+    }
+
+    /**
+     * @param type Etkileşim türü.
+     * @return Bu tür için bir karar varsa {@code true}.
+     */
+    public boolean isEvaluated(InteractionType type) {
+        return decisions[type.ordinal()] != null;
+    }
+
+    /**
+     * @param type Etkileşim türü.
+     * @return Bu tür değerlendirildiyse ve reddedildiyse {@code true}.
+     */
+    public boolean isDenied(InteractionType type) {
+        ShieldResponse response = decisions[type.ordinal()];
+        return response != null && response.isDenied();
+    }
+}
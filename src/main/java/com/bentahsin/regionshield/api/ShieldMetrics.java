@@ -0,0 +1,67 @@
+package com.bentahsin.regionshield.api;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tüm hook'ların metriklerinin değişmez (immutable) anlık görüntüsü.
+ * <p>
+ * Hangi hook'un ana thread süresini tükettiğini bulmak için {@link #totalNanosByHook()} kullanılabilir;
+ * ayrıntılı gecikme dağılımı için {@link #forHook(String)} ile dönen kayıtların histogramlarına bakılabilir.
+ */
+@Getter
+@ToString
+public class ShieldMetrics {
+
+    /**
+     * Sıfırdan farklı en az bir çağrısı olan tüm metrik kayıtları.
+     */
+    private final List<HookMetrics> entries;
+
+    /**
+     * Yeni bir anlık görüntü oluşturur.
+     *
+     * @param entries Metrik kayıtları.
+     */
+    public ShieldMetrics(List<HookMetrics> entries) {
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * Verilen hook'a ait metrik kayıtlarını döndürür.
+     *
+     * @param hookName Hook'un adı (büyük/küçük harf duyarsız).
+     * @return Hook'a ait kayıtlar. Hook bulunamazsa boş liste.
+     */
+    public List<HookMetrics> forHook(String hookName) {
+        List<HookMetrics> result = new ArrayList<>();
+        for (HookMetrics entry : entries) {
+            if (entry.getHookName().equalsIgnoreCase(hookName)) result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * Her hook'un tüm çağrı türlerinde harcadığı toplam süreyi, en yüksekten en düşüğe sıralı olarak döndürür.
+     *
+     * @return Hook adından toplam süreye (nanosaniye) sıralı harita.
+     */
+    public Map<String, Long> totalNanosByHook() {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (HookMetrics entry : entries) {
+            totals.merge(entry.getHookName(), entry.getTotalNanos(), Long::sum);
+        }
+
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        totals.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+}
@@ -1,19 +1,36 @@
 package com.bentahsin.regionshield.hooks.gp;
 
+import com.bentahsin.regionshield.api.HookCapabilities;
+import com.bentahsin.regionshield.api.IRegionInvalidator;
 import com.bentahsin.regionshield.api.IShieldHook;
+import com.bentahsin.regionshield.api.RegionSnapshot;
 import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.internal.FieldAccessor;
+import com.bentahsin.regionshield.internal.HookEventBridge;
+import com.bentahsin.regionshield.internal.MethodInvoker;
 import com.bentahsin.regionshield.internal.ReflectionUtils;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
 import com.bentahsin.regionshield.model.RegionBounds;
 import com.bentahsin.regionshield.model.RegionInfo;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * GriefPrevention eklentisi için "güvenli" bir entegrasyon (hook) sağlar.
@@ -28,16 +45,70 @@ import java.util.UUID;
  */
 public class GriefPreventionHook implements IShieldHook {
 
+    private static final HookCapabilities CAPABILITIES = HookCapabilities.builder()
+            .evaluatedTypes(EnumSet.complementOf(EnumSet.of(InteractionType.PVP)))
+            .build();
+
+    /**
+     * Claim'lerin oluşturulması, silinmesi, yeniden boyutlandırılması, devri ve güven değişiklikleri için
+     * GriefPrevention'ın farklı sürümlerinde kullanılan olay sınıfları.
+     */
+    private static final String[] CLAIM_EVENTS = {
+            "me.ryanhamshire.GriefPrevention.events.ClaimCreatedEvent",
+            "me.ryanhamshire.GriefPrevention.events.ClaimDeletedEvent",
+            "me.ryanhamshire.GriefPrevention.events.ClaimResizeEvent",
+            "me.ryanhamshire.GriefPrevention.events.ClaimModifiedEvent",
+            "me.ryanhamshire.GriefPrevention.events.ClaimExtendEvent",
+            "me.ryanhamshire.GriefPrevention.events.ClaimTransferEvent",
+            "me.ryanhamshire.GriefPrevention.events.TrustChangedEvent"
+    };
+
+    /**
+     * Olay nesnelerinden etkilenen claim'leri okumak için denenen metotlar (eski ve yeni claim dahil).
+     */
+    private static final String[] CLAIM_ACCESSORS = {"getClaim", "getFrom", "getTo"};
+
+    /**
+     * Claim'in, UUID'leri String olarak tutan güven listesi alanları.
+     */
+    private static final String[] TRUST_FIELDS = {"builders", "containers", "accessors", "managers"};
+
     private Object dataStore;
+    private HookEventBridge events;
+
+    private MethodInvoker getClaimMethod;
+    private MethodInvoker getChunkClaimsMethod;
+    private MethodInvoker getAllClaimsMethod;
+    private MethodInvoker getClaimByIdMethod;
+    private MethodInvoker allowBuildMethod;
+    private MethodInvoker allowAccessMethod;
+    private MethodInvoker allowContainersMethod;
+
+    private MethodInvoker getIDMethod;
+    private MethodInvoker getLesserBoundaryCorner;
+    private MethodInvoker getGreaterBoundaryCorner;
 
-    private Method getClaimMethod;
-    private Method allowBuildMethod;
-    private Method allowAccessMethod;
-    private Method allowContainersMethod;
+    private FieldAccessor ownerIdField;
+    private FieldAccessor inDataStoreField;
+    private FieldAccessor[] trustFields;
 
-    private Method getIDMethod;
-    private Method getLesserBoundaryCorner;
-    private Method getGreaterBoundaryCorner;
+    /**
+     * Her thread'in son claim sorgusu; bir sonraki sorguya ipucu olarak verilir.
+     */
+    private final ThreadLocal<ClaimLookup> lookups = ThreadLocal.withInitial(ClaimLookup::new);
+
+    /**
+     * Claim olaylarında ve kayıttan çıkarılırken artan sayaç. {@link ThreadLocal#remove()} yalnızca çağıran
+     * thread'i temizlediğinden, diğer thread'lerin sorguları bir sonraki erişimde bu sayaç değişmişse bırakılır.
+     */
+    private final AtomicInteger lookupEpoch = new AtomicInteger();
+
+    /**
+     * Son claim olayının tetiklendiği tick. Bu tick içinde hatırlanan sonuçlar kullanılmaz.
+     */
+    private volatile int claimEventTick = Integer.MIN_VALUE;
+
+    private IRegionInvalidator invalidator;
 
     private boolean initialized = false;
 
@@ -70,14 +141,24 @@ public class GriefPreventionHook implements IShieldHook {
             Object instance = ReflectionUtils.getField(gpClass, null, "instance");
             this.dataStore = ReflectionUtils.getField(gpClass, instance, "dataStore");
 
-            this.getClaimMethod = ReflectionUtils.getMethod(dataStoreClass, "getClaimAt", Location.class, boolean.class, claimClass);
-            this.allowBuildMethod = ReflectionUtils.getMethod(claimClass, "allowBuild", Player.class, Material.class);
-            this.allowAccessMethod = ReflectionUtils.getMethod(claimClass, "allowAccess", Player.class);
-            this.allowContainersMethod = ReflectionUtils.getMethod(claimClass, "allowContainers", Player.class);
-
-            this.getIDMethod = ReflectionUtils.getMethod(claimClass, "getID");
-            this.getLesserBoundaryCorner = ReflectionUtils.getMethod(claimClass, "getLesserBoundaryCorner");
-            this.getGreaterBoundaryCorner = ReflectionUtils.getMethod(claimClass, "getGreaterBoundaryCorner");
+            this.getClaimMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(dataStoreClass, "getClaimAt", Location.class, boolean.class, claimClass));
+            this.getChunkClaimsMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(dataStoreClass, "getClaims", int.class, int.class));
+            this.getAllClaimsMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(dataStoreClass, "getClaims"));
+            this.getClaimByIdMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(dataStoreClass, "getClaim", long.class));
+            this.allowBuildMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(claimClass, "allowBuild", Player.class, Material.class));
+            this.allowAccessMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(claimClass, "allowAccess", Player.class));
+            this.allowContainersMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(claimClass, "allowContainers", Player.class));
+
+            this.getIDMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(claimClass, "getID"));
+            this.getLesserBoundaryCorner = ReflectionUtils.compile(ReflectionUtils.getMethod(claimClass, "getLesserBoundaryCorner"));
+            this.getGreaterBoundaryCorner = ReflectionUtils.compile(ReflectionUtils.getMethod(claimClass, "getGreaterBoundaryCorner"));
+
+            this.ownerIdField = ReflectionUtils.fieldAccessor(claimClass, "ownerID");
+            this.inDataStoreField = ReflectionUtils.fieldAccessor(claimClass, "inDataStore");
+            this.trustFields = new FieldAccessor[TRUST_FIELDS.length];
+            for (int i = 0; i < TRUST_FIELDS.length; i++) {
+                trustFields[i] = ReflectionUtils.fieldAccessor(claimClass, TRUST_FIELDS[i]);
+            }
 
             this.initialized = dataStore != null && getClaimMethod != null && allowBuildMethod != null;
             return this.initialized;
@@ -102,34 +183,7 @@ public class GriefPreventionHook implements IShieldHook {
         if (!initialized) return ShieldResponse.allow();
 
         try {
-            Object claim = ReflectionUtils.invoke(getClaimMethod, dataStore, location, false, null);
-
-            if (claim == null) return ShieldResponse.allow();
-            String resultMessage;
-
-            switch (type) {
-                case BLOCK_BREAK:
-                case BLOCK_PLACE:
-                case BUCKET_USE:
-                case TRAMPLE:
-                case DAMAGE_ENTITY:
-                    resultMessage = (String) ReflectionUtils.invoke(allowBuildMethod, claim, player, location.getBlock().getType());
-                    break;
-                case CONTAINER_ACCESS:
-                case MOB_DAMAGE:
-                    resultMessage = (String) ReflectionUtils.invoke(allowContainersMethod, claim, player);
-                    break;
-                case INTERACT:
-                    resultMessage = (String) ReflectionUtils.invoke(allowAccessMethod, claim, player);
-                    break;
-                case PVP:
-                    return ShieldResponse.allow();
-                default:
-                    resultMessage = (String) ReflectionUtils.invoke(allowBuildMethod, claim, player, Material.AIR);
-            }
-
-            return resultMessage == null ? ShieldResponse.allow() : ShieldResponse.deny(getName());
-
+            return decide(claimAt(location), player, location, type);
         } catch (Exception e) {
             return ShieldResponse.allow();
         }
@@ -137,8 +191,8 @@ public class GriefPreventionHook implements IShieldHook {
 
     /**
      * Belirtilen konumdaki GriefPrevention alanı (claim) hakkında bilgi alır.
-     * Alanın sahibi ve çeşitli güven seviyelerindeki üyeleri almak için yansıtma ile
-     * Claim nesnesinin dahili alanlarına erişir.
+     * Alanın sahibi ve çeşitli güven seviyelerindeki üyeler, ancak ilk erişildiklerinde yansıtma ile
+     * Claim nesnesinin dahili alanlarından okunur; yalnızca ID'ye bakan sorgular listeleri hiç ayrıştırmaz.
      *
      * @param location Bilgi alınacak konum.
      * @return Konumda bir alan varsa bir {@link RegionInfo} nesnesi; aksi takdirde veya bir hata oluşursa null.
@@ -148,30 +202,7 @@ public class GriefPreventionHook implements IShieldHook {
         if (!initialized) return null;
 
         try {
-            Object claim = ReflectionUtils.invoke(getClaimMethod, dataStore, location, false, null);
-            if (claim == null) return null;
-
-            Long id = (Long) ReflectionUtils.invoke(getIDMethod, claim);
-
-            List<UUID> owners = new ArrayList<>();
-            UUID ownerID = (UUID) ReflectionUtils.getField(claim.getClass(), claim, "ownerID");
-            if (ownerID != null) {
-                owners.add(ownerID);
-            }
-
-            List<UUID> members = new ArrayList<>();
-            addMembersFromField(claim, "builders", members);
-            addMembersFromField(claim, "containers", members);
-            addMembersFromField(claim, "accessors", members);
-            addMembersFromField(claim, "managers", members);
-
-            return RegionInfo.builder()
-                    .id(id != null ? id.toString() : "Unknown")
-                    .provider(getName())
-                    .owners(owners)
-                    .members(members)
-                    .build();
-
+            return infoOf(claimAt(location));
         } catch (Exception e) {
             return null;
         }
@@ -188,35 +219,195 @@ public class GriefPreventionHook implements IShieldHook {
         if (!initialized) return null;
 
         try {
-            Object claim = ReflectionUtils.invoke(getClaimMethod, dataStore, location, false, null);
-            if (claim == null) return null;
+            return boundsOf(claimAt(location));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Konumdaki claim'i bir kez bulur; istenen türlerin kararlarını, claim bilgisini ve sınırlarını bu claim
+     * üzerinden hesaplar. Kararlar {@link #check} ile aynı kurallara uyar.
+     *
+     * @param player   Kararların verileceği oyuncu; {@code null} ise karar değerlendirilmez.
+     * @param location Sorgulanan konum.
+     * @param types    Karar istenen etkileşim türleri.
+     * @return Konumun anlık görüntüsü.
+     */
+    @Override
+    public RegionSnapshot getRegionSnapshot(Player player, Location location, Set<InteractionType> types) {
+        if (!initialized) return IShieldHook.super.getRegionSnapshot(player, location, types);
 
-            Location lesser = (Location) ReflectionUtils.invoke(getLesserBoundaryCorner, claim);
-            Location greater = (Location) ReflectionUtils.invoke(getGreaterBoundaryCorner, claim);
+        Object claim;
+        try {
+            claim = claimAt(location);
+        } catch (Exception e) {
+            claim = null;
+        }
 
-            if (lesser != null && greater != null) {
-                return new RegionBounds(lesser, greater);
+        Map<InteractionType, ShieldResponse> decisions = new EnumMap<>(InteractionType.class);
+        if (player != null) {
+            for (InteractionType type : types) {
+                ShieldResponse response;
+                try {
+                    response = decide(claim, player, location, type);
+                } catch (Exception e) {
+                    response = ShieldResponse.allow();
+                }
+                decisions.put(type, response);
             }
+        }
+
+        RegionInfo info = null;
+        RegionBounds bounds = null;
+        try {
+            info = infoOf(claim);
+        } catch (Exception ignored) {}
+        try {
+            bounds = boundsOf(claim);
+        } catch (Exception ignored) {}
+        return new RegionSnapshot(info, bounds, decisions);
+    }
+
+    /**
+     * Bulunmuş bir claim üzerinde izin kararını verir.
+     * GriefPrevention'ın izin metotları, izin verildiğinde {@code null}, verilmediğinde ise bir hata mesajı (String) döndürür.
+     *
+     * @param claim Konumdaki claim veya yoksa null.
+     * @return Karar; claim yoksa izin.
+     */
+    private ShieldResponse decide(Object claim, Player player, Location location, InteractionType type) {
+        if (claim == null) return ShieldResponse.allow();
+        String resultMessage;
+
+        switch (type) {
+            case BLOCK_BREAK:
+            case BLOCK_PLACE:
+            case BUCKET_USE:
+            case TRAMPLE:
+            case DAMAGE_ENTITY:
+                resultMessage = (String) allowBuildMethod.call(claim, player, location.getBlock().getType());
+                break;
+            case CONTAINER_ACCESS:
+            case MOB_DAMAGE:
+                resultMessage = (String) allowContainersMethod.call(claim, player);
+                break;
+            case INTERACT:
+                resultMessage = (String) allowAccessMethod.call(claim, player);
+                break;
+            case PVP:
+                return ShieldResponse.allow();
+            default:
+                resultMessage = (String) allowBuildMethod.call(claim, player, Material.AIR);
+        }
+
+        return resultMessage == null ? ShieldResponse.allow() : ShieldResponse.deny(getName());
+    }
+
+    /**
+     * Bulunmuş bir claim için tembel bir {@link RegionInfo} oluşturur.
+     * <p>
+     * Bilgi önbelleklerde ve oyuncu oturumları boyunca saklanabildiğinden, kaynaklar Claim nesnesini değil yalnızca
+     * ID'sini yakalar; sahip ve üyeler ilk okunduklarında claim ID'siyle DataStore'dan yeniden bulunarak okunur.
+     * Silinmiş claim'ler böylece bellekte tutulmaz ve listeler okundukları andaki claim'i yansıtır. ID'si okunamayan
+     * veya ID ile aranamayan claim'lerin listeleri hemen okunur.
+     *
+     * @param claim Claim veya null.
+     * @return Claim bilgisi veya claim yoksa null.
+     */
+    private RegionInfo infoOf(Object claim) {
+        if (claim == null) return null;
+
+        Long id = (Long) getIDMethod.call(claim);
+        if (id == null || getClaimByIdMethod == null) {
+            return RegionInfo.builder()
+                    .id(id != null ? id.toString() : "Unknown")
+                    .provider(getName())
+                    .owners(readOwners(claim))
+                    .members(readMembers(claim))
+                    .build();
+        }
+
+        long claimId = id;
+        return RegionInfo.lazy(id.toString(), getName(),
+                () -> readOwners(claimById(claimId)),
+                () -> readMembers(claimById(claimId)));
+    }
+
+    /**
+     * Claim'i ID'siyle DataStore'dan bulur.
+     *
+     * @return Claim veya silinmişse ya da bir hata oluşursa null.
+     */
+    private Object claimById(long claimId) {
+        try {
+            return getClaimByIdMethod.call(dataStore, claimId);
+        } catch (Exception e) {
             return null;
+        }
+    }
 
+    /**
+     * Bulunmuş bir claim'in köşelerini okur.
+     *
+     * @param claim Claim veya null.
+     * @return Claim'in sınırları veya claim yoksa ya da köşeler okunamazsa null.
+     */
+    private RegionBounds boundsOf(Object claim) {
+        if (claim == null) return null;
+
+        Location lesser = (Location) getLesserBoundaryCorner.call(claim);
+        Location greater = (Location) getGreaterBoundaryCorner.call(claim);
+
+        return lesser != null && greater != null ? new RegionBounds(lesser, greater) : null;
+    }
+
+    /**
+     * Claim sahibini okur.
+     *
+     * @param claim Sahibi okunacak Claim nesnesi veya null.
+     * @return Sahibin UUID'sini içeren liste; claim yoksa veya yönetici claim'lerinde boş liste, hata durumunda null.
+     */
+    private List<UUID> readOwners(Object claim) {
+        if (claim == null) return List.of();
+        try {
+            UUID ownerID = ownerIdField != null ? (UUID) ownerIdField.get(claim) : null;
+            return ownerID != null ? List.of(ownerID) : List.of();
         } catch (Exception e) {
             return null;
         }
     }
 
     /**
-     * Yansıtma kullanarak bir Claim nesnesinin belirtilen alanından (field) üye listesini okuyan
+     * Claim'in tüm güven listelerindeki oyuncuları okur.
+     *
+     * @param claim Üyeleri okunacak Claim nesnesi veya null.
+     * @return Üyelerin UUID'leri; claim yoksa boş liste, bir güven listesi okunamazsa kısmi bir liste yerine null.
+     */
+    private List<UUID> readMembers(Object claim) {
+        List<UUID> members = new ArrayList<>();
+        if (claim == null) return members;
+        for (FieldAccessor field : trustFields) {
+            if (!addMembersFromField(claim, field, members)) return null;
+        }
+        return members;
+    }
+
+    /**
+     * Başlatma sırasında çözümlenmiş bir alan erişimcisiyle Claim nesnesinin üye listesini okuyan
      * ve bunları hedef listeye ekleyen bir yardımcı metot.
      * GriefPrevention bu listeleri UUID'lerin String temsilleri olarak tutar.
      *
      * @param claim      Üyelerin okunacağı Claim nesnesi.
-     * @param fieldName  Okunacak alanın adı (örn: "builders", "managers").
+     * @param field      Okunacak alanın erişimcisi (örn: "builders", "managers"); bulunamadıysa null.
      * @param targetList Bulunan UUID'lerin ekleneceği liste.
+     * @return Liste okunamadıysa {@code false}.
      */
     @SuppressWarnings("unchecked")
-    private void addMembersFromField(Object claim, String fieldName, List<UUID> targetList) {
+    private boolean addMembersFromField(Object claim, FieldAccessor field, List<UUID> targetList) {
+        if (field == null) return true;
         try {
-            ArrayList<String> list = (ArrayList<String>) ReflectionUtils.getField(claim.getClass(), claim, fieldName);
+            List<String> list = (List<String>) field.get(claim);
             if (list != null) {
                 for (String s : list) {
                     try {
@@ -224,6 +415,263 @@ public class GriefPreventionHook implements IShieldHook {
                     } catch (IllegalArgumentException ignored) {}
                 }
             }
-        } catch (Exception ignored) {}
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * GriefPrevention'ın chunk bazlı claim indeksini ({@code DataStore#getClaims(int, int)}) okuyarak chunk'ta
+     * bu dünyaya ait hiçbir claim bulunmadığını kontrol eder.
+     * <p>
+     * GriefPrevention'ın indeksi dünya bilgisi içermediğinden, dönen claim'lerin dünyası ayrıca kontrol edilir.
+     * Bu indeks eşzamanlı okumaya dayanıklı olmadığından hook thread-safe bildirilmez; metot ana thread'de çağrılır.
+     * Okuma sırasında oluşabilecek her hata "boş değil" olarak yorumlanır.
+     *
+     * @param world  Chunk'ın bulunduğu dünya.
+     * @param chunkX Chunk'ın X koordinatı.
+     * @param chunkZ Chunk'ın Z koordinatı.
+     * @return Chunk'ta bu dünyaya ait claim yoksa {@code true}.
+     */
+    @Override
+    public boolean isChunkEmpty(World world, int chunkX, int chunkZ) {
+        if (!initialized || getChunkClaimsMethod == null || getLesserBoundaryCorner == null) return false;
+
+        try {
+            Object result = getChunkClaimsMethod.call(dataStore, chunkX, chunkZ);
+            if (!(result instanceof Collection<?> claims)) return false;
+
+            for (Object claim : claims) {
+                Location lesser = (Location) getLesserBoundaryCorner.call(claim);
+                if (lesser == null || world.equals(lesser.getWorld())) return false;
+            }
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * GriefPrevention'ın tüm claim listesini ({@code DataStore#getClaims()}) okuyarak bu dünyadaki üst claim'leri
+     * döndürür. Claim'ler alt köşelerinin yüksekliğinden dünyanın tepesine kadar uzanır; alt claim'ler (subdivision)
+     * ana claim'in içinde kaldığından ayrıca listelenmez.
+     *
+     * @param world Claim'leri istenen dünya.
+     * @return Dünyadaki claim'ler veya claim listesi okunamazsa {@code null}.
+     */
+    @Override
+    public Collection<RegionArea> getRegionAreas(World world) {
+        if (!initialized || getAllClaimsMethod == null || getLesserBoundaryCorner == null
+                || getGreaterBoundaryCorner == null) return null;
+
+        try {
+            Object result = getAllClaimsMethod.call(dataStore);
+            if (!(result instanceof Collection<?> claims)) return null;
+
+            List<RegionArea> areas = new ArrayList<>();
+            int top = world.getMaxHeight() - 1;
+            for (Object claim : claims) {
+                Location lesser = (Location) getLesserBoundaryCorner.call(claim);
+                Location greater = (Location) getGreaterBoundaryCorner.call(claim);
+                if (lesser == null || greater == null || !world.equals(lesser.getWorld())) continue;
+
+                areas.add(new RegionArea(infoOf(claim), world,
+                        lesser.getBlockX(), lesser.getBlockY(), lesser.getBlockZ(),
+                        greater.getBlockX(), top, greater.getBlockZ()));
+            }
+            return areas;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * GriefPrevention PVP kurallarını claim izinleriyle yönetmediğinden, bu hook PVP kontrollerinde hiç sorgulanmaz.
+     *
+     * @return PVP dışındaki tüm etkileşim türlerini değerlendiren yetenek tanımı.
+     */
+    @Override
+    public HookCapabilities getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    /**
+     * GriefPrevention'ın claim olaylarını dinlemeye başlar. Her değişiklikte yalnızca etkilenen claim'lerin
+     * (yeniden boyutlandırmada hem eski hem yeni sınırların) alanı geçersiz kılınır.
+     * <p>
+     * Önbellek temizliği bridge üzerinden bir sonraki tick'e ertelenir; ancak claim sorgularının tick içi hafızası
+     * ve ipuçları olayın içinde, ertelenmeden bırakılır ({@link #markClaimEvent()}). Tick içi hafıza, ayrı bir
+     * zamanlayıcı görevi yerine geçersiz kılıcının tick sayacına bağlanır.
+     *
+     * @param plugin      Dinleyicilerin adına kaydedileceği eklenti.
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     */
+    @Override
+    public void onRegister(Plugin plugin, IRegionInvalidator invalidator) {
+        this.invalidator = invalidator;
+        this.events = new HookEventBridge(plugin);
+        events.listen(event -> markClaimEvent(), event -> invalidateClaims(event, invalidator), CLAIM_EVENTS);
+    }
+
+    /**
+     * Claim olaylarının dinlenmesini durdurur ve claim ipuçlarını bırakır.
+     */
+    @Override
+    public void onUnregister() {
+        if (events != null) events.close();
+        events = null;
+        invalidator = null;
+        dropLookups();
+    }
+
+    /**
+     * Claim sorgularının tick içi hafızasını olayın tetiklendiği tick'in sonuna kadar kapatır ve ipuçlarını bırakır.
+     * GriefPrevention olayları değişikliği uygulamadan önce, aynı çağrı içinde tetiklediğinden değişiklik de bu tick
+     * içinde uygulanır; bu tick'te olaydan önce veya sonra hatırlanan hiçbir sonuç kullanılmaz. Silinen veya yeniden
+     * boyutlandırılan claim'ler böylece ipucu olarak bellekte kalmaz.
+     */
+    private void markClaimEvent() {
+        IRegionInvalidator current = invalidator;
+        if (current != null) claimEventTick = current.currentTick();
+        dropLookups();
+    }
+
+    /**
+     * Tüm thread'lerin claim sorgularını geçersiz kılar. Çağıran thread'inki hemen, diğerlerininki bir sonraki
+     * erişimlerinde silinir.
+     */
+    private void dropLookups() {
+        lookupEpoch.incrementAndGet();
+        lookups.remove();
+    }
+
+    /**
+     * Konumdaki claim'i bulur.
+     * <p>
+     * GriefPrevention'ın {@code getClaimAt} metodu, verilen ipucu claim konumu içeriyorsa chunk taramasını atlar.
+     * Bu yüzden her thread'in son bulduğu claim ipucu olarak geri verilir; yürüyen bir oyuncu çoğunlukla aynı
+     * claim içinde kalır. İpucu yalnızca claim hâlâ DataStore'daysa verilir. Ayrıca aynı tick içinde aynı blok için
+     * yapılan sorgular (ör. aynı konum için {@code check}, {@code getRegionInfo} ve {@code getRegionBounds}) tek bir
+     * sorguyu paylaşır. Bir claim olayının tetiklendiği tick içinde hatırlanan sonuçlar kullanılmaz. Hook kayıtlı
+     * değilse (tick sayacı yoksa) yalnızca ipucu kullanılır.
+     *
+     * @param location Claim'i aranacak konum.
+     * @return Konumdaki claim veya yoksa null.
+     */
+    private Object claimAt(Location location) {
+        ClaimLookup last = lookups.get();
+        last.sync(lookupEpoch.get());
+
+        IRegionInvalidator ticks = invalidator;
+        World world = location.getWorld();
+        UUID worldId = world != null ? world.getUID() : null;
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+        int tick = ticks != null ? ticks.currentTick() : 0;
+        boolean memo = ticks != null && tick != claimEventTick;
+
+        if (memo && last.matches(worldId, x, y, z, tick)) return last.claim;
+
+        Object hint = last.hint != null && isInDataStore(last.hint) ? last.hint : null;
+        Object claim = getClaimMethod.call(dataStore, location, false, hint);
+        last.remember(worldId, x, y, z, tick, claim, memo);
+        return claim;
+    }
+
+    /**
+     * Claim'in hâlâ DataStore'da olup olmadığını döndürür. Alan okunamıyorsa claim'e güvenilmez.
+     */
+    private boolean isInDataStore(Object claim) {
+        return inDataStoreField != null && Boolean.TRUE.equals(inDataStoreField.get(claim));
+    }
+
+    /**
+     * Olayın taşıdığı claim'lerin alanlarını geçersiz kılar. Olaydan hiçbir claim okunamazsa tüm önbellek temizlenir.
+     */
+    private void invalidateClaims(Event event, IRegionInvalidator invalidator) {
+        boolean found = false;
+        for (String accessor : CLAIM_ACCESSORS) {
+            Method method = ReflectionUtils.getMethod(event.getClass(), accessor);
+            found |= invalidateClaim(ReflectionUtils.invoke(method, event), invalidator);
+        }
+
+        Object claims = ReflectionUtils.invoke(ReflectionUtils.getMethod(event.getClass(), "getClaims"), event);
+        if (claims instanceof Collection<?> collection) {
+            for (Object claim : collection) {
+                found |= invalidateClaim(claim, invalidator);
+            }
+        }
+
+        if (!found) invalidator.invalidateAll();
+    }
+
+    /**
+     * Tek bir claim'in sınır kutusunu geçersiz kılar.
+     *
+     * @return Claim'in sınırları okunabildiyse {@code true}.
+     */
+    private boolean invalidateClaim(Object claim, IRegionInvalidator invalidator) {
+        if (claim == null || getLesserBoundaryCorner == null || getGreaterBoundaryCorner == null) return false;
+
+        Location lesser = (Location) getLesserBoundaryCorner.call(claim);
+        Location greater = (Location) getGreaterBoundaryCorner.call(claim);
+        if (lesser == null || greater == null || lesser.getWorld() == null) return false;
+
+        invalidator.invalidateArea(lesser.getWorld(),
+                Math.min(lesser.getBlockX(), greater.getBlockX()), Math.min(lesser.getBlockZ(), greater.getBlockZ()),
+                Math.max(lesser.getBlockX(), greater.getBlockX()), Math.max(lesser.getBlockZ(), greater.getBlockZ()));
+        return true;
+    }
+
+    /**
+     * Bir thread'in son claim sorgusu. Dünya, {@link World} nesnesi yerine UUID'siyle tutulur; böylece boşaltılan
+     * dünyalar bellekte kalmaz.
+     */
+    private static final class ClaimLookup {
+        /**
+         * Son bulunan (null olmayan) claim; bir sonraki sorguya ipucu olarak verilir.
+         */
+        private Object hint;
+        /**
+         * Hatırlanan konumdaki claim; yoksa null.
+         */
+        private Object claim;
+        private UUID worldId;
+        private int epoch;
+        private int x;
+        private int y;
+        private int z;
+        private int tick;
+        private boolean valid;
+
+        /**
+         * Sayaç değiştiyse hatırlanan claim'leri bırakır.
+         */
+        private void sync(int epoch) {
+            if (this.epoch == epoch) return;
+            this.epoch = epoch;
+            this.hint = null;
+            this.claim = null;
+            this.worldId = null;
+            this.valid = false;
+        }
+
+        private boolean matches(UUID worldId, int x, int y, int z, int tick) {
+            return valid && Objects.equals(this.worldId, worldId)
+                    && this.x == x && this.y == y && this.z == z && this.tick == tick;
+        }
+
+        private void remember(UUID worldId, int x, int y, int z, int tick, Object claim, boolean valid) {
+            this.worldId = worldId;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.tick = tick;
+            this.claim = claim;
+            this.valid = valid;
+            if (claim != null) this.hint = claim;
+        }
     }
-}
\ No newline at end of file
+}
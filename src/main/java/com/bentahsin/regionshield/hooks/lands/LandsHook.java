@@ -1,9 +1,13 @@
 package com.bentahsin.regionshield.hooks.lands;
 
+import com.bentahsin.regionshield.api.IRegionInvalidator;
 import com.bentahsin.regionshield.api.IShieldHook;
+import com.bentahsin.regionshield.api.RegionSnapshot;
 import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.internal.HookEventBridge;
 import com.bentahsin.regionshield.internal.ReflectionUtils;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
 import com.bentahsin.regionshield.model.RegionBounds;
 import com.bentahsin.regionshield.model.RegionInfo;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -15,10 +19,17 @@ import me.angeschossen.lands.api.land.LandWorld;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
 import org.bukkit.plugin.Plugin;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Lands eklentisi için bir entegrasyon (hook) sağlar.
@@ -32,6 +43,27 @@ import java.util.Collections;
 @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
 public class LandsHook implements IShieldHook {
 
+    /**
+     * Tek bir chunk'ın sahipliğini değiştiren Lands olayları. Bu olaylar chunk'ı taşıdığından yalnızca o chunk'ın
+     * alanı geçersiz kılınır. Sunucudaki sürümde bulunmayan olaylar atlanır.
+     */
+    private static final String[] CHUNK_EVENTS = {
+            "me.angeschossen.lands.api.events.ChunkPostClaimEvent",
+            "me.angeschossen.lands.api.events.ChunkDeleteEvent"
+    };
+
+    /**
+     * Arazinin tamamını veya güvenilen oyuncularını etkileyen Lands olayları. Bu değişiklikler arazinin tüm
+     * chunk'larına yayıldığından tüm önbellek geçersiz kılınır. Sunucudaki sürümde bulunmayan olaylar atlanır.
+     */
+    private static final String[] LAND_EVENTS = {
+            "me.angeschossen.lands.api.events.LandDeleteEvent",
+            "me.angeschossen.lands.api.events.LandTrustPlayerEvent",
+            "me.angeschossen.lands.api.events.LandUntrustPlayerEvent"
+    };
+
+    private HookEventBridge events;
+
     private final Plugin plugin;
     private LandsIntegration landsIntegration;
 
@@ -107,15 +139,23 @@ public class LandsHook implements IShieldHook {
     public RegionInfo getRegionInfo(Location location) {
         if (landsIntegration == null || location == null) return null;
 
-        Land land = landsIntegration.getLand(location);
+        return infoOf(landsIntegration.getLand(location));
+    }
 
+    /**
+     * Bir Land'i {@link RegionInfo} modeline dönüştürür.
+     *
+     * @param land Land veya null.
+     * @return Land bilgisi veya Land yoksa null.
+     */
+    private RegionInfo infoOf(Land land) {
         if (land == null) return null;
 
         return RegionInfo.builder()
                 .id(land.getName())
                 .provider(getName())
                 .owners(Collections.singletonList(land.getOwnerUID()))
-                .members(new ArrayList<>(land.getTrustedPlayers()))
+                .members(land.getTrustedPlayers())
                 .build();
     }
 
@@ -130,7 +170,45 @@ public class LandsHook implements IShieldHook {
     public RegionBounds getRegionBounds(Location location) {
         if (landsIntegration == null || location == null) return null;
 
+        return boundsOf(landsIntegration.getLand(location), location);
+    }
+
+    /**
+     * Konumdaki Land'i bir kez bulur; Land bilgisi ve sınırları bu Land'den çıkarılır. Kararlar {@link #check}
+     * ile aynı şekilde dünyanın rol bayraklarından alınır; {@link LandWorld} tüm türler için bir kez çözülür.
+     *
+     * @param player   Kararların verileceği oyuncu; {@code null} ise karar değerlendirilmez.
+     * @param location Sorgulanan konum.
+     * @param types    Karar istenen etkileşim türleri.
+     * @return Konumun anlık görüntüsü.
+     */
+    @Override
+    public RegionSnapshot getRegionSnapshot(Player player, Location location, Set<InteractionType> types) {
+        if (landsIntegration == null || location == null) return IShieldHook.super.getRegionSnapshot(player, location, types);
+
+        Map<InteractionType, ShieldResponse> decisions = new EnumMap<>(InteractionType.class);
+        if (player != null && !types.isEmpty()) {
+            LandWorld landWorld = location.getWorld() != null ? landsIntegration.getLandWorld(location.getWorld()) : null;
+            for (InteractionType type : types) {
+                RoleFlag flag = getRoleFlag(type);
+                boolean allowed = landWorld == null || flag == null
+                        || landWorld.hasRoleFlag(player.getUniqueId(), location, flag);
+                decisions.put(type, allowed ? ShieldResponse.allow() : ShieldResponse.deny(getName()));
+            }
+        }
+
         Land land = landsIntegration.getLand(location);
+        return new RegionSnapshot(infoOf(land), boundsOf(land, location), decisions);
+    }
+
+    /**
+     * Lands chunk tabanlı çalıştığı için, Land'in bulunduğu chunk'ın sınırlarını döndürür.
+     *
+     * @param land     Land veya null.
+     * @param location Land'in içindeki bir konum.
+     * @return Chunk'ın sınırları veya Land ya da dünya yoksa null.
+     */
+    private RegionBounds boundsOf(Land land, Location location) {
         if (land == null) return null;
 
         org.bukkit.Chunk chunk = location.getChunk();
@@ -155,6 +233,55 @@ public class LandsHook implements IShieldHook {
         return new RegionBounds(min, max);
     }
 
+    /**
+     * Tüm Land'lerin bu dünyadaki chunk'larını döndürür. Lands chunk tabanlı çalıştığından her chunk ayrı bir alan
+     * olarak, dünyanın tüm yüksekliği boyunca listelenir; aynı Land'in chunk'ları aynı bilgiyi paylaşır.
+     * <p>
+     * Land'in bir dünyadaki chunk'ları {@code Land#getContainer(World)} ve {@code Container#getChunks()} ile
+     * okunur; bu metotlar sürümler arasında değişebildiğinden yansıtma kullanılır.
+     *
+     * @param world Land'leri istenen dünya.
+     * @return Dünyadaki Land chunk'ları veya Land listesi ya da chunk'lar okunamazsa {@code null}.
+     */
+    @Override
+    public Collection<RegionArea> getRegionAreas(World world) {
+        if (landsIntegration == null) return null;
+
+        try {
+            int minY = world.getMinHeight();
+            int maxY = world.getMaxHeight() - 1;
+            List<RegionArea> areas = new ArrayList<>();
+            Method getX = null;
+            Method getZ = null;
+            for (Land land : landsIntegration.getLands()) {
+                Object container = ReflectionUtils.invoke(
+                        ReflectionUtils.getMethod(land.getClass(), "getContainer", World.class), land, world);
+                if (container == null) continue;
+
+                Object chunks = ReflectionUtils.invoke(ReflectionUtils.getMethod(container.getClass(), "getChunks"), container);
+                if (!(chunks instanceof Collection<?> coordinates)) return null;
+
+                RegionInfo info = null;
+                for (Object coordinate : coordinates) {
+                    if (getX == null) {
+                        getX = ReflectionUtils.getMethod(coordinate.getClass(), "getX");
+                        getZ = ReflectionUtils.getMethod(coordinate.getClass(), "getZ");
+                    }
+                    Object x = ReflectionUtils.invoke(getX, coordinate);
+                    Object z = ReflectionUtils.invoke(getZ, coordinate);
+                    if (!(x instanceof Integer chunkX) || !(z instanceof Integer chunkZ)) return null;
+
+                    if (info == null) info = infoOf(land);
+                    areas.add(new RegionArea(info, world, chunkX << 4, minY, chunkZ << 4,
+                            (chunkX << 4) + 15, maxY, (chunkZ << 4) + 15));
+                }
+            }
+            return areas;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * RegionShield'ın {@link InteractionType} enum'unu ilgili Lands {@link RoleFlag} nesnesine çevirir.
      *
@@ -185,4 +312,47 @@ public class LandsHook implements IShieldHook {
                 return Flags.BLOCK_PLACE;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Lands'ın chunk sahiplenme ve silme, arazi silme ve oyuncu güvenme/güvenmeme olaylarını dinlemeye başlar.
+     * Chunk olaylarında yalnızca olayın taşıdığı chunk geçersiz kılınır. Arazi silme ve güven değişiklikleri
+     * arazinin tüm chunk'larını etkilediğinden tüm önbelleği temizler.
+     *
+     * @param plugin      Dinleyicilerin adına kaydedileceği eklenti.
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     */
+    @Override
+    public void onRegister(Plugin plugin, IRegionInvalidator invalidator) {
+        this.events = new HookEventBridge(plugin);
+        events.listen(event -> invalidateChunk(event, invalidator), CHUNK_EVENTS);
+        events.listen(event -> invalidator.invalidateAll(), LAND_EVENTS);
+    }
+
+    /**
+     * Olayın taşıdığı chunk'ın alanını geçersiz kılar. Dünya ve chunk koordinatları olayın {@code getWorld()},
+     * {@code getX()} ve {@code getZ()} metotlarından okunur; sürümler arasında bu metotlar değişebildiğinden
+     * yansıtma kullanılır. Okunamazlarsa tüm önbellek temizlenir.
+     */
+    private void invalidateChunk(Event event, IRegionInvalidator invalidator) {
+        Class<?> eventClass = event.getClass();
+        Object world = ReflectionUtils.invoke(ReflectionUtils.getMethod(eventClass, "getWorld"), event);
+        if (world instanceof LandWorld landWorld) world = landWorld.getWorld();
+        Object x = ReflectionUtils.invoke(ReflectionUtils.getMethod(eventClass, "getX"), event);
+        Object z = ReflectionUtils.invoke(ReflectionUtils.getMethod(eventClass, "getZ"), event);
+
+        if (!(world instanceof World bukkitWorld) || !(x instanceof Integer chunkX) || !(z instanceof Integer chunkZ)) {
+            invalidator.invalidateAll();
+            return;
+        }
+        invalidator.invalidateArea(bukkitWorld, chunkX << 4, chunkZ << 4, (chunkX << 4) + 15, (chunkZ << 4) + 15);
+    }
+
+    /**
+     * Olayların dinlenmesini durdurur.
+     */
+    @Override
+    public void onUnregister() {
+        if (events != null) events.close();
+        events = null;
+    }
+}
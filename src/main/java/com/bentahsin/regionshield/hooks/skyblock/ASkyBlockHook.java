@@ -1,13 +1,26 @@
 package com.bentahsin.regionshield.hooks.skyblock;
 
+import com.bentahsin.regionshield.api.HookCapabilities;
+import com.bentahsin.regionshield.api.IRegionInvalidator;
 import com.bentahsin.regionshield.api.IShieldHook;
 import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.internal.DecisionKeys;
+import com.bentahsin.regionshield.internal.HookEventBridge;
+import com.bentahsin.regionshield.internal.MethodInvoker;
 import com.bentahsin.regionshield.internal.ReflectionUtils;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
+import com.bentahsin.regionshield.model.RegionInfo;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -23,10 +36,37 @@ import java.util.UUID;
  */
 public class ASkyBlockHook implements IShieldHook {
 
+    /**
+     * Ada ve üye değişikliklerini bildiren ASkyBlock olayları.
+     * Sunucudaki sürümde bulunmayan olaylar atlanır.
+     */
+    private static final String[] ISLAND_EVENTS = {
+            "com.wasteofplastic.askyblock.events.IslandNewEvent",
+            "com.wasteofplastic.askyblock.events.IslandDeleteEvent",
+            "com.wasteofplastic.askyblock.events.IslandResetEvent",
+            "com.wasteofplastic.askyblock.events.IslandJoinEvent",
+            "com.wasteofplastic.askyblock.events.IslandLeaveEvent",
+            "com.wasteofplastic.askyblock.events.IslandChangeOwnerEvent",
+            "com.wasteofplastic.askyblock.events.CoopJoinEvent",
+            "com.wasteofplastic.askyblock.events.CoopLeaveEvent"
+    };
+
+    private static final HookCapabilities CAPABILITIES = HookCapabilities.builder()
+            .cacheTtlTicks(40)
+            .build();
+
+    private HookEventBridge events;
+
     private Object apiInstance;
-    private Method getIslandAtMethod;
-    private Method getOwnerMethod;
-    private Method getMembersMethod;
+    private MethodInvoker getIslandAtMethod;
+    private MethodInvoker getOwnerMethod;
+    private MethodInvoker getMembersMethod;
+
+    private MethodInvoker getOwnedIslandsMethod;
+    private MethodInvoker getCenterMethod;
+    private MethodInvoker getMinProtectedXMethod;
+    private MethodInvoker getMinProtectedZMethod;
+    private MethodInvoker getProtectionSizeMethod;
 
     private boolean initialized = false;
 
@@ -59,11 +99,17 @@ public class ASkyBlockHook implements IShieldHook {
             Method getInstance = ReflectionUtils.getMethod(apiClass, "getInstance");
             this.apiInstance = ReflectionUtils.invoke(getInstance, null);
 
-            this.getIslandAtMethod = ReflectionUtils.getMethod(apiClass, "getIslandAt", Location.class);
+            this.getIslandAtMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(apiClass, "getIslandAt", Location.class));
 
             Class<?> islandClass = ReflectionUtils.getClass("com.wasteofplastic.askyblock.Island");
-            this.getOwnerMethod = ReflectionUtils.getMethod(islandClass, "getOwner");
-            this.getMembersMethod = ReflectionUtils.getMethod(islandClass, "getMembers");
+            this.getOwnerMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(islandClass, "getOwner"));
+            this.getMembersMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(islandClass, "getMembers"));
+
+            this.getOwnedIslandsMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(apiClass, "getOwnedIslands"));
+            this.getCenterMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(islandClass, "getCenter"));
+            this.getMinProtectedXMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(islandClass, "getMinProtectedX"));
+            this.getMinProtectedZMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(islandClass, "getMinProtectedZ"));
+            this.getProtectionSizeMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(islandClass, "getProtectionSize"));
 
             this.initialized = apiInstance != null && getIslandAtMethod != null && getOwnerMethod != null && getMembersMethod != null;
             return this.initialized;
@@ -88,17 +134,17 @@ public class ASkyBlockHook implements IShieldHook {
         if (!initialized) return ShieldResponse.allow();
 
         try {
-            Object island = ReflectionUtils.invoke(getIslandAtMethod, apiInstance, location);
+            Object island = getIslandAtMethod.call(apiInstance, location);
             if (island == null) return ShieldResponse.allow();
 
             UUID playerUUID = player.getUniqueId();
-            UUID ownerUUID = (UUID) ReflectionUtils.invoke(getOwnerMethod, island);
+            UUID ownerUUID = (UUID) getOwnerMethod.call(island);
 
             if (ownerUUID != null && ownerUUID.equals(playerUUID)) {
                 return ShieldResponse.allow();
             }
 
-            java.util.Set<?> members = (java.util.Set<?>) ReflectionUtils.invoke(getMembersMethod, island);
+            java.util.Set<?> members = (java.util.Set<?>) getMembersMethod.call(island);
             if (members != null && members.contains(playerUUID)) {
                 return ShieldResponse.allow();
             }
@@ -109,4 +155,114 @@ public class ASkyBlockHook implements IShieldHook {
             return ShieldResponse.allow();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Konumdaki adanın sahibinin UUID'sinden bir parmak izi üretir.
+     * Bu hook'un kararı yalnızca ada sahipliğine ve üyeliğine bağlı olduğundan,
+     * aynı adadaki tüm konumlar aynı kararı paylaşır.
+     *
+     * @param location Parmak izi alınacak konum.
+     * @return Adanın parmak izi, konumda ada yoksa sabit başlangıç değeri,
+     *         hook başlatılmamışsa veya bir hata oluşursa {@link #NO_FINGERPRINT}.
+     */
+    @Override
+    public long getRegionFingerprint(Location location) {
+        if (!initialized) return NO_FINGERPRINT;
+
+        try {
+            Object island = getIslandAtMethod.call(apiInstance, location);
+            if (island == null) return DecisionKeys.FINGERPRINT_SEED;
+
+            UUID ownerUUID = (UUID) getOwnerMethod.call(island);
+            if (ownerUUID == null) return NO_FINGERPRINT;
+
+            return DecisionKeys.mix(ownerUUID.getMostSignificantBits(), ownerUUID.getLeastSignificantBits());
+        } catch (Exception e) {
+            return NO_FINGERPRINT;
+        }
+    }
+
+    /**
+     * ASkyBlock'un sahipli adalarını ({@code ASkyBlockAPI#getOwnedIslands()}) okuyarak bu dünyadaki adaları,
+     * koruma alanlarının sınırlarıyla ve dünyanın tüm yüksekliği boyunca döndürür. Bölge ID'si ve sahip adanın
+     * sahibi, üyeler ise adanın üyeleridir.
+     *
+     * @param world Adaları istenen dünya.
+     * @return Dünyadaki adalar veya ada listesi okunamazsa {@code null}.
+     */
+    @Override
+    public Collection<RegionArea> getRegionAreas(World world) {
+        if (!initialized || getOwnedIslandsMethod == null || getCenterMethod == null || getMinProtectedXMethod == null
+                || getMinProtectedZMethod == null || getProtectionSizeMethod == null) return null;
+
+        try {
+            Object owned = getOwnedIslandsMethod.call(apiInstance);
+            if (!(owned instanceof Map<?, ?> islands)) return null;
+
+            int minY = world.getMinHeight();
+            int maxY = world.getMaxHeight() - 1;
+            List<RegionArea> areas = new ArrayList<>();
+            for (Object island : islands.values()) {
+                Object center = getCenterMethod.call(island);
+                if (!(center instanceof Location location) || !world.equals(location.getWorld())) continue;
+
+                if (!(getMinProtectedXMethod.call(island) instanceof Integer minX)
+                        || !(getMinProtectedZMethod.call(island) instanceof Integer minZ)
+                        || !(getProtectionSizeMethod.call(island) instanceof Integer size)) continue;
+
+                UUID owner = (UUID) getOwnerMethod.call(island);
+                if (owner == null) continue;
+
+                List<UUID> members = new ArrayList<>();
+                if (getMembersMethod.call(island) instanceof Collection<?> memberList) {
+                    for (Object member : memberList) {
+                        if (member instanceof UUID uuid) members.add(uuid);
+                    }
+                }
+                RegionInfo info = RegionInfo.builder()
+                        .id(owner.toString())
+                        .provider(getName())
+                        .owners(List.of(owner))
+                        .members(members)
+                        .build();
+                areas.add(new RegionArea(info, world, minX, minY, minZ, minX + size - 1, maxY, minZ + size - 1));
+            }
+            return areas;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * ASkyBlock kontrolü yalnızca ada sahipliğine ve üyeliğine bağlıdır; bu bilgiler nadiren değiştiği için
+     * kararlar varsayılandan daha uzun süre (40 tick, ~2 saniye) önbellekte tutulabilir.
+     *
+     * @return Uzun önbellek süresi öneren yetenek tanımı.
+     */
+    @Override
+    public HookCapabilities getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    /**
+     * ASkyBlock'un ada oluşturma/silme/sıfırlama, sahip değişikliği, üye katılma/ayrılma ve coop olaylarını
+     * dinlemeye başlar. Her olayda tüm önbellek geçersiz kılınır (bkz. {@link HookEventBridge}).
+     *
+     * @param plugin      Dinleyicilerin adına kaydedileceği eklenti.
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     */
+    @Override
+    public void onRegister(Plugin plugin, IRegionInvalidator invalidator) {
+        this.events = new HookEventBridge(plugin);
+        events.listen(event -> invalidator.invalidateAll(), ISLAND_EVENTS);
+    }
+
+    /**
+     * Olayların dinlenmesini durdurur.
+     */
+    @Override
+    public void onUnregister() {
+        if (events != null) events.close();
+        events = null;
+    }
+}
@@ -1,17 +1,28 @@
 package com.bentahsin.regionshield.hooks.skyblock;
 
+import com.bentahsin.regionshield.api.IRegionInvalidator;
 import com.bentahsin.regionshield.api.IShieldHook;
 import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.internal.DecisionKeys;
+import com.bentahsin.regionshield.internal.HookEventBridge;
 import com.bentahsin.regionshield.internal.ReflectionUtils;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
+import com.bentahsin.regionshield.model.RegionInfo;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.api.flags.Flag;
 import world.bentobox.bentobox.api.user.User;
 import world.bentobox.bentobox.database.objects.Island;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * BentoBox eklentisi ve onun oyun modları (örn: BSkyBlock, AcidIsland) için bir entegrasyon (hook) sağlar.
@@ -22,6 +33,24 @@ import java.util.Optional;
  */
 public class BentoBoxHook implements IShieldHook {
 
+    /**
+     * Ada, takım ve koruma bayrağı değişikliklerini bildiren BentoBox olayları.
+     * Sunucudaki sürümde bulunmayan olaylar atlanır.
+     */
+    private static final String[] ISLAND_EVENTS = {
+            "world.bentobox.bentobox.api.events.island.IslandCreatedEvent",
+            "world.bentobox.bentobox.api.events.island.IslandDeletedEvent",
+            "world.bentobox.bentobox.api.events.island.IslandResettedEvent",
+            "world.bentobox.bentobox.api.events.island.IslandRankChangeEvent",
+            "world.bentobox.bentobox.api.events.island.IslandProtectionRangeChangeEvent",
+            "world.bentobox.bentobox.api.events.team.TeamJoinedEvent",
+            "world.bentobox.bentobox.api.events.team.TeamLeaveEvent",
+            "world.bentobox.bentobox.api.events.team.TeamKickEvent",
+            "world.bentobox.bentobox.api.events.flags.FlagProtectionChangeEvent"
+    };
+
+    private HookEventBridge events;
+
     /**
      * Hook'un benzersiz adını döndürür.
      *
@@ -76,6 +105,51 @@ public class BentoBoxHook implements IShieldHook {
         return allowed ? ShieldResponse.allow() : ShieldResponse.deny(getName());
     }
 
+    /**
+     * Konumdaki adanın benzersiz kimliğinden bir parmak izi üretir.
+     * BentoBox bayrakları ada genelinde geçerli olduğundan, aynı adadaki tüm konumlar aynı kararı paylaşır.
+     *
+     * @param location Parmak izi alınacak konum.
+     * @return Adanın parmak izi veya konumda ada yoksa sabit başlangıç değeri.
+     */
+    @Override
+    public long getRegionFingerprint(Location location) {
+        Optional<Island> islandOpt = BentoBox.getInstance().getIslands().getIslandAt(location);
+        return islandOpt.map(island -> DecisionKeys.fingerprint(island.getUniqueId()))
+                .orElse(DecisionKeys.FINGERPRINT_SEED);
+    }
+
+    /**
+     * BentoBox'ın bu dünyadaki adalarını, koruma alanlarının sınırlarıyla ve dünyanın tüm yüksekliği boyunca
+     * döndürür. Bölge ID'si adanın benzersiz kimliği, sahipler adanın sahibi, üyeler ise üye rütbesindeki
+     * oyunculardır.
+     *
+     * @param world Adaları istenen dünya.
+     * @return Dünyadaki adalar veya bir hata oluşursa {@code null}.
+     */
+    @Override
+    public Collection<RegionArea> getRegionAreas(World world) {
+        try {
+            int minY = world.getMinHeight();
+            int maxY = world.getMaxHeight() - 1;
+            List<RegionArea> areas = new ArrayList<>();
+            for (Island island : BentoBox.getInstance().getIslands().getIslands(world)) {
+                UUID owner = island.getOwner();
+                RegionInfo info = RegionInfo.builder()
+                        .id(island.getUniqueId())
+                        .provider(getName())
+                        .owners(owner != null ? List.of(owner) : List.of())
+                        .members(island.getMemberSet())
+                        .build();
+                areas.add(new RegionArea(info, world, island.getMinProtectedX(), minY, island.getMinProtectedZ(),
+                        island.getMaxProtectedX() - 1, maxY, island.getMaxProtectedZ() - 1));
+            }
+            return areas;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * RegionShield'ın {@link InteractionType} enum'unu ilgili BentoBox {@link Flag} nesnesine dönüştürür.
      * Bu metot, {@code InteractionType} değerini bir bayrak adına (String) eşler ve ardından
@@ -99,4 +173,27 @@ public class BentoBoxHook implements IShieldHook {
 
         return BentoBox.getInstance().getFlagsManager().getFlag(flagName).orElse(null);
     }
-}
\ No newline at end of file
+
+    /**
+     * BentoBox'ın ada oluşturma/silme/sıfırlama, rütbe ve koruma alanı değişikliği, takıma katılma/ayrılma/atılma
+     * ve bayrak değişikliği olaylarını dinlemeye başlar. Her olayda tüm önbellek geçersiz kılınır
+     * (bkz. {@link HookEventBridge}).
+     *
+     * @param plugin      Dinleyicilerin adına kaydedileceği eklenti.
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     */
+    @Override
+    public void onRegister(Plugin plugin, IRegionInvalidator invalidator) {
+        this.events = new HookEventBridge(plugin);
+        events.listen(event -> invalidator.invalidateAll(), ISLAND_EVENTS);
+    }
+
+    /**
+     * Olayların dinlenmesini durdurur.
+     */
+    @Override
+    public void onUnregister() {
+        if (events != null) events.close();
+        events = null;
+    }
+}
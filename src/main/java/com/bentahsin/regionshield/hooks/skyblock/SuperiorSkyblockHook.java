@@ -1,15 +1,27 @@
 package com.bentahsin.regionshield.hooks.skyblock;
 
+import com.bentahsin.regionshield.api.IRegionInvalidator;
 import com.bentahsin.regionshield.api.IShieldHook;
 import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.internal.DecisionKeys;
+import com.bentahsin.regionshield.internal.HookEventBridge;
 import com.bentahsin.regionshield.internal.ReflectionUtils;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
+import com.bentahsin.regionshield.model.RegionInfo;
 import com.bgsoftware.superiorskyblock.api.SuperiorSkyblockAPI;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.IslandPrivilege;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * SuperiorSkyblock2 eklentisi için bir entegrasyon (hook) sağlar.
@@ -20,6 +32,25 @@ import org.bukkit.entity.Player;
  */
 public class SuperiorSkyblockHook implements IShieldHook {
 
+    /**
+     * Ada, üye ve yetki değişikliklerini bildiren SuperiorSkyblock olayları.
+     * Sunucudaki sürümde bulunmayan olaylar atlanır.
+     */
+    private static final String[] ISLAND_EVENTS = {
+            "com.bgsoftware.superiorskyblock.api.events.IslandCreateEvent",
+            "com.bgsoftware.superiorskyblock.api.events.IslandDisbandEvent",
+            "com.bgsoftware.superiorskyblock.api.events.IslandJoinEvent",
+            "com.bgsoftware.superiorskyblock.api.events.IslandQuitEvent",
+            "com.bgsoftware.superiorskyblock.api.events.IslandKickEvent",
+            "com.bgsoftware.superiorskyblock.api.events.IslandCoopPlayerEvent",
+            "com.bgsoftware.superiorskyblock.api.events.IslandUncoopPlayerEvent",
+            "com.bgsoftware.superiorskyblock.api.events.IslandTransferEvent",
+            "com.bgsoftware.superiorskyblock.api.events.PlayerChangeRoleEvent",
+            "com.bgsoftware.superiorskyblock.api.events.IslandChangeRolePrivilegeEvent"
+    };
+
+    private HookEventBridge events;
+
     /**
      * Hook'un benzersiz adını döndürür.
      *
@@ -69,6 +100,61 @@ public class SuperiorSkyblockHook implements IShieldHook {
         return allowed ? ShieldResponse.allow() : ShieldResponse.deny(getName());
     }
 
+    /**
+     * Konumdaki adanın sahibinin UUID'sinden bir parmak izi üretir.
+     * SuperiorSkyblock yetkileri ada genelinde geçerli olduğundan, aynı adadaki tüm konumlar aynı kararı paylaşır.
+     *
+     * @param location Parmak izi alınacak konum.
+     * @return Adanın parmak izi veya konumda ada yoksa sabit başlangıç değeri.
+     */
+    @Override
+    public long getRegionFingerprint(Location location) {
+        Island island = SuperiorSkyblockAPI.getGrid().getIslandAt(location);
+        if (island == null) return DecisionKeys.FINGERPRINT_SEED;
+
+        UUID owner = island.getOwner().getUniqueId();
+        return DecisionKeys.mix(owner.getMostSignificantBits(), owner.getLeastSignificantBits());
+    }
+
+    /**
+     * SuperiorSkyblock'un bu dünyadaki adalarını, ada alanının köşeleriyle ({@code Island#getMinimum()} ve
+     * {@code Island#getMaximum()}) ve dünyanın tüm yüksekliği boyunca döndürür. Köşeleri bu dünyada olmayan adalar
+     * (örn. yalnızca ana dünyada tanımlı köşeler için nether veya end) listelenmez. Bölge ID'si adanın UUID'si,
+     * sahipler adanın sahibi, üyeler ise sahip dışındaki ada üyeleridir.
+     *
+     * @param world Adaları istenen dünya.
+     * @return Dünyadaki adalar veya bir hata oluşursa {@code null}.
+     */
+    @Override
+    public Collection<RegionArea> getRegionAreas(World world) {
+        try {
+            int minY = world.getMinHeight();
+            int maxY = world.getMaxHeight() - 1;
+            List<RegionArea> areas = new ArrayList<>();
+            for (Island island : SuperiorSkyblockAPI.getGrid().getIslands()) {
+                Location min = island.getMinimum();
+                Location max = island.getMaximum();
+                if (min == null || max == null || !world.equals(min.getWorld())) continue;
+
+                List<UUID> members = new ArrayList<>();
+                for (SuperiorPlayer member : island.getIslandMembers(false)) {
+                    members.add(member.getUniqueId());
+                }
+                RegionInfo info = RegionInfo.builder()
+                        .id(island.getUniqueId().toString())
+                        .provider(getName())
+                        .owners(List.of(island.getOwner().getUniqueId()))
+                        .members(members)
+                        .build();
+                areas.add(new RegionArea(info, world, min.getBlockX(), minY, min.getBlockZ(),
+                        max.getBlockX(), maxY, max.getBlockZ()));
+            }
+            return areas;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * RegionShield'ın {@link InteractionType} enum'unu ilgili SuperiorSkyblock {@link IslandPrivilege} nesnesine dönüştürür.
      * Bu metot, {@code InteractionType} değerini bir yetki adına (String) eşler ve ardından
@@ -101,4 +187,26 @@ public class SuperiorSkyblockHook implements IShieldHook {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * SuperiorSkyblock'un ada kurma/dağıtma/devretme, üye katılma/ayrılma/atılma, coop ve rol/yetki değişikliği
+     * olaylarını dinlemeye başlar. Her olayda tüm önbellek geçersiz kılınır (bkz. {@link HookEventBridge}).
+     *
+     * @param plugin      Dinleyicilerin adına kaydedileceği eklenti.
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     */
+    @Override
+    public void onRegister(Plugin plugin, IRegionInvalidator invalidator) {
+        this.events = new HookEventBridge(plugin);
+        events.listen(event -> invalidator.invalidateAll(), ISLAND_EVENTS);
+    }
+
+    /**
+     * Olayların dinlenmesini durdurur.
+     */
+    @Override
+    public void onUnregister() {
+        if (events != null) events.close();
+        events = null;
+    }
+}
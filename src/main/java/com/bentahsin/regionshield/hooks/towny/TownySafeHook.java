@@ -1,19 +1,33 @@
 package com.bentahsin.regionshield.hooks.towny;
 
+import com.bentahsin.regionshield.api.HookCapabilities;
+import com.bentahsin.regionshield.api.IRegionInvalidator;
 import com.bentahsin.regionshield.api.IShieldHook;
+import com.bentahsin.regionshield.api.RegionSnapshot;
 import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.internal.HookEventBridge;
+import com.bentahsin.regionshield.internal.MethodInvoker;
 import com.bentahsin.regionshield.internal.ReflectionUtils;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
 import com.bentahsin.regionshield.model.RegionBounds;
 import com.bentahsin.regionshield.model.RegionInfo;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -30,19 +44,64 @@ import java.util.UUID;
  */
 public class TownySafeHook implements IShieldHook {
 
-    private Method getCachePermissionMethod;
+    /**
+     * Tek bir arsayı (TownBlock) etkileyen Towny olayları: sahiplenme, bırakma ve arsa ayarları.
+     * Bu olaylar arsayı veya koordinatını taşıdığından yalnızca o arsanın alanı geçersiz kılınır.
+     * Sunucudaki sürümde bulunmayan olaylar atlanır.
+     */
+    private static final String[] TOWN_BLOCK_EVENTS = {
+            "com.palmergames.bukkit.towny.event.TownClaimEvent",
+            "com.palmergames.bukkit.towny.event.town.TownUnclaimEvent",
+            "com.palmergames.bukkit.towny.event.PlotChangeOwnerEvent",
+            "com.palmergames.bukkit.towny.event.PlotChangeTypeEvent",
+            "com.palmergames.bukkit.towny.event.TownBlockSettingsChangedEvent",
+            "com.palmergames.bukkit.towny.event.TownBlockPermissionChangeEvent"
+    };
+
+    /**
+     * Kasabanın tamamını veya sakinlerini etkileyen Towny olayları. Bu değişiklikler kasabanın tüm arsalarına
+     * yayıldığından tüm önbellek geçersiz kılınır. Sunucudaki sürümde bulunmayan olaylar atlanır.
+     */
+    private static final String[] TOWN_EVENTS = {
+            "com.palmergames.bukkit.towny.event.NewTownEvent",
+            "com.palmergames.bukkit.towny.event.DeleteTownEvent",
+            "com.palmergames.bukkit.towny.event.RenameTownEvent",
+            "com.palmergames.bukkit.towny.event.TownAddResidentEvent",
+            "com.palmergames.bukkit.towny.event.TownRemoveResidentEvent",
+            "com.palmergames.bukkit.towny.event.TownAddResidentRankEvent",
+            "com.palmergames.bukkit.towny.event.TownRemoveResidentRankEvent"
+    };
+
+    private static final HookCapabilities CAPABILITIES = HookCapabilities.builder()
+            .cacheTtlTicks(100)
+            .uncacheableTypes(EnumSet.of(InteractionType.PVP, InteractionType.MOB_DAMAGE,
+                    InteractionType.DAMAGE_ENTITY))
+            .build();
+
+    private HookEventBridge events;
+
+    private MethodInvoker getCachePermissionMethod;
     private Object actionBuild, actionDestroy, actionSwitch, actionItemUse;
 
     private Object townyAPIInstance;
-    private Method getTownBlockMethod;
-    private Method hasTownMethod;
-    private Method getTownMethod;
+    private MethodInvoker getTownBlockMethod;
+    private MethodInvoker hasTownMethod;
+    private MethodInvoker getTownMethod;
 
-    private Method getTownNameMethod;
-    private Method getMayorMethod;
-    private Method getResidentsMethod;
+    private MethodInvoker getTownNameMethod;
+    private MethodInvoker getMayorMethod;
+    private MethodInvoker getResidentsMethod;
 
-    private Method getResidentUUIDMethod;
+    private MethodInvoker getResidentUUIDMethod;
+
+    private MethodInvoker getTownsMethod;
+    private MethodInvoker getTownByNameMethod;
+    private MethodInvoker getTownBlocksMethod;
+    private MethodInvoker getTownBlockXMethod;
+    private MethodInvoker getTownBlockZMethod;
+    private MethodInvoker getTownBlockWorldMethod;
+    private MethodInvoker getTownyWorldNameMethod;
+    private int townBlockSize = 16;
 
     private boolean initialized = false;
 
@@ -76,10 +135,10 @@ public class TownySafeHook implements IShieldHook {
             Class<?> actionTypeClass = ReflectionUtils.getClass("com.palmergames.bukkit.towny.object.TownyPermission$ActionType");
 
             if (cacheUtilClass != null && actionTypeClass != null) {
-                this.getCachePermissionMethod = ReflectionUtils.getMethod(
+                this.getCachePermissionMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(
                         cacheUtilClass, "getCachePermission",
                         Player.class, Location.class, Material.class, actionTypeClass
-                );
+                ));
 
                 this.actionBuild = Enum.valueOf((Class<Enum>) actionTypeClass, "BUILD");
                 this.actionDestroy = Enum.valueOf((Class<Enum>) actionTypeClass, "DESTROY");
@@ -96,16 +155,33 @@ public class TownySafeHook implements IShieldHook {
                 Method getInstance = ReflectionUtils.getMethod(townyApiClass, "getInstance");
                 this.townyAPIInstance = ReflectionUtils.invoke(getInstance, null);
 
-                this.getTownBlockMethod = ReflectionUtils.getMethod(townyApiClass, "getTownBlock", Location.class);
+                this.getTownBlockMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townyApiClass, "getTownBlock", Location.class));
+
+                this.hasTownMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townBlockClass, "hasTown"));
+                this.getTownMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townBlockClass, "getTown"));
 
-                this.hasTownMethod = ReflectionUtils.getMethod(townBlockClass, "hasTown");
-                this.getTownMethod = ReflectionUtils.getMethod(townBlockClass, "getTown");
+                this.getTownNameMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townClass, "getName"));
+                this.getMayorMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townClass, "getMayor"));
+                this.getResidentsMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townClass, "getResidents"));
 
-                this.getTownNameMethod = ReflectionUtils.getMethod(townClass, "getName");
-                this.getMayorMethod = ReflectionUtils.getMethod(townClass, "getMayor");
-                this.getResidentsMethod = ReflectionUtils.getMethod(townClass, "getResidents");
+                this.getResidentUUIDMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(residentClass, "getUUID"));
+
+                Class<?> townyWorldClass = ReflectionUtils.getClass("com.palmergames.bukkit.towny.object.TownyWorld");
+                this.getTownsMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townyApiClass, "getTowns"));
+                this.getTownByNameMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townyApiClass, "getTown", String.class));
+                this.getTownBlocksMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townClass, "getTownBlocks"));
+                this.getTownBlockXMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townBlockClass, "getX"));
+                this.getTownBlockZMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townBlockClass, "getZ"));
+                this.getTownBlockWorldMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townBlockClass, "getWorld"));
+                if (townyWorldClass != null) {
+                    this.getTownyWorldNameMethod = ReflectionUtils.compile(ReflectionUtils.getMethod(townyWorldClass, "getName"));
+                }
 
-                this.getResidentUUIDMethod = ReflectionUtils.getMethod(residentClass, "getUUID");
+                Class<?> settingsClass = ReflectionUtils.getClass("com.palmergames.bukkit.towny.TownySettings");
+                if (settingsClass != null) {
+                    Object size = ReflectionUtils.invoke(ReflectionUtils.getMethod(settingsClass, "getTownBlockSize"), null);
+                    if (size instanceof Integer blockSize && blockSize > 0) this.townBlockSize = blockSize;
+                }
             }
 
             this.initialized = getCachePermissionMethod != null && townyAPIInstance != null;
@@ -131,22 +207,31 @@ public class TownySafeHook implements IShieldHook {
         if (!initialized) return ShieldResponse.allow();
 
         try {
-            Object townyAction = getTownyAction(type);
-            boolean hasPermission = (boolean) ReflectionUtils.invoke(
-                    getCachePermissionMethod,
-                    null,
-                    player, location, location.getBlock().getType(), townyAction
-            );
-
-            return hasPermission ? ShieldResponse.allow() : ShieldResponse.deny(getName());
-
+            return decide(player, location, location.getBlock().getType(), type);
         } catch (Exception e) {
             return ShieldResponse.allow();
         }
     }
 
+    /**
+     * Towny'nin oyuncu önbelleği üzerinden izin kararını verir.
+     *
+     * @param material Konumdaki bloğun türü.
+     * @return Towny izin veriyorsa veya yanıt alınamadıysa {@link ShieldResponse#allow()}, vermiyorsa
+     *         {@link ShieldResponse#deny(String)}.
+     */
+    private ShieldResponse decide(Player player, Location location, Material material, InteractionType type) {
+        Object townyAction = getTownyAction(type);
+        Object result = getCachePermissionMethod.call(null, player, location, material, townyAction);
+        if (!(result instanceof Boolean hasPermission)) return ShieldResponse.allow();
+
+        return hasPermission ? ShieldResponse.allow() : ShieldResponse.deny(getName());
+    }
+
     /**
      * Belirtilen konumdaki Towny kasabası hakkında bilgi alır.
+     * Belediye başkanı ve sakinler ancak ilk erişildiklerinde okunur; kalabalık kasabalarda yalnızca ID'ye bakan
+     * sorgular sakin listesini hiç gezmez.
      *
      * @param location Bilgi alınacak konum.
      * @return Konumda bir kasaba varsa bir {@link RegionInfo} nesnesi; aksi takdirde veya bir hata oluşursa null.
@@ -156,41 +241,119 @@ public class TownySafeHook implements IShieldHook {
         if (!initialized) return null;
 
         try {
-            Object townBlock = ReflectionUtils.invoke(getTownBlockMethod, townyAPIInstance, location);
-            if (townBlock == null) return null;
+            return infoOf(townBlockAt(location));
+        } catch (Exception e) {
+            return null;
+        }
+    }
 
-            boolean hasTown = (boolean) ReflectionUtils.invoke(hasTownMethod, townBlock);
-            if (!hasTown) return null;
+    /**
+     * Konumdaki kasabaya ait arsayı bulur.
+     *
+     * @param location Konum.
+     * @return Bir kasabaya ait arsa (TownBlock) veya konum kasabasızsa null.
+     */
+    private Object townBlockAt(Location location) {
+        Object townBlock = getTownBlockMethod.call(townyAPIInstance, location);
+        if (townBlock == null) return null;
 
-            Object town = ReflectionUtils.invoke(getTownMethod, townBlock);
-            if (town == null) return null;
+        return Boolean.TRUE.equals(hasTownMethod.call(townBlock)) ? townBlock : null;
+    }
 
-            String townName = (String) ReflectionUtils.invoke(getTownNameMethod, town);
+    /**
+     * Bir kasaba arsası için tembel bir {@link RegionInfo} oluşturur.
+     *
+     * @param townBlock {@link #townBlockAt} ile bulunan arsa veya null.
+     * @return Kasaba bilgisi veya arsa ya da kasaba yoksa null.
+     */
+    private RegionInfo infoOf(Object townBlock) {
+        if (townBlock == null) return null;
 
-            List<UUID> owners = new ArrayList<>();
-            Object mayor = ReflectionUtils.invoke(getMayorMethod, town);
-            if (mayor != null && getResidentUUIDMethod != null) {
-                owners.add((UUID) ReflectionUtils.invoke(getResidentUUIDMethod, mayor));
-            }
+        Object town = getTownMethod.call(townBlock);
+        if (town == null) return null;
 
-            List<UUID> members = new ArrayList<>();
-            List<?> residentsList = (List<?>) ReflectionUtils.invoke(getResidentsMethod, town);
-            if (residentsList != null && getResidentUUIDMethod != null) {
-                for (Object resident : residentsList) {
-                    members.add((UUID) ReflectionUtils.invoke(getResidentUUIDMethod, resident));
-                }
-            }
+        return infoOfTown(town);
+    }
 
+    /**
+     * Bir kasaba için tembel bir {@link RegionInfo} oluşturur.
+     * <p>
+     * Bilgi önbelleklerde ve oyuncu oturumları boyunca saklanabildiğinden, kaynaklar Town nesnesini değil yalnızca
+     * adını yakalar; başkan ve sakinler ilk okunduklarında kasaba adıyla TownyAPI'den yeniden bulunarak okunur.
+     * Silinmiş kasabalar böylece bellekte tutulmaz ve listeler okundukları andaki kasabayı yansıtır. Ad ile
+     * aranamıyorsa listeler hemen okunur.
+     *
+     * @param town Towny Town nesnesi.
+     * @return Kasaba bilgisi.
+     */
+    private RegionInfo infoOfTown(Object town) {
+        String townName = (String) getTownNameMethod.call(town);
+        if (townName == null || getTownByNameMethod == null) {
             return RegionInfo.builder()
                     .id(townName)
                     .provider(getName())
-                    .owners(owners)
-                    .members(members)
+                    .owners(readMayor(town))
+                    .members(readResidents(town))
                     .build();
+        }
+
+        return RegionInfo.lazy(townName, getName(),
+                () -> readMayor(townByName(townName)),
+                () -> readResidents(townByName(townName)));
+    }
+
+    /**
+     * Kasabayı adıyla TownyAPI'den bulur.
+     *
+     * @return Kasaba veya silinmişse ya da bir hata oluşursa null.
+     */
+    private Object townByName(String townName) {
+        try {
+            return getTownByNameMethod.call(townyAPIInstance, townName);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Kasabanın belediye başkanını okur.
+     *
+     * @param town Towny Town nesnesi veya null.
+     * @return Başkanın UUID'sini içeren liste; kasaba veya başkan bulunamazsa boş liste, bir hata oluşursa null.
+     */
+    private List<UUID> readMayor(Object town) {
+        if (town == null) return List.of();
+        try {
+            Object mayor = getMayorMethod.call(town);
+            if (mayor == null || getResidentUUIDMethod == null) return List.of();
+
+            UUID uuid = (UUID) getResidentUUIDMethod.call(mayor);
+            return uuid != null ? List.of(uuid) : List.of();
+        } catch (Exception e) {
+            return null;
+        }
+    }
 
+    /**
+     * Kasabanın tüm sakinlerini okur.
+     *
+     * @param town Towny Town nesnesi veya null.
+     * @return Sakinlerin UUID'leri; kasaba yoksa boş liste, bir hata oluşursa kısmi bir liste yerine null.
+     */
+    private List<UUID> readResidents(Object town) {
+        List<UUID> members = new ArrayList<>();
+        if (town == null) return members;
+        try {
+            List<?> residentsList = (List<?>) getResidentsMethod.call(town);
+            if (residentsList != null && getResidentUUIDMethod != null) {
+                for (Object resident : residentsList) {
+                    members.add((UUID) getResidentUUIDMethod.call(resident));
+                }
+            }
         } catch (Exception e) {
             return null;
         }
+        return members;
     }
 
     /**
@@ -204,39 +367,132 @@ public class TownySafeHook implements IShieldHook {
     public RegionBounds getRegionBounds(Location location) {
         if (!initialized) return null;
 
-        World world = location.getWorld();
-        if (world == null) return null;
+        if (location.getWorld() == null) return null;
 
         try {
-            Object townBlock = ReflectionUtils.invoke(getTownBlockMethod, townyAPIInstance, location);
-            if (townBlock == null) return null;
-
-            boolean hasTown = (boolean) ReflectionUtils.invoke(hasTownMethod, townBlock);
-            if (!hasTown) return null;
-
-            org.bukkit.Chunk chunk = location.getChunk();
-
-            int minX = chunk.getX() * 16;
-            int minZ = chunk.getZ() * 16;
-            int minY = 0;
-            try {
-                minY = world.getMinHeight();
-            } catch (NoSuchMethodError ignored) { }
+            return boundsOf(townBlockAt(location), location);
+        } catch (Exception e) {
+            return null;
+        }
+    }
 
-            int maxX = minX + 15;
-            int maxZ = minZ + 15;
-            int maxY = world.getMaxHeight();
+    /**
+     * Konumdaki kasaba arsasını bir kez bulur; kasaba bilgisi ve arsa sınırları bu arsadan çıkarılır. Kararlar
+     * {@link #check} ile aynı şekilde Towny'nin oyuncu önbelleğinden alınır; bloğun türü tüm türler için bir kez okunur.
+     *
+     * @param player   Kararların verileceği oyuncu; {@code null} ise karar değerlendirilmez.
+     * @param location Sorgulanan konum.
+     * @param types    Karar istenen etkileşim türleri.
+     * @return Konumun anlık görüntüsü.
+     */
+    @Override
+    public RegionSnapshot getRegionSnapshot(Player player, Location location, Set<InteractionType> types) {
+        if (!initialized) return IShieldHook.super.getRegionSnapshot(player, location, types);
+
+        Map<InteractionType, ShieldResponse> decisions = new EnumMap<>(InteractionType.class);
+        if (player != null && !types.isEmpty()) {
+            Material material = location.getBlock().getType();
+            for (InteractionType type : types) {
+                ShieldResponse response;
+                try {
+                    response = decide(player, location, material, type);
+                } catch (Exception e) {
+                    response = ShieldResponse.allow();
+                }
+                decisions.put(type, response);
+            }
+        }
 
-            Location min = new Location(world, minX, minY, minZ);
-            Location max = new Location(world, maxX, maxY, maxZ);
+        Object townBlock = null;
+        RegionInfo info = null;
+        RegionBounds bounds = null;
+        try {
+            townBlock = townBlockAt(location);
+            info = infoOf(townBlock);
+        } catch (Exception ignored) {}
+        try {
+            if (location.getWorld() != null) bounds = boundsOf(townBlock, location);
+        } catch (Exception ignored) {}
+        return new RegionSnapshot(info, bounds, decisions);
+    }
 
-            return new RegionBounds(min, max);
+    /**
+     * Tüm kasabaların bu dünyadaki arsalarını döndürür. Her arsa ayrı bir alandır; aynı kasabanın arsaları
+     * kasaba başına bir kez oluşturulan aynı {@link RegionInfo} nesnesini paylaşır. Arsalar dünyanın tüm
+     * yüksekliğini kaplar.
+     *
+     * @param world Arsaları istenen dünya.
+     * @return Dünyadaki arsalar veya kasaba listesi okunamazsa {@code null}.
+     */
+    @Override
+    public Collection<RegionArea> getRegionAreas(World world) {
+        if (!initialized || getTownsMethod == null || getTownBlocksMethod == null || getTownBlockXMethod == null
+                || getTownBlockZMethod == null || getTownBlockWorldMethod == null || getTownyWorldNameMethod == null) {
+            return null;
+        }
 
+        try {
+            Object towns = getTownsMethod.call(townyAPIInstance);
+            if (!(towns instanceof Collection<?> townList)) return null;
+
+            int minY = world.getMinHeight();
+            int maxY = world.getMaxHeight() - 1;
+            List<RegionArea> areas = new ArrayList<>();
+            for (Object town : townList) {
+                RegionInfo info = null;
+                Object townBlocks = getTownBlocksMethod.call(town);
+                if (!(townBlocks instanceof Collection<?> blocks)) continue;
+
+                for (Object townBlock : blocks) {
+                    Object townyWorld = getTownBlockWorldMethod.call(townBlock);
+                    if (townyWorld == null || !world.getName().equals(getTownyWorldNameMethod.call(townyWorld))) continue;
+
+                    if (!(getTownBlockXMethod.call(townBlock) instanceof Integer blockX)
+                            || !(getTownBlockZMethod.call(townBlock) instanceof Integer blockZ)) continue;
+
+                    if (info == null) info = infoOfTown(town);
+                    int minX = blockX * townBlockSize;
+                    int minZ = blockZ * townBlockSize;
+                    areas.add(new RegionArea(info, world, minX, minY, minZ,
+                            minX + townBlockSize - 1, maxY, minZ + townBlockSize - 1));
+                }
+            }
+            return areas;
         } catch (Exception e) {
             return null;
         }
     }
 
+    /**
+     * Towny arsaları chunk tabanlı olduğundan, arsanın bulunduğu tüm chunk'ın sınırlarını döndürür.
+     *
+     * @param townBlock {@link #townBlockAt} ile bulunan arsa veya null.
+     * @param location  Arsanın içindeki, dünyası boş olmayan konum.
+     * @return Chunk'ın sınırları veya arsa yoksa null.
+     */
+    private RegionBounds boundsOf(Object townBlock, Location location) {
+        if (townBlock == null) return null;
+
+        World world = location.getWorld();
+        org.bukkit.Chunk chunk = location.getChunk();
+
+        int minX = chunk.getX() * 16;
+        int minZ = chunk.getZ() * 16;
+        int minY = 0;
+        try {
+            minY = world.getMinHeight();
+        } catch (NoSuchMethodError ignored) { }
+
+        int maxX = minX + 15;
+        int maxZ = minZ + 15;
+        int maxY = world.getMaxHeight();
+
+        Location min = new Location(world, minX, minY, minZ);
+        Location max = new Location(world, maxX, maxY, maxZ);
+
+        return new RegionBounds(min, max);
+    }
+
     /**
      * RegionShield'ın {@link InteractionType} enum'unu Towny'nin {@code ActionType} enum nesnesine çevirir.
      *
@@ -262,4 +518,78 @@ public class TownySafeHook implements IShieldHook {
                 return actionBuild;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Kasaba, arsa ve sakin değişiklikleri olaylarla bildirildiğinden (bkz. {@link #onRegister}) inşa ve etkileşim
+     * kararları 5 saniye önbelleğe alınır. Savaş durumu ve kuşatmalar gibi olay bildirmeden değişebilen verilere
+     * bağlı olan savaş türleri (PvP, yaratık ve varlık hasarı) hiç önbelleğe alınmaz.
+     *
+     * @return Savaş türleri önbelleğe alınmayan yetenek tanımı.
+     */
+    @Override
+    public HookCapabilities getCapabilities() {
+        return CAPABILITIES;
+    }
+
+    /**
+     * Towny'nin kasaba ve arsa olaylarını dinlemeye başlar. Arsa sahiplenme ve bırakma ile arsa sahibi, türü ve
+     * izin ayarı olaylarında yalnızca olayın taşıdığı arsanın alanı geçersiz kılınır. Kasaba kurma/silme/yeniden
+     * adlandırma ile sakin ve rütbe değişiklikleri kasabanın tüm arsalarını etkilediğinden tüm önbelleği temizler.
+     *
+     * @param plugin      Dinleyicilerin adına kaydedileceği eklenti.
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     */
+    @Override
+    public void onRegister(Plugin plugin, IRegionInvalidator invalidator) {
+        this.events = new HookEventBridge(plugin);
+        events.listen(event -> invalidateTownBlock(event, invalidator), TOWN_BLOCK_EVENTS);
+        events.listen(event -> invalidator.invalidateAll(), TOWN_EVENTS);
+    }
+
+    /**
+     * Olayın taşıdığı arsanın alanını geçersiz kılar. Arsa, olayın {@code getWorldCoord()} (arsa bırakma) veya
+     * {@code getTownBlock()} metodundan okunur. Kasaba veya dünya genelindeki ayar değişiklikleri gibi arsa
+     * taşımayan olaylarda tüm önbellek temizlenir.
+     */
+    private void invalidateTownBlock(Event event, IRegionInvalidator invalidator) {
+        Object coord = ReflectionUtils.invoke(ReflectionUtils.getMethod(event.getClass(), "getWorldCoord"), event);
+        if (coord == null) {
+            Object townBlock = ReflectionUtils.invoke(ReflectionUtils.getMethod(event.getClass(), "getTownBlock"), event);
+            if (townBlock != null) {
+                coord = ReflectionUtils.invoke(ReflectionUtils.getMethod(townBlock.getClass(), "getWorldCoord"), townBlock);
+            }
+        }
+
+        if (!invalidateCoord(coord, invalidator)) invalidator.invalidateAll();
+    }
+
+    /**
+     * Towny {@code WorldCoord} nesnesinin gösterdiği arsanın blok alanını geçersiz kılar.
+     *
+     * @return Koordinat ve dünya okunabildiyse {@code true}.
+     */
+    private boolean invalidateCoord(Object coord, IRegionInvalidator invalidator) {
+        if (coord == null) return false;
+
+        Class<?> coordClass = coord.getClass();
+        Object worldName = ReflectionUtils.invoke(ReflectionUtils.getMethod(coordClass, "getWorldName"), coord);
+        Object x = ReflectionUtils.invoke(ReflectionUtils.getMethod(coordClass, "getX"), coord);
+        Object z = ReflectionUtils.invoke(ReflectionUtils.getMethod(coordClass, "getZ"), coord);
+        World world = worldName instanceof String name ? Bukkit.getWorld(name) : null;
+        if (world == null || !(x instanceof Integer blockX) || !(z instanceof Integer blockZ)) return false;
+
+        int minX = blockX * townBlockSize;
+        int minZ = blockZ * townBlockSize;
+        invalidator.invalidateArea(world, minX, minZ, minX + townBlockSize - 1, minZ + townBlockSize - 1);
+        return true;
+    }
+
+    /**
+     * Olayların dinlenmesini durdurur.
+     */
+    @Override
+    public void onUnregister() {
+        if (events != null) events.close();
+        events = null;
+    }
+}
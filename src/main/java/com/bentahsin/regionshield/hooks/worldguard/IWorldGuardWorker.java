@@ -1,10 +1,20 @@
 package com.bentahsin.regionshield.hooks.worldguard;
 
+import com.bentahsin.regionshield.api.RegionSnapshot;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
 import com.bentahsin.regionshield.model.RegionBounds;
+import com.bentahsin.regionshield.model.RegionInfo;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 /**
  * WorldGuard eklentisinin farklı sürümleriyle etkileşim kurmak için bir sözleşme (contract) tanımlar.
  * <p>
@@ -25,6 +35,17 @@ public interface IWorldGuardWorker {
      */
     boolean canBuild(Player player, Location location, InteractionType type);
 
+    /**
+     * Birden çok konum için izin kontrolünü tek seferde gerçekleştirir.
+     * Reddedilen konumların indeksleri {@code denied} kümesinde işaretlenir; zaten işaretli konumlar atlanır.
+     *
+     * @param player    Eylemi gerçekleştiren oyuncu.
+     * @param locations Kontrol edilecek konumlar.
+     * @param type      Gerçekleştirilen etkileşimin türü.
+     * @param denied    Reddedilen konumların işaretleneceği bit kümesi.
+     */
+    void canBuildBatch(Player player, List<Location> locations, InteractionType type, BitSet denied);
+
     /**
      * Belirtilen bir konumdaki en yüksek öncelikli bölgenin fiziksel sınırlarını (sınır kutusunu) alır.
      *
@@ -33,4 +54,67 @@ public interface IWorldGuardWorker {
      *         konumda bir bölge bulunamazsa {@code null}.
      */
     RegionBounds getRegionBounds(Location loc);
-}
\ No newline at end of file
+
+    /**
+     * Belirtilen bir konumdaki en yüksek öncelikli bölgenin bilgilerini (ID, sahipler, üyeler) alır.
+     *
+     * @param location Bilgi alınacak konum.
+     * @param provider Bölge bilgisinde kullanılacak sağlayıcı adı.
+     * @return Konumda bir bölge varsa bir {@link RegionInfo} nesnesi, aksi takdirde {@code null}.
+     */
+    RegionInfo getRegionInfo(Location location, String provider);
+
+    /**
+     * Konumdaki bölge kümesini bir kez çözerek istenen türlerin kararlarını, en yüksek öncelikli bölgenin
+     * bilgisini ve sınırlarını birlikte döndürür.
+     *
+     * @param player   Kararların verileceği oyuncu; {@code null} ise karar değerlendirilmez.
+     * @param location Sorgulanan konum.
+     * @param types    Karar istenen etkileşim türleri.
+     * @param provider Bölge bilgisinde ve ret kararlarında kullanılacak sağlayıcı adı.
+     * @return Konumun anlık görüntüsü.
+     */
+    RegionSnapshot getRegionSnapshot(Player player, Location location, Set<InteractionType> types, String provider);
+
+    /**
+     * Dünyadaki tüm bölgeleri (küresel bölge hariç) sınır kutularıyla birlikte döndürür.
+     *
+     * @param world    Bölgeleri istenen dünya.
+     * @param provider Bölge bilgilerinde kullanılacak sağlayıcı adı.
+     * @return Dünyadaki bölgeler; dünyada bölge yöneticisi yoksa boş.
+     */
+    Collection<RegionArea> getRegionAreas(World world, String provider);
+
+    /**
+     * Belirtilen konumu kapsayan tüm bölgelerin kimliklerinden kararlı bir parmak izi üretir.
+     * Aynı bölge kümesine sahip konumlar aynı değeri döndürür.
+     *
+     * @param loc Parmak izi alınacak konum.
+     * @return Konumdaki bölge kümesinin parmak izi.
+     */
+    long getRegionFingerprint(Location loc);
+
+    /**
+     * Verilen chunk sütunuyla kesişen hiçbir bölge bulunmadığını ve küresel bölgenin (__global__) de
+     * varsayılan kuralları değiştirmediğini kontrol eder. Asenkron thread'lerden çağrılabilir.
+     *
+     * @param world  Chunk'ın bulunduğu dünya.
+     * @param chunkX Chunk'ın X koordinatı.
+     * @param chunkZ Chunk'ın Z koordinatı.
+     * @return Chunk WorldGuard açısından tamamen boşsa {@code true}.
+     */
+    boolean isChunkEmpty(World world, int chunkX, int chunkZ);
+
+    /**
+     * Oyuncu için saklanan sürüm bağımlı verileri (örn: WorldGuard'ın oyuncu karşılığı) atar.
+     * Oyuncu sunucudan çıktığında çağrılır.
+     *
+     * @param playerId Oyuncunun UUID'si.
+     */
+    void forgetPlayer(UUID playerId);
+
+    /**
+     * Tüm oyuncular için saklanan verileri atar. Hook kaydı kaldırılırken çağrılır.
+     */
+    void forgetAll();
+}
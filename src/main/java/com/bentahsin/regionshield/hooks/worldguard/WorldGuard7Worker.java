@@ -1,28 +1,60 @@
 package com.bentahsin.regionshield.hooks.worldguard;
 
+import com.bentahsin.regionshield.api.RegionSnapshot;
+import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.internal.DecisionKeys;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
 import com.bentahsin.regionshield.model.RegionBounds;
+import com.bentahsin.regionshield.model.RegionInfo;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.LocalPlayer;
 import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.bukkit.WorldGuardPlugin;
+import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.flags.Flags;
 import com.sk89q.worldguard.protection.flags.StateFlag;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionContainer;
 import com.sk89q.worldguard.protection.regions.RegionQuery;
+import com.sk89q.worldguard.protection.regions.RegionType;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * WorldGuard 7 ve üzeri sürümlerin API'si ile doğrudan etkileşim kuran {@link IWorldGuardWorker} arayüzünün bir uygulamasıdır.
  * <p>
  * Bu sınıf, WorldGuard'ın modern API'sini kullanarak izin kontrolleri ve bölge bilgisi sorgulamaları yapar.
  * Sürüm bağımlı tüm mantık burada merkezileştirilmiştir.
+ * <p>
+ * Bölge kabı (container) ve sorgu nesnesi ilk kullanımda bir kez oluşturulup tüm kontroller boyunca paylaşılır.
+ * Oyuncuların WorldGuard karşılıkları ({@link LocalPlayer}) da oturum boyunca saklanır ve oyuncu çıktığında
+ * {@link #forgetPlayer(UUID)} ile atılır. Sınıf WorldGuard yüklü değilken de oluşturulabilir; WorldGuard
+ * sınıflarına yalnızca metotlar çağrıldığında erişilir.
  */
 public class WorldGuard7Worker implements IWorldGuardWorker {
 
+    private final Map<UUID, CachedPlayer> localPlayers = new ConcurrentHashMap<>();
+
+    private volatile RegionContainer container;
+    private volatile RegionQuery query;
+
     /**
      * WorldGuard 7 API'sini kullanarak bir oyuncunun belirli bir konumda bir eylemi gerçekleştirip gerçekleştiremeyeceğini kontrol eder.
      *
@@ -34,12 +66,160 @@ public class WorldGuard7Worker implements IWorldGuardWorker {
     @Override
     public boolean canBuild(Player player, Location location, InteractionType type) {
         com.sk89q.worldedit.util.Location weLoc = BukkitAdapter.adapt(location);
-        RegionQuery query = WorldGuard.getInstance().getPlatform().getRegionContainer().createQuery();
-        com.sk89q.worldguard.LocalPlayer localPlayer = WorldGuardPlugin.inst().wrapPlayer(player);
+        StateFlag flag = getFlag(type);
+
+        return query().testState(weLoc, localPlayer(player), flag);
+    }
 
+    /**
+     * Birden çok konumu tek bir sorgu nesnesi ve tek bir {@code LocalPlayer} ile değerlendirir.
+     * <p>
+     * Her chunk sütunu için o chunk ile kesişen bölgeler yalnızca bir kez çözülür. Ardından her konum için
+     * yalnızca bu aday bölgeler üzerinde ucuz bir {@code contains} testi yapılır. WorldGuard kararı, konumu
+     * kapsayan bölge kümesine bağlı olduğundan, aynı bölge kümesine düşen konumlar için bayrak değerlendirmesi
+     * ({@code testState}) yalnızca bir kez yapılır ve sonucu paylaşılır.
+     *
+     * @param player    Kontrol edilecek oyuncu.
+     * @param locations Kontrol edilecek konumlar.
+     * @param type      Gerçekleştirilecek eylemin türü.
+     * @param denied    Reddedilen konumların işaretleneceği bit kümesi.
+     */
+    @Override
+    public void canBuildBatch(Player player, List<Location> locations, InteractionType type, BitSet denied) {
+        RegionContainer regionContainer = container();
+        RegionQuery query = query();
+        LocalPlayer localPlayer = localPlayer(player);
         StateFlag flag = getFlag(type);
 
-        return query.testState(weLoc, localPlayer, flag);
+        Map<ChunkKey, List<ProtectedRegion>> chunkCandidates = new HashMap<>();
+        Map<RegionSetKey, Boolean> decisions = new HashMap<>();
+
+        for (int i = denied.nextClearBit(0); i < locations.size(); i = denied.nextClearBit(i + 1)) {
+            Location location = locations.get(i);
+            World world = location.getWorld();
+            if (world == null) continue;
+
+            com.sk89q.worldedit.util.Location weLoc = BukkitAdapter.adapt(location);
+            RegionManager manager = regionContainer.get(BukkitAdapter.adapt(world));
+            if (manager == null) {
+                if (!query.testState(weLoc, localPlayer, flag)) denied.set(i);
+                continue;
+            }
+
+            int chunkX = location.getBlockX() >> 4;
+            int chunkZ = location.getBlockZ() >> 4;
+            List<ProtectedRegion> candidates = chunkCandidates.computeIfAbsent(
+                    new ChunkKey(world.getUID(), chunkX, chunkZ),
+                    key -> regionsInChunk(manager, world, chunkX, chunkZ));
+
+            BlockVector3 point = BlockVector3.at(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+            List<ProtectedRegion> containing = new ArrayList<>(candidates.size());
+            for (ProtectedRegion region : candidates) {
+                if (region.contains(point)) containing.add(region);
+            }
+
+            RegionSetKey setKey = new RegionSetKey(world.getUID(), containing);
+            Boolean allowed = decisions.get(setKey);
+            if (allowed == null) {
+                allowed = query.testState(weLoc, localPlayer, flag);
+                decisions.put(setKey, allowed);
+            }
+            if (!allowed) denied.set(i);
+        }
+    }
+
+    /**
+     * Oyuncunun saklanan {@link LocalPlayer} karşılığını atar.
+     *
+     * @param playerId Sunucudan çıkan oyuncunun UUID'si.
+     */
+    @Override
+    public void forgetPlayer(UUID playerId) {
+        localPlayers.remove(playerId);
+    }
+
+    /**
+     * Saklanan tüm {@link LocalPlayer} karşılıklarını atar.
+     */
+    @Override
+    public void forgetAll() {
+        localPlayers.clear();
+    }
+
+    /**
+     * @return WorldGuard'ın bölge kabı; ilk çağrıda alınır.
+     */
+    private RegionContainer container() {
+        RegionContainer current = container;
+        if (current == null) {
+            current = WorldGuard.getInstance().getPlatform().getRegionContainer();
+            container = current;
+        }
+        return current;
+    }
+
+    /**
+     * Tüm kontrollerde paylaşılan sorgu nesnesini döndürür. Sorgu nesnesi durumsuzdur ve kabın sorgu önbelleğini
+     * kullanır; iki thread aynı anda ilk çağrıyı yaparsa fazladan oluşturulan nesne zararsızdır.
+     *
+     * @return Paylaşılan sorgu nesnesi.
+     */
+    private RegionQuery query() {
+        RegionQuery current = query;
+        if (current == null) {
+            current = container().createQuery();
+            query = current;
+        }
+        return current;
+    }
+
+    /**
+     * Oyuncunun WorldGuard karşılığını döndürür. Aynı UUID ile yeniden giriş yapan oyuncunun {@link Player}
+     * nesnesi değiştiğinden, saklanan karşılık yalnızca aynı nesne için kullanılır.
+     *
+     * @param player Oyuncu.
+     * @return Oyuncunun {@link LocalPlayer} karşılığı.
+     */
+    private LocalPlayer localPlayer(Player player) {
+        CachedPlayer cached = localPlayers.get(player.getUniqueId());
+        if (cached != null && cached.player() == player) return cached.localPlayer();
+
+        LocalPlayer wrapped = WorldGuardPlugin.inst().wrapPlayer(player);
+        localPlayers.put(player.getUniqueId(), new CachedPlayer(player, wrapped));
+        return wrapped;
+    }
+
+    /**
+     * Chunk sütunuyla kesişen bir bölge olup olmadığını bölge yöneticisinin uzamsal indeksi üzerinden kontrol eder.
+     * Küresel bölgede (__global__) herhangi bir bayrak, sahip veya üye tanımlıysa vahşi doğa kuralları değişmiş
+     * sayılır ve chunk boş kabul edilmez. WorldGuard bölge yöneticileri eşzamanlı okumaya dayanıklıdır.
+     *
+     * @param world  Chunk'ın bulunduğu dünya.
+     * @param chunkX Chunk'ın X koordinatı.
+     * @param chunkZ Chunk'ın Z koordinatı.
+     * @return Chunk WorldGuard açısından tamamen boşsa {@code true}.
+     */
+    @Override
+    public boolean isChunkEmpty(World world, int chunkX, int chunkZ) {
+        RegionManager manager = container().get(BukkitAdapter.adapt(world));
+        if (manager == null) return false;
+
+        ProtectedRegion global = manager.getRegion(ProtectedRegion.GLOBAL_REGION);
+        if (global != null && (!global.getFlags().isEmpty() || global.getOwners().size() > 0 || global.getMembers().size() > 0)) {
+            return false;
+        }
+
+        return regionsInChunk(manager, world, chunkX, chunkZ).isEmpty();
+    }
+
+    /**
+     * Verilen chunk sütunu (dünyanın tüm yüksekliği boyunca) ile kesişen bölgeleri döndürür.
+     */
+    private List<ProtectedRegion> regionsInChunk(RegionManager manager, World world, int chunkX, int chunkZ) {
+        BlockVector3 min = BlockVector3.at(chunkX << 4, world.getMinHeight(), chunkZ << 4);
+        BlockVector3 max = BlockVector3.at((chunkX << 4) + 15, world.getMaxHeight() - 1, (chunkZ << 4) + 15);
+        ProtectedCuboidRegion probe = new ProtectedCuboidRegion("__regionshield_probe__", min, max);
+        return new ArrayList<>(manager.getApplicableRegions(probe).getRegions());
     }
 
     /**
@@ -83,24 +263,169 @@ public class WorldGuard7Worker implements IWorldGuardWorker {
      */
     public RegionBounds getRegionBounds(Location location) {
         com.sk89q.worldedit.util.Location weLoc = BukkitAdapter.adapt(location);
-        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
-        com.sk89q.worldguard.protection.managers.RegionManager manager = container.get((com.sk89q.worldedit.world.World) weLoc.getExtent());
+        RegionManager manager = container().get((com.sk89q.worldedit.world.World) weLoc.getExtent());
+
+        if (manager == null) return null;
+
+        ApplicableRegionSet set = manager.getApplicableRegions(weLoc.toVector().toBlockPoint());
+
+        ProtectedRegion region = topRegion(set);
+        return region != null ? boundsOf(region, location.getWorld()) : null;
+    }
+
+    /**
+     * Belirtilen konumdaki en yüksek öncelikli WorldGuard bölgesinin bilgilerini alır.
+     *
+     * @param location Bilgi alınacak konum.
+     * @param provider Bölge bilgisinde kullanılacak sağlayıcı adı.
+     * @return Konumda bir bölge varsa bir {@link RegionInfo} nesnesi, aksi takdirde null.
+     */
+    @Override
+    public RegionInfo getRegionInfo(Location location, String provider) {
+        com.sk89q.worldedit.util.Location weLoc = BukkitAdapter.adapt(location);
+        RegionManager manager = container().get((com.sk89q.worldedit.world.World) weLoc.getExtent());
 
         if (manager == null) return null;
 
-        com.sk89q.worldguard.protection.ApplicableRegionSet set = manager.getApplicableRegions(weLoc.toVector().toBlockPoint());
+        ApplicableRegionSet set = manager.getApplicableRegions(weLoc.toVector().toBlockPoint());
+
+        ProtectedRegion region = topRegion(set);
+        return region != null ? infoOf(region, provider) : null;
+    }
+
+    /**
+     * Konumun bölge kümesini paylaşılan sorgu nesnesi üzerinden bir kez çözer ve istenen türlerin kararlarını,
+     * bölge bilgisini ve sınırlarını bu kümeden çıkarır. Sorgu nesnesi kümeyi bölge yöneticisiyle aynı şekilde
+     * (üst bölgeler dahil) hesapladığından sonuçlar {@link #canBuild}, {@link #getRegionBounds} ve hook'un
+     * {@code getRegionInfo} metoduyla aynıdır.
+     *
+     * @param player   Kararların verileceği oyuncu; {@code null} ise karar değerlendirilmez.
+     * @param location Sorgulanan konum.
+     * @param types    Karar istenen etkileşim türleri.
+     * @param provider Bölge bilgisinde ve ret kararlarında kullanılacak sağlayıcı adı.
+     * @return Konumun anlık görüntüsü.
+     */
+    @Override
+    public RegionSnapshot getRegionSnapshot(Player player, Location location, Set<InteractionType> types, String provider) {
+        com.sk89q.worldedit.util.Location weLoc = BukkitAdapter.adapt(location);
+        ApplicableRegionSet set = query().getApplicableRegions(weLoc);
+
+        Map<InteractionType, ShieldResponse> decisions = new EnumMap<>(InteractionType.class);
+        if (player != null && !types.isEmpty()) {
+            LocalPlayer localPlayer = localPlayer(player);
+            for (InteractionType type : types) {
+                boolean allowed = set.testState(localPlayer, getFlag(type));
+                decisions.put(type, allowed ? ShieldResponse.allow() : ShieldResponse.deny(provider));
+            }
+        }
+
+        ProtectedRegion region = topRegion(set);
+        if (region == null) return new RegionSnapshot(null, null, decisions);
+
+        return new RegionSnapshot(infoOf(region, provider), boundsOf(region, location.getWorld()), decisions);
+    }
+
+    /**
+     * Dünyanın bölge yöneticisindeki tüm bölgeleri, sınır kutularıyla birlikte döndürür. Alan kaplamayan küresel
+     * bölge (__global__) atlanır; çokgen bölgeler sınır kutularıyla temsil edilir.
+     *
+     * @param world    Bölgeleri istenen dünya.
+     * @param provider Bölge bilgilerinde kullanılacak sağlayıcı adı.
+     * @return Dünyadaki bölgeler; dünyada bölge yöneticisi yoksa boş.
+     */
+    @Override
+    public Collection<RegionArea> getRegionAreas(World world, String provider) {
+        RegionManager manager = container().get(BukkitAdapter.adapt(world));
+        if (manager == null) return List.of();
+
+        List<RegionArea> areas = new ArrayList<>();
+        for (ProtectedRegion region : manager.getRegions().values()) {
+            if (region.getType() == RegionType.GLOBAL) continue;
+
+            BlockVector3 min = region.getMinimumPoint();
+            BlockVector3 max = region.getMaximumPoint();
+            areas.add(new RegionArea(infoOf(region, provider), world,
+                    min.x(), min.y(), min.z(), max.x(), max.y(), max.z()));
+        }
+        return areas;
+    }
 
-        if (set.size() == 0) return null;
+    /**
+     * Kümedeki en yüksek öncelikli bölgeyi {@link WorldGuardRegionIndex#RANK_ORDER} sırasına göre seçer; böylece
+     * sonuç, indeksin hazır olup olmamasından bağımsızdır. Küresel bölge atlanır.
+     *
+     * @return En yüksek öncelikli bölge veya kümede bölge yoksa null.
+     */
+    private static ProtectedRegion topRegion(ApplicableRegionSet set) {
+        ProtectedRegion top = null;
+        for (ProtectedRegion region : set.getRegions()) {
+            if (region.getType() == RegionType.GLOBAL) continue;
+            if (top == null || WorldGuardRegionIndex.RANK_ORDER.compare(region, top) < 0) top = region;
+        }
+        return top;
+    }
 
-        ProtectedRegion region = set.getRegions().iterator().next();
+    /**
+     * Bir WorldGuard bölgesini havuzlanmış bir {@link RegionInfo} nesnesine çevirir.
+     */
+    private static RegionInfo infoOf(ProtectedRegion region, String provider) {
+        return RegionInfo.builder()
+                .id(region.getId())
+                .provider(provider)
+                .owners(region.getOwners().getUniqueIds())
+                .members(region.getMembers().getUniqueIds())
+                .build();
+    }
 
+    /**
+     * Bir WorldGuard bölgesinin sınır kutusunu {@link RegionBounds} nesnesine çevirir.
+     */
+    private static RegionBounds boundsOf(ProtectedRegion region, World world) {
         BlockVector3 min = region.getMinimumPoint();
         BlockVector3 max = region.getMaximumPoint();
-        World world = location.getWorld();
 
         Location locMin = new Location(world, min.x(), min.y(), min.z());
         Location locMax = new Location(world, max.x(), max.y(), max.z());
 
         return new RegionBounds(locMin, locMax);
     }
+
+    /**
+     * Belirtilen konumu kapsayan tüm WorldGuard bölgelerinin ID'lerini sırayla birleştirerek bir parmak izi üretir.
+     * Küresel bölge (__global__) dünyadaki her konum için aynı olduğundan hesaba katılmasına gerek yoktur.
+     *
+     * @param location Parmak izi alınacak konum.
+     * @return Bölge kümesinin parmak izi. Dünyada bölge yöneticisi yoksa sabit başlangıç değeri döner.
+     */
+    @Override
+    public long getRegionFingerprint(Location location) {
+        com.sk89q.worldedit.util.Location weLoc = BukkitAdapter.adapt(location);
+        RegionManager manager = container().get((com.sk89q.worldedit.world.World) weLoc.getExtent());
+
+        long fingerprint = DecisionKeys.FINGERPRINT_SEED;
+        if (manager == null) return fingerprint;
+
+        for (ProtectedRegion region : manager.getApplicableRegions(weLoc.toVector().toBlockPoint())) {
+            fingerprint = DecisionKeys.mix(fingerprint, DecisionKeys.fingerprint(region.getId()));
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Oturum boyunca saklanan bir {@link LocalPlayer} ve sarmaladığı {@link Player} nesnesi.
+     */
+    @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+    private record CachedPlayer(Player player, LocalPlayer localPlayer) {}
+
+    /**
+     * Toplu kontrolde chunk bazlı aday bölge listelerini tutmak için kullanılan anahtar.
+     */
+    private record ChunkKey(UUID world, int x, int z) {}
+
+    /**
+     * Toplu kontrolde, aynı bölge kümesine düşen konumların kararını paylaşmak için kullanılan anahtar.
+     * Bölge ID'leri dünya başına benzersiz olduğundan dünya da anahtara dahildir.
+     */
+    @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+    private record RegionSetKey(UUID world, List<ProtectedRegion> regions) {}
 }
\ No newline at end of file
@@ -0,0 +1,226 @@
+package com.bentahsin.regionshield.hooks.worldguard;
+
+import com.bentahsin.regionshield.api.IRegionInvalidator;
+import com.bentahsin.regionshield.internal.DecisionKeys;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.WorldGuard;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import com.sk89q.worldguard.protection.regions.RegionContainer;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * WorldGuard bölgelerindeki değişiklikleri tespit edip {@link IRegionInvalidator}'a bildiren periyodik görev.
+ * <p>
+ * WorldGuard 7, bölge ekleme, silme veya bayrak değişiklikleri için Bukkit olayı sunmaz. Bu görev her çalıştığında
+ * her dünyanın bölgeleri için sınırları, önceliği, bayrakları, sahip/üye listeleri ve ebeveyn bölgeyi kapsayan
+ * küçük bir imza hesaplar ve bir önceki çalışmayla karşılaştırır:
+ * <ul>
+ *     <li>İmzası değişen, eklenen veya silinen bölgelerin eski ve yeni sınırları geçersiz kılınır.</li>
+ *     <li>Küresel bölge (__global__) veya başka bölgelerin ebeveyni olan bir bölge değiştiyse tüm dünya geçersiz
+ *     kılınır; bu değişikliklerin etkisi bölgenin kendi sınırlarıyla sınırlı değildir.</li>
+ * </ul>
+ * Görev ana thread'de zamanlanır ({@link #start}); her çalışmada yalnızca yüklü dünyaların ve bölge yöneticilerinin
+ * listesi ana thread'de alınır. Bukkit'in dünya listesi thread-safe olmadığından bu adım asenkron yapılamaz.
+ * İmzaların hesaplanması ve karşılaştırma ise, bölge yöneticileri eşzamanlı okumaya dayanıklı olduğundan, bu
+ * listeyle asenkron thread'de yapılır. Önceki tarama bitmeden yeni bir tarama başlatılmaz.
+ * <p>
+ * İsteğe bağlı bir dinleyici, her dünya ilk tarandığında ve bölgeleri değiştiğinde bölge yöneticisiyle birlikte
+ * bilgilendirilir; {@link WorldGuardIndexedWorker} indekslerini bu şekilde yeniler.
+ */
+public class WorldGuardChangeWatcher extends BukkitRunnable {
+
+    private final IRegionInvalidator invalidator;
+    private final BiConsumer<World, RegionManager> onChange;
+    private final Map<UUID, Map<String, RegionStamp>> previous = new HashMap<>();
+    private final AtomicBoolean scanning = new AtomicBoolean();
+    private Plugin plugin;
+
+    /**
+     * Yeni bir değişiklik izleyicisi oluşturur.
+     *
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     */
+    public WorldGuardChangeWatcher(IRegionInvalidator invalidator) {
+        this(invalidator, null);
+    }
+
+    /**
+     * Yeni bir değişiklik izleyicisi oluşturur.
+     *
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     * @param onChange    Bir dünya ilk kez tarandığında veya bölgeleri değiştiğinde, önbellekler geçersiz kılınmadan
+     *                    önce dünya ve bölge yöneticisiyle çağrılır; yönetici kaldırıldıysa {@code null} verilir.
+     *                    Asenkron tarama thread'inde çalışır. {@code null} olabilir.
+     */
+    public WorldGuardChangeWatcher(IRegionInvalidator invalidator, BiConsumer<World, RegionManager> onChange) {
+        this.invalidator = invalidator;
+        this.onChange = onChange;
+    }
+
+    /**
+     * İzleyiciyi ana thread'de periyodik olarak çalışacak şekilde zamanlar. Taramalar asenkron yapılır.
+     *
+     * @param plugin Görevlerin sahibi olacak eklenti.
+     * @param delay  İlk çalışmadan önceki bekleme (tick).
+     * @param period Çalışmalar arasındaki süre (tick).
+     */
+    public void start(Plugin plugin, long delay, long period) {
+        this.plugin = plugin;
+        runTaskTimer(plugin, delay, period);
+    }
+
+    /**
+     * Ana thread'de yüklü dünyaların bölge yöneticilerini toplar ve taramayı asenkron thread'e devreder.
+     */
+    @Override
+    public void run() {
+        if (!scanning.compareAndSet(false, true)) return;
+
+        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
+        Map<World, RegionManager> managers = new LinkedHashMap<>();
+        for (World world : Bukkit.getWorlds()) {
+            managers.put(world, container.get(BukkitAdapter.adapt(world)));
+        }
+
+        try {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    scan(managers);
+                } finally {
+                    scanning.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            scanning.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * Ana thread'de alınan dünya/bölge yöneticisi listesinin bölgelerini tarar ve değişiklikleri bildirir.
+     */
+    private void scan(Map<World, RegionManager> managers) {
+        for (Map.Entry<World, RegionManager> pair : managers.entrySet()) {
+            World world = pair.getKey();
+            RegionManager manager = pair.getValue();
+            if (manager == null) {
+                if (previous.remove(world.getUID()) != null && onChange != null) onChange.accept(world, null);
+                continue;
+            }
+
+            Map<String, RegionStamp> current = snapshot(manager);
+            Map<String, RegionStamp> before = previous.put(world.getUID(), current);
+            if (onChange != null && !current.equals(before)) onChange.accept(world, manager);
+            if (before != null) compare(world, before, current);
+        }
+    }
+
+    /**
+     * Bir dünyanın tüm bölgelerinin imzasını çıkarır.
+     */
+    private Map<String, RegionStamp> snapshot(RegionManager manager) {
+        Map<String, ProtectedRegion> regions = manager.getRegions();
+        Map<String, RegionStamp> stamps = new HashMap<>(regions.size() * 2);
+        for (ProtectedRegion region : regions.values()) {
+            stamps.put(region.getId(), RegionStamp.of(region));
+        }
+        return stamps;
+    }
+
+    /**
+     * İki anlık görüntüyü karşılaştırır ve değişen bölgeleri geçersiz kılar.
+     */
+    private void compare(World world, Map<String, RegionStamp> before, Map<String, RegionStamp> current) {
+        Set<Long> parents = null;
+
+        for (Map.Entry<String, RegionStamp> entry : current.entrySet()) {
+            RegionStamp old = before.get(entry.getKey());
+            RegionStamp now = entry.getValue();
+            if (now.equals(old)) continue;
+
+            if (parents == null) parents = parentsOf(current);
+            if (now.global() || parents.contains(DecisionKeys.fingerprint(entry.getKey()))) {
+                invalidator.invalidateWorld(world);
+                return;
+            }
+            invalidate(world, now);
+            if (old != null) invalidate(world, old);
+        }
+
+        for (Map.Entry<String, RegionStamp> entry : before.entrySet()) {
+            if (current.containsKey(entry.getKey())) continue;
+
+            if (entry.getValue().global()) {
+                invalidator.invalidateWorld(world);
+                return;
+            }
+            invalidate(world, entry.getValue());
+        }
+    }
+
+    /**
+     * Başka bölgelerin ebeveyni olan bölgelerin ID parmak izlerini toplar. Bir ebeveynin bayrakları çocuklarına
+     * miras kaldığından, ebeveyn değişiklikleri kendi sınırlarının dışını da etkiler.
+     */
+    private static Set<Long> parentsOf(Map<String, RegionStamp> stamps) {
+        Set<Long> parents = new HashSet<>();
+        for (RegionStamp stamp : stamps.values()) {
+            if (stamp.parent() != 0L) parents.add(stamp.parent());
+        }
+        return parents;
+    }
+
+    /**
+     * Bir bölgenin sınır kutusunu geçersiz kılar. Sınırı olmayan bölgeler (küresel bölge) tüm dünyayı etkiler.
+     */
+    private void invalidate(World world, RegionStamp stamp) {
+        if (stamp.global()) {
+            invalidator.invalidateWorld(world);
+            return;
+        }
+        invalidator.invalidateArea(world, stamp.minX(), stamp.minZ(), stamp.maxX(), stamp.maxZ());
+    }
+
+    /**
+     * Bir bölgenin sınırlarını ve kararları etkileyen tüm özelliklerinin özetini taşıyan değişmez imza.
+     */
+    private record RegionStamp(boolean global, int minX, int minZ, int maxX, int maxZ, long parent, long signature) {
+
+        private static RegionStamp of(ProtectedRegion region) {
+            boolean global = ProtectedRegion.GLOBAL_REGION.equalsIgnoreCase(region.getId());
+            BlockVector3 min = region.getMinimumPoint();
+            BlockVector3 max = region.getMaximumPoint();
+            ProtectedRegion parentRegion = region.getParent();
+            long parent = parentRegion != null ? DecisionKeys.fingerprint(parentRegion.getId()) : 0L;
+
+            long signature = DecisionKeys.mix(DecisionKeys.FINGERPRINT_SEED, region.getPriority());
+            signature = DecisionKeys.mix(signature, min.y());
+            signature = DecisionKeys.mix(signature, max.y());
+            signature = DecisionKeys.mix(signature, region.getFlags().hashCode());
+            signature = DecisionKeys.mix(signature, region.getOwners().getUniqueIds().hashCode());
+            signature = DecisionKeys.mix(signature, region.getOwners().getPlayers().hashCode());
+            signature = DecisionKeys.mix(signature, region.getOwners().getGroups().hashCode());
+            signature = DecisionKeys.mix(signature, region.getMembers().getUniqueIds().hashCode());
+            signature = DecisionKeys.mix(signature, region.getMembers().getPlayers().hashCode());
+            signature = DecisionKeys.mix(signature, region.getMembers().getGroups().hashCode());
+            signature = DecisionKeys.mix(signature, region.getPoints().hashCode());
+
+            return new RegionStamp(global, min.x(), min.z(), max.x(), max.z(),
+                    parent, signature);
+        }
+    }
+}
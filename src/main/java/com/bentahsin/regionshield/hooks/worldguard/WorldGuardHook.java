@@ -1,13 +1,29 @@
 package com.bentahsin.regionshield.hooks.worldguard;
 
-import com.bentahsin.regionshield.api.IShieldHook;
+import com.bentahsin.regionshield.api.HookCapabilities;
+import com.bentahsin.regionshield.api.IBatchShieldHook;
+import com.bentahsin.regionshield.api.IRegionInvalidator;
+import com.bentahsin.regionshield.api.RegionSnapshot;
 import com.bentahsin.regionshield.api.ShieldPriority;
 import com.bentahsin.regionshield.api.ShieldResponse;
 import com.bentahsin.regionshield.internal.ReflectionUtils;
 import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
 import com.bentahsin.regionshield.model.RegionInfo;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 /**
  * BenthRegionShield API'si ile WorldGuard eklentisi arasında bir köprü (hook) görevi görür.
@@ -16,19 +32,47 @@ import org.bukkit.entity.Player;
  * WorldGuard'ın farklı sürümleri arasındaki API değişikliklerini yönetmek için
  * bir {@link IWorldGuardWorker} arayüzü kullanır, bu sayede ana hook sınıfı temiz kalır.
  */
-public class WorldGuardHook implements IShieldHook {
+public class WorldGuardHook implements IBatchShieldHook, Listener {
+
+    private static final HookCapabilities CAPABILITIES = HookCapabilities.builder()
+            .threadSafe(true)
+            .build();
+
+    private static final String NAME = "WorldGuard";
+
+    /**
+     * Bölge değişikliklerinin kontrol edilme aralığı (tick).
+     */
+    private static final long WATCH_INTERVAL_TICKS = 40L;
 
     /**
      * WorldGuard API'sinin sürümüne özgü işlemleri gerçekleştiren worker nesnesi.
      */
     private final IWorldGuardWorker worker;
 
+    private WorldGuardChangeWatcher watcher;
+
     /**
      * Yeni bir WorldGuardHook örneği oluşturur.
      * WorldGuard 7 ve üzeri için uyumlu olan worker'ı başlatır.
      */
     public WorldGuardHook() {
-        this.worker = new WorldGuard7Worker();
+        this(false);
+    }
+
+    /**
+     * Yeni bir WorldGuardHook örneği oluşturur.
+     * <p>
+     * {@code indexed} açıksa bölge bilgisi, sınır, parmak izi ve chunk sorguları, her dünyanın bölgelerinin
+     * değişmez bir kopyası üzerinden yanıtlanır ({@link WorldGuardIndexedWorker}). Bu sorgular WorldGuard'a
+     * dokunmadan her thread'den yapılabilir; karşılığında bölge değişiklikleri, değişiklik izleyicisinin bir sonraki
+     * taramasında (en fazla 40 tick sonra) yansır. İzin kontrolleri her iki durumda da
+     * WorldGuard'a sorulur.
+     *
+     * @param indexed Bölge sorguları için indeksli worker kullanılıp kullanılmayacağı.
+     */
+    public WorldGuardHook(boolean indexed) {
+        this.worker = indexed ? new WorldGuardIndexedWorker(NAME) : new WorldGuard7Worker();
     }
 
     /**
@@ -38,7 +82,7 @@ public class WorldGuardHook implements IShieldHook {
      */
     @Override
     public String getName() {
-        return "WorldGuard";
+        return NAME;
     }
 
     /**
@@ -68,6 +112,31 @@ public class WorldGuardHook implements IShieldHook {
         return allowed ? ShieldResponse.allow() : ShieldResponse.deny(getName());
     }
 
+    /**
+     * Birden çok konumu tek seferde WorldGuard'a sorar. Bölgeler her blok için değil, chunk başına bir kez
+     * çözümlenir; aynı bölge kümesine düşen konumlar tek bir bayrak değerlendirmesini paylaşır.
+     *
+     * @param player    Eylemi gerçekleştiren oyuncu.
+     * @param locations Kontrol edilecek konumlar.
+     * @param type      Gerçekleştirilen etkileşim türü.
+     * @param denied    Reddedilen konumların işaretleneceği bit kümesi.
+     */
+    @Override
+    public void checkBatch(Player player, List<Location> locations, InteractionType type, BitSet denied) {
+        worker.canBuildBatch(player, locations, type, denied);
+    }
+
+    /**
+     * WorldGuard'ın bölge yöneticileri ve sorgu önbelleği eşzamanlı okumaya dayanıklı olduğundan,
+     * bu hook asenkron thread'lerden güvenle çağrılabilir.
+     *
+     * @return Thread-safe olarak işaretlenmiş yetenek tanımı.
+     */
+    @Override
+    public HookCapabilities getCapabilities() {
+        return CAPABILITIES;
+    }
+
     /**
      * Bu hook'un öncelik seviyesini döndürür.
      * WorldGuard genellikle temel koruma eklentisi olduğu için en yüksek önceliğe sahiptir.
@@ -81,6 +150,7 @@ public class WorldGuardHook implements IShieldHook {
 
     /**
      * Belirtilen konumdaki en yüksek öncelikli WorldGuard bölgesi hakkında bilgi alır.
+     * Bu işlemi sürüm bağımlı worker'a devreder.
      *
      * @param location Bilgi alınacak konum.
      * @return Konumda bir bölge varsa bir {@link RegionInfo} nesnesi,
@@ -89,25 +159,7 @@ public class WorldGuardHook implements IShieldHook {
     @Override
     public RegionInfo getRegionInfo(Location location) {
         try {
-            com.sk89q.worldedit.util.Location weLoc = com.sk89q.worldedit.bukkit.BukkitAdapter.adapt(location);
-            com.sk89q.worldguard.protection.regions.RegionContainer container = com.sk89q.worldguard.WorldGuard.getInstance().getPlatform().getRegionContainer();
-            com.sk89q.worldguard.protection.managers.RegionManager regions = container.get((com.sk89q.worldedit.world.World) weLoc.getExtent());
-
-            if (regions == null) return null;
-
-            com.sk89q.worldguard.protection.ApplicableRegionSet set = regions.getApplicableRegions(weLoc.toVector().toBlockPoint());
-
-            if (set.size() == 0) return null;
-
-            com.sk89q.worldguard.protection.regions.ProtectedRegion region = set.getRegions().iterator().next();
-
-            return RegionInfo.builder()
-                    .id(region.getId())
-                    .provider(getName())
-                    .owners(new java.util.ArrayList<>(region.getOwners().getUniqueIds()))
-                    .members(new java.util.ArrayList<>(region.getMembers().getUniqueIds()))
-                    .build();
-
+            return worker.getRegionInfo(location, getName());
         } catch (Exception e) {
             return null;
         }
@@ -125,4 +177,103 @@ public class WorldGuardHook implements IShieldHook {
     public com.bentahsin.regionshield.model.RegionBounds getRegionBounds(Location location) {
         return worker.getRegionBounds(location);
     }
-}
\ No newline at end of file
+
+    /**
+     * Konumdaki bölge kümesini WorldGuard'ın sorgu önbelleği üzerinden bir kez çözer; kararlar, bölge bilgisi ve
+     * sınırlar bu kümeden çıkarılır. Bu işlemi sürüm bağımlı worker'a devreder.
+     *
+     * @param player   Kararların verileceği oyuncu.
+     * @param location Sorgulanan konum.
+     * @param types    Karar istenen etkileşim türleri.
+     * @return Konumun anlık görüntüsü.
+     */
+    @Override
+    public RegionSnapshot getRegionSnapshot(Player player, Location location, Set<InteractionType> types) {
+        return worker.getRegionSnapshot(player, location, types, getName());
+    }
+
+    /**
+     * Dünyadaki tüm WorldGuard bölgelerini sınır kutularıyla birlikte döndürür.
+     * Bu işlemi sürüm bağımlı worker'a devreder.
+     *
+     * @param world Bölgeleri istenen dünya.
+     * @return Dünyadaki bölgeler veya bölgeler okunamazsa {@code null}.
+     */
+    @Override
+    public Collection<RegionArea> getRegionAreas(World world) {
+        try {
+            return worker.getRegionAreas(world, getName());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Konumdaki WorldGuard bölge kümesinin parmak izini döndürür.
+     * WorldGuard bayrakları bloğun türünden bağımsız olduğu için bölge kapsamlı önbellekleme güvenlidir.
+     *
+     * @param location Parmak izi alınacak konum.
+     * @return Bölge kümesinin parmak izi.
+     */
+    @Override
+    public long getRegionFingerprint(Location location) {
+        return worker.getRegionFingerprint(location);
+    }
+
+    /**
+     * Chunk'ta hiçbir WorldGuard bölgesi olmadığını ve küresel bölgenin varsayılan kuralları değiştirmediğini bildirir.
+     * Bu işlemi sürüm bağımlı worker'a devreder.
+     *
+     * @param world  Chunk'ın bulunduğu dünya.
+     * @param chunkX Chunk'ın X koordinatı.
+     * @param chunkZ Chunk'ın Z koordinatı.
+     * @return Chunk WorldGuard açısından tamamen boşsa {@code true}.
+     */
+    @Override
+    public boolean isChunkEmpty(World world, int chunkX, int chunkZ) {
+        return worker.isChunkEmpty(world, chunkX, chunkZ);
+    }
+
+    /**
+     * WorldGuard bölge değişiklik olayı sunmadığından, bölgeleri periyodik olarak karşılaştıran
+     * {@link WorldGuardChangeWatcher} görevini başlatır; dünya listesi ana thread'de alınır, tarama asenkron yapılır.
+     * İndeksli worker kullanılıyorsa görev hemen
+     * çalışır ve her dünyanın indeksini ilk taramada oluşturup her değişiklikte yeniler. Ayrıca worker'ın sakladığı
+     * oyuncu karşılıklarını çıkışta atabilmek için oyuncu çıkışlarını dinler.
+     *
+     * @param plugin      Görevin sahibi olacak eklenti.
+     * @param invalidator Değişikliklerin bildirileceği geçersiz kılıcı.
+     */
+    @Override
+    public void onRegister(Plugin plugin, IRegionInvalidator invalidator) {
+        if (worker instanceof WorldGuardIndexedWorker indexed) {
+            this.watcher = new WorldGuardChangeWatcher(invalidator, indexed::rebuild);
+            watcher.start(plugin, 1L, WATCH_INTERVAL_TICKS);
+        } else {
+            this.watcher = new WorldGuardChangeWatcher(invalidator);
+            watcher.start(plugin, WATCH_INTERVAL_TICKS, WATCH_INTERVAL_TICKS);
+        }
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Bölge değişikliği izleyicisini durdurur ve worker'ın sakladığı oyuncu verilerini atar.
+     */
+    @Override
+    public void onUnregister() {
+        if (watcher != null && !watcher.isCancelled()) watcher.cancel();
+        watcher = null;
+        HandlerList.unregisterAll(this);
+        worker.forgetAll();
+    }
+
+    /**
+     * Çıkan oyuncunun worker'da saklanan WorldGuard karşılığını atar.
+     *
+     * @param event Oyuncu çıkış olayı.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        worker.forgetPlayer(event.getPlayer().getUniqueId());
+    }
+}
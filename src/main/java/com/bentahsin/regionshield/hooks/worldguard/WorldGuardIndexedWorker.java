@@ -0,0 +1,169 @@
+package com.bentahsin.regionshield.hooks.worldguard;
+
+import com.bentahsin.regionshield.api.RegionSnapshot;
+import com.bentahsin.regionshield.api.ShieldResponse;
+import com.bentahsin.regionshield.model.InteractionType;
+import com.bentahsin.regionshield.model.RegionArea;
+import com.bentahsin.regionshield.model.RegionBounds;
+import com.bentahsin.regionshield.model.RegionInfo;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bölge bilgisi, sınır, parmak izi ve chunk sorgularını WorldGuard yerine her dünya için tutulan değişmez bir
+ * {@link WorldGuardRegionIndex} kopyasından yanıtlayan {@link IWorldGuardWorker} uygulaması.
+ * <p>
+ * İndeksler {@link #rebuild(World, RegionManager)} ile oluşturulur ve tek bir {@link AtomicReference} üzerinden
+ * yayınlanır; okuyucular kilit almaz ve WorldGuard'ın bölge yöneticilerine dokunmaz. Bu sayede bu sorgular asenkron
+ * thread'lerden de güvenle ve WorldGuard'ın senkronize bölge yöneticileriyle yarışmadan yapılabilir.
+ * <p>
+ * İzin kontrolleri bayrak kalıtımı, gruplar ve bypass yetkileri gibi WorldGuard kurallarına bağlı olduğundan
+ * {@link WorldGuard7Worker}'a devredilir. İndeksi henüz oluşturulmamış dünyalar için de tüm sorgular ona düşer.
+ * <p>
+ * İndeks, bölgeler değiştikten sonra {@link WorldGuardChangeWatcher}'ın bir sonraki taramasına kadar (en fazla
+ * birkaç saniye) eski bölgeleri yansıtabilir; önbellekler de aynı tarama ile geçersiz kılındığından bu süre,
+ * önbelleklerin zaten kabul ettiği gecikmeyle aynıdır.
+ */
+public class WorldGuardIndexedWorker implements IWorldGuardWorker {
+
+    private final WorldGuard7Worker live = new WorldGuard7Worker();
+    private final AtomicReference<Map<UUID, WorldGuardRegionIndex>> indexes = new AtomicReference<>(Map.of());
+    private final String provider;
+
+    /**
+     * Yeni bir indeksli worker oluşturur.
+     *
+     * @param provider İndekslenen bölge bilgilerinde kullanılacak sağlayıcı adı.
+     */
+    public WorldGuardIndexedWorker(String provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * Bir dünyanın indeksini bölge yöneticisinin o anki durumundan yeniden oluşturur ve yayınlar.
+     * Asenkron thread'den çağrılabilir.
+     *
+     * @param world   Dünya.
+     * @param manager Dünyanın bölge yöneticisi; {@code null} ise dünyanın indeksi kaldırılır.
+     */
+    public void rebuild(World world, RegionManager manager) {
+        UUID worldId = world.getUID();
+        WorldGuardRegionIndex index = manager != null ? WorldGuardRegionIndex.build(manager, world, provider) : null;
+        indexes.updateAndGet(current -> {
+            Map<UUID, WorldGuardRegionIndex> next = new HashMap<>(current);
+            if (index != null) next.put(worldId, index);
+            else next.remove(worldId);
+            return Map.copyOf(next);
+        });
+    }
+
+    @Override
+    public boolean canBuild(Player player, Location location, InteractionType type) {
+        return live.canBuild(player, location, type);
+    }
+
+    @Override
+    public void canBuildBatch(Player player, List<Location> locations, InteractionType type, BitSet denied) {
+        live.canBuildBatch(player, locations, type, denied);
+    }
+
+    /**
+     * Konumu kapsayan en yüksek öncelikli bölgenin sınırlarını indeksten döndürür.
+     */
+    @Override
+    public RegionBounds getRegionBounds(Location loc) {
+        WorldGuardRegionIndex index = indexOf(loc.getWorld());
+        if (index == null) return live.getRegionBounds(loc);
+
+        WorldGuardRegionIndex.Entry entry = index.regionAt(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+        return entry != null ? entry.bounds() : null;
+    }
+
+    /**
+     * Konumu kapsayan en yüksek öncelikli bölgenin bilgisini indeksten döndürür. Bilgiler indeks oluşturulurken
+     * hazırlandığından {@code provider} yok sayılır.
+     */
+    @Override
+    public RegionInfo getRegionInfo(Location location, String provider) {
+        WorldGuardRegionIndex index = indexOf(location.getWorld());
+        if (index == null) return live.getRegionInfo(location, provider);
+
+        WorldGuardRegionIndex.Entry entry = index.regionAt(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        return entry != null ? entry.info() : null;
+    }
+
+    /**
+     * Bölge bilgisi ve sınırlar indeksten alınır. WorldGuard yalnızca karar istendiğinde sorgulanır.
+     */
+    @Override
+    public RegionSnapshot getRegionSnapshot(Player player, Location location, Set<InteractionType> types, String provider) {
+        WorldGuardRegionIndex index = indexOf(location.getWorld());
+        if (index == null) return live.getRegionSnapshot(player, location, types, provider);
+
+        WorldGuardRegionIndex.Entry entry = index.regionAt(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        RegionInfo info = entry != null ? entry.info() : null;
+        RegionBounds bounds = entry != null ? entry.bounds() : null;
+        if (player == null || types.isEmpty()) return new RegionSnapshot(info, bounds, Map.of());
+
+        Map<InteractionType, ShieldResponse> decisions = new EnumMap<>(InteractionType.class);
+        RegionSnapshot decided = live.getRegionSnapshot(player, location, types, provider);
+        for (InteractionType type : types) {
+            decisions.put(type, decided.getDecision(type));
+        }
+        return new RegionSnapshot(info, bounds, decisions);
+    }
+
+    /**
+     * Alan sorgularının kendi indeksi olduğundan, dünyanın bölgeleri doğrudan WorldGuard'dan listelenir.
+     */
+    @Override
+    public Collection<RegionArea> getRegionAreas(World world, String provider) {
+        return live.getRegionAreas(world, provider);
+    }
+
+    @Override
+    public long getRegionFingerprint(Location loc) {
+        WorldGuardRegionIndex index = indexOf(loc.getWorld());
+        if (index == null) return live.getRegionFingerprint(loc);
+
+        return index.fingerprint(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    @Override
+    public boolean isChunkEmpty(World world, int chunkX, int chunkZ) {
+        WorldGuardRegionIndex index = indexOf(world);
+        if (index == null) return live.isChunkEmpty(world, chunkX, chunkZ);
+
+        return index.isChunkEmpty(chunkX, chunkZ);
+    }
+
+    @Override
+    public void forgetPlayer(UUID playerId) {
+        live.forgetPlayer(playerId);
+    }
+
+    /**
+     * Oyuncu verileriyle birlikte tüm dünyaların indekslerini de atar.
+     */
+    @Override
+    public void forgetAll() {
+        live.forgetAll();
+        indexes.set(Map.of());
+    }
+
+    private WorldGuardRegionIndex indexOf(World world) {
+        return world != null ? indexes.get().get(world.getUID()) : null;
+    }
+}
@@ -0,0 +1,308 @@
+package com.bentahsin.regionshield.hooks.worldguard;
+
+import com.bentahsin.regionshield.internal.DecisionKeys;
+import com.bentahsin.regionshield.model.RegionBounds;
+import com.bentahsin.regionshield.model.RegionInfo;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import com.sk89q.worldguard.protection.regions.RegionType;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bir dünyanın WorldGuard bölgelerinin, WorldGuard nesnelerinden tamamen bağımsız, değişmez (immutable) uzamsal
+ * indeksi.
+ * <p>
+ * {@link #build} bölge yöneticisindeki her bölgenin sınırlarını, çokgen köşelerini, önceliğini, bilgisini
+ * ({@link RegionInfo}) ve sınır kutusunu ({@link RegionBounds}) bir kez kopyalar. Sonrasında yapılan sorgular
+ * WorldGuard'a hiç dokunmaz; bu yüzden herhangi bir thread'den kilitsiz çağrılabilir ve nesne oluşturmaz.
+ * <p>
+ * Bölgeler XZ düzleminde {@code 128x128} blokluk hücrelere dağıtılır ve hücreler açık adresli, ilkel anahtarlı bir
+ * tabloda tutulur. Çok sayıda hücreye yayılan büyük bölgeler hücrelere kopyalanmaz; her sorguda ayrı bir listeden
+ * kontrol edilir. Her listede bölgeler öncelik sırasına göre (yüksekten düşüğe, eşitlikte ID'ye göre) dizilidir.
+ * <p>
+ * Küresel bölge (__global__) alan kaplamadığından indekslenmez; yalnızca varsayılan kuralları değiştirip
+ * değiştirmediği saklanır.
+ */
+final class WorldGuardRegionIndex {
+
+    private static final int CELL_SHIFT = 7;
+    private static final int MAX_CELLS = 256;
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    /**
+     * Bölgelerin öncelik sırası: önce önceliği yüksek olanlar, eşitlikte ID'ye göre. Bir konumun "en yüksek öncelikli"
+     * bölgesi, indeksli ve canlı worker'larda bu sıranın ilk elemanıdır.
+     */
+    static final Comparator<ProtectedRegion> RANK_ORDER =
+            Comparator.comparingInt(ProtectedRegion::getPriority).reversed().thenComparing(ProtectedRegion::getId);
+
+    private final boolean globalEffective;
+    private final Entry[] large;
+    private final long[] cellKeys;
+    private final Entry[][] cells;
+    private final int mask;
+
+    private WorldGuardRegionIndex(boolean globalEffective, Entry[] large, Map<Long, List<Entry>> cellMap) {
+        this.globalEffective = globalEffective;
+        this.large = large;
+
+        int capacity = Integer.highestOneBit(Math.max(2, cellMap.size() * 2) - 1) << 1;
+        this.cellKeys = new long[capacity];
+        this.cells = new Entry[capacity][];
+        this.mask = capacity - 1;
+        cellMap.forEach((key, entries) -> {
+            int slot = slot(key);
+            while (cells[slot] != null) slot = (slot + 1) & mask;
+            cellKeys[slot] = key;
+            cells[slot] = entries.toArray(NO_ENTRIES);
+        });
+    }
+
+    /**
+     * Bölge yöneticisinin o anki bölgelerinden yeni bir indeks oluşturur. WorldGuard bölge yöneticileri eşzamanlı
+     * okumaya dayanıklı olduğundan asenkron thread'den çağrılabilir.
+     *
+     * @param manager  Dünyanın bölge yöneticisi.
+     * @param world    İndekslenen dünya; sınırların konumlarında kullanılır.
+     * @param provider Bölge bilgilerinde kullanılacak sağlayıcı adı.
+     * @return Yeni indeks.
+     */
+    static WorldGuardRegionIndex build(RegionManager manager, World world, String provider) {
+        List<ProtectedRegion> regions = new ArrayList<>(manager.getRegions().values());
+        regions.sort(RANK_ORDER);
+
+        boolean globalEffective = false;
+        List<Entry> large = new ArrayList<>();
+        Map<Long, List<Entry>> cellMap = new HashMap<>();
+        int rank = 0;
+
+        for (ProtectedRegion region : regions) {
+            if (region.getType() == RegionType.GLOBAL) {
+                globalEffective |= !region.getFlags().isEmpty()
+                        || region.getOwners().size() > 0 || region.getMembers().size() > 0;
+                continue;
+            }
+
+            Entry entry = Entry.of(region, rank++, world, provider);
+            int minCellX = entry.minX >> CELL_SHIFT;
+            int minCellZ = entry.minZ >> CELL_SHIFT;
+            int maxCellX = entry.maxX >> CELL_SHIFT;
+            int maxCellZ = entry.maxZ >> CELL_SHIFT;
+            if ((long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1) > MAX_CELLS) {
+                large.add(entry);
+                continue;
+            }
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    cellMap.computeIfAbsent(cellKey(cellX, cellZ), key -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+
+        return new WorldGuardRegionIndex(globalEffective, large.toArray(NO_ENTRIES), cellMap);
+    }
+
+    /**
+     * Konumu kapsayan en yüksek öncelikli bölgeyi döndürür.
+     *
+     * @return Bölge kaydı veya konumda bölge yoksa {@code null}.
+     */
+    Entry regionAt(int x, int y, int z) {
+        Entry best = first(cellAt(x, z), x, y, z);
+        Entry big = first(large, x, y, z);
+        if (best == null || big != null && big.rank < best.rank) return big;
+        return best;
+    }
+
+    /**
+     * Konumu kapsayan tüm bölgelerin ID'lerini öncelik sırasıyla birleştirerek parmak izi üretir.
+     *
+     * @return Bölge kümesinin parmak izi; bölge yoksa {@link DecisionKeys#FINGERPRINT_SEED}.
+     */
+    long fingerprint(int x, int y, int z) {
+        Entry[] small = cellAt(x, z);
+        long fingerprint = DecisionKeys.FINGERPRINT_SEED;
+        int i = 0;
+        int j = 0;
+        while (i < small.length || j < large.length) {
+            Entry next;
+            if (j >= large.length || i < small.length && small[i].rank < large[j].rank) next = small[i++];
+            else next = large[j++];
+            if (next.contains(x, y, z)) fingerprint = DecisionKeys.mix(fingerprint, next.idFingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Chunk sütununun sınır kutusu herhangi bir bölgeninkiyle kesişmiyorsa ve küresel bölge varsayılan kuralları
+     * değiştirmiyorsa chunk'ı boş sayar. Çokgen bölgelerde sınır kutusu kullanıldığından sonuç ihtiyatlıdır.
+     *
+     * @return Chunk kesin olarak bölgesizse {@code true}.
+     */
+    boolean isChunkEmpty(int chunkX, int chunkZ) {
+        if (globalEffective) return false;
+
+        int minX = chunkX << 4;
+        int minZ = chunkZ << 4;
+        return !intersects(cellAt(minX, minZ), minX, minZ) && !intersects(large, minX, minZ);
+    }
+
+    private static boolean intersects(Entry[] entries, int minX, int minZ) {
+        for (Entry entry : entries) {
+            if (entry.maxX >= minX && entry.minX <= minX + 15 && entry.maxZ >= minZ && entry.minZ <= minZ + 15) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Entry first(Entry[] entries, int x, int y, int z) {
+        for (Entry entry : entries) {
+            if (entry.contains(x, y, z)) return entry;
+        }
+        return null;
+    }
+
+    private Entry[] cellAt(int x, int z) {
+        long key = cellKey(x >> CELL_SHIFT, z >> CELL_SHIFT);
+        for (int slot = slot(key); cells[slot] != null; slot = (slot + 1) & mask) {
+            if (cellKeys[slot] == key) return cells[slot];
+        }
+        return NO_ENTRIES;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32) & mask;
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return (long) cellX << 32 | cellZ & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Tek bir bölgenin indekslenmiş, değişmez kopyası.
+     */
+    @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+    static final class Entry {
+        private final int rank;
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int maxX;
+        private final int maxY;
+        private final int maxZ;
+        private final int[] xs;
+        private final int[] zs;
+        private final long idFingerprint;
+        private final RegionInfo info;
+        private final RegionBounds bounds;
+
+        private Entry(int rank, BlockVector3 min, BlockVector3 max, int[] xs, int[] zs,
+                      long idFingerprint, RegionInfo info, RegionBounds bounds) {
+            this.rank = rank;
+            this.minX = min.x();
+            this.minY = min.y();
+            this.minZ = min.z();
+            this.maxX = max.x();
+            this.maxY = max.y();
+            this.maxZ = max.z();
+            this.xs = xs;
+            this.zs = zs;
+            this.idFingerprint = idFingerprint;
+            this.info = info;
+            this.bounds = bounds;
+        }
+
+        private static Entry of(ProtectedRegion region, int rank, World world, String provider) {
+            BlockVector3 min = region.getMinimumPoint();
+            BlockVector3 max = region.getMaximumPoint();
+
+            int[] xs = null;
+            int[] zs = null;
+            if (region.getType() == RegionType.POLYGON) {
+                List<BlockVector2> points = region.getPoints();
+                xs = new int[points.size()];
+                zs = new int[points.size()];
+                for (int i = 0; i < xs.length; i++) {
+                    xs[i] = points.get(i).x();
+                    zs[i] = points.get(i).z();
+                }
+            }
+
+            RegionInfo info = RegionInfo.builder()
+                    .id(region.getId())
+                    .provider(provider)
+                    .owners(region.getOwners().getUniqueIds())
+                    .members(region.getMembers().getUniqueIds())
+                    .build();
+            RegionBounds bounds = new RegionBounds(
+                    new Location(world, min.x(), min.y(), min.z()),
+                    new Location(world, max.x(), max.y(), max.z()));
+
+            return new Entry(rank, min, max, xs, zs, DecisionKeys.fingerprint(region.getId()), info, bounds);
+        }
+
+        /**
+         * @return Bölgenin bilgisi; indeks oluşturulurken bir kez hazırlanmıştır.
+         */
+        RegionInfo info() {
+            return info;
+        }
+
+        /**
+         * @return Bölgenin sınır kutusu; indeks oluşturulurken bir kez hazırlanmıştır.
+         */
+        RegionBounds bounds() {
+            return bounds;
+        }
+
+        /**
+         * Konumun bölgenin içinde olup olmadığını WorldGuard ile aynı kurallarla test eder. Çokgenlerde
+         * köşeler ve kenarlar içeride sayılır.
+         */
+        private boolean contains(int x, int y, int z) {
+            if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) return false;
+            return xs == null || polygonContains(x, z);
+        }
+
+        private boolean polygonContains(int x, int z) {
+            if (xs.length < 3) return false;
+
+            boolean inside = false;
+            int xOld = xs[xs.length - 1];
+            int zOld = zs[zs.length - 1];
+            for (int i = 0; i < xs.length; i++) {
+                int xNew = xs[i];
+                int zNew = zs[i];
+                if (xNew == x && zNew == z) return true;
+
+                int x1 = Math.min(xNew, xOld);
+                int x2 = Math.max(xNew, xOld);
+                int z1 = xNew > xOld ? zOld : zNew;
+                int z2 = xNew > xOld ? zNew : zOld;
+                if (x1 <= x && x <= x2) {
+                    long cross = ((long) z - z1) * (x2 - x1) - ((long) z2 - z1) * (x - x1);
+                    if (cross == 0) {
+                        if ((z1 <= z) == (z <= z2)) return true;
+                    } else if (cross < 0 && x1 != x) {
+                        inside = !inside;
+                    }
+                }
+                xOld = xNew;
+                zOld = zNew;
+            }
+            return inside;
+        }
+    }
+}
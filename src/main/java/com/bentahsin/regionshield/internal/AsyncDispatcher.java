@@ -0,0 +1,182 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.BenthRegionShield;
+import com.bentahsin.regionshield.api.IShieldHook;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Asenkron kontrol API'sinin ({@code checkAsync}, {@code getRegionInfoAsync}) hook'ları dağıtan dahili motoru.
+ * <p>
+ * Bir sorgu için hook'lar iki gruba ayrılır:
+ * <ul>
+ *     <li><b>Thread-safe hook'lar</b> ({@code HookCapabilities#isThreadSafe()}): yapılandırılan {@link Executor} üzerinde,
+ *     öncelik sırasıyla çalıştırılır.</li>
+ *     <li><b>Diğer hook'lar:</b> Bukkit zamanlayıcısı ile ana thread'e taşınır ve orada öncelik sırasıyla çalıştırılır.</li>
+ * </ul>
+ * İki grubun sonuçları birleştirilirken senkron API ile aynı kural uygulanır: öncelik sırasındaki ilk belirleyici
+ * (örn. reddeden) sonuç kazanır.
+ * <p>
+ * Aynı anahtar için eşzamanlı gelen istekler tek bir değerlendirmede birleştirilir (in-flight collapsing).
+ */
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class AsyncDispatcher {
+
+    private final BenthRegionShield manager;
+    private final Executor executor;
+
+    private final Map<InFlightKey, CompletableFuture<Object>> checks = new ConcurrentHashMap<>();
+    private final Map<InFlightKey, CompletableFuture<Object>> lookups = new ConcurrentHashMap<>();
+
+    /**
+     * Yeni bir asenkron dağıtıcı oluşturur.
+     *
+     * @param manager  Ana API yöneticisi.
+     * @param executor Thread-safe hook'ların çalıştırılacağı executor.
+     */
+    public AsyncDispatcher(BenthRegionShield manager, Executor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    /**
+     * Bir izin kontrolünü, aynı anahtara sahip devam eden bir kontrol varsa onunla birleştirerek başlatır.
+     *
+     * @param key     Paketlenmiş konum anahtarı.
+     * @param context Paketlenmiş bağlam anahtarı.
+     * @param work    Değerlendirmeyi başlatan işlem. Yalnızca devam eden bir kontrol yoksa çağrılır.
+     * @param <T>     Sonuç türü.
+     * @return Çağırana özel, sonucu paylaşan bir future.
+     */
+    public <T> CompletableFuture<T> collapseCheck(long key, long context, Supplier<CompletableFuture<T>> work) {
+        return collapse(checks, new InFlightKey(key, context), work);
+    }
+
+    /**
+     * Bir bölge bilgisi sorgusunu, aynı konum için devam eden bir sorgu varsa onunla birleştirerek başlatır.
+     *
+     * @param key     Paketlenmiş konum anahtarı.
+     * @param context Dünya indeksi.
+     * @param work    Değerlendirmeyi başlatan işlem. Yalnızca devam eden bir sorgu yoksa çağrılır.
+     * @param <T>     Sonuç türü.
+     * @return Çağırana özel, sonucu paylaşan bir future.
+     */
+    public <T> CompletableFuture<T> collapseLookup(long key, long context, Supplier<CompletableFuture<T>> work) {
+        return collapse(lookups, new InFlightKey(key, context), work);
+    }
+
+    /**
+     * Hook'ları thread güvenliğine göre iki gruba ayırarak değerlendirir ve öncelik sırasındaki ilk belirleyici sonucu döndürür.
+     *
+     * @param plan     Sorgulanacak hook'ları ve thread güvenliği bilgilerini içeren dağıtım planı.
+     * @param call     Her hook için çalıştırılacak sorgu.
+     * @param decisive Bir sonucun değerlendirmeyi bitirip bitirmediğini belirleyen koşul.
+     * @param <T>      Sonuç türü.
+     * @return İlk belirleyici sonucu veya hiçbiri belirleyici değilse {@code null} içeren future.
+     */
+    public <T> CompletableFuture<T> dispatch(HookRegistry.DispatchPlan plan, Function<IShieldHook, T> call, Predicate<T> decisive) {
+        IShieldHook[] hooks = plan.hooks();
+        boolean[] threadSafe = plan.threadSafe();
+        Object[] results = new Object[hooks.length];
+
+        boolean hasSafe = false;
+        boolean hasUnsafe = false;
+        for (boolean safe : threadSafe) {
+            if (safe) hasSafe = true;
+            else hasUnsafe = true;
+        }
+
+        CompletableFuture<Void> safeStage = hasSafe
+                ? CompletableFuture.runAsync(() -> evaluate(hooks, threadSafe, true, call, decisive, results), executor)
+                : CompletableFuture.completedFuture(null);
+
+        CompletableFuture<Void> mainStage = new CompletableFuture<>();
+        if (hasUnsafe) {
+            try {
+                manager.getPlugin().getServer().getScheduler().runTask(manager.getPlugin(), () -> {
+                    try {
+                        evaluate(hooks, threadSafe, false, call, decisive, results);
+                        mainStage.complete(null);
+                    } catch (Throwable t) {
+                        mainStage.completeExceptionally(t);
+                    }
+                });
+            } catch (RuntimeException e) {
+                mainStage.completeExceptionally(e);
+            }
+        } else {
+            mainStage.complete(null);
+        }
+
+        return safeStage.thenCombine(mainStage, (a, b) -> firstDecisive(results, decisive));
+    }
+
+    /**
+     * Bir gruptaki hook'ları öncelik sırasıyla çalıştırır; belirleyici bir sonuç bulunduğunda durur.
+     */
+    private <T> void evaluate(IShieldHook[] hooks, boolean[] threadSafe, boolean group, Function<IShieldHook, T> call,
+                              Predicate<T> decisive, Object[] results) {
+        for (int i = 0; i < hooks.length; i++) {
+            if (threadSafe[i] != group) continue;
+            IShieldHook hook = hooks[i];
+
+            try {
+                T result = call.apply(hook);
+                results[i] = result;
+                if (result != null && decisive.test(result)) return;
+            } catch (Exception e) {
+                manager.getPlugin().getLogger().log(Level.SEVERE,
+                        manager.getOptions().getLogPrefix() + "Hook hatası (async): " + hook.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Sonuç dizisini öncelik sırasıyla gezerek ilk belirleyici sonucu döndürür.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T firstDecisive(Object[] results, Predicate<T> decisive) {
+        for (Object result : results) {
+            if (result != null && decisive.test((T) result)) return (T) result;
+        }
+        return null;
+    }
+
+    /**
+     * Devam eden bir değerlendirme varsa ona katılır, yoksa yenisini başlatır. Değerlendirme bittiğinde kayıt silinir.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> collapse(Map<InFlightKey, CompletableFuture<Object>> inFlight, InFlightKey key,
+                                              Supplier<CompletableFuture<T>> work) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) return (CompletableFuture<T>) existing.copy();
+
+        CompletableFuture<T> started;
+        try {
+            started = work.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+
+        started.whenComplete((result, error) -> {
+            inFlight.remove(key, created);
+            if (error != null) created.completeExceptionally(error);
+            else created.complete(result);
+        });
+        return (CompletableFuture<T>) created.copy();
+    }
+
+    /**
+     * Devam eden değerlendirmeleri tanımlayan anahtar.
+     */
+    private record InFlightKey(long key, long context) {}
+}
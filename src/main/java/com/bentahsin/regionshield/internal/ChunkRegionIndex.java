@@ -0,0 +1,330 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.api.IShieldHook;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hiçbir hook'un bölge veya claim barındırmadığı chunk'ları işaretleyen, dünya başına seyrek bir bit haritası (negatif indeks).
+ * <p>
+ * Sunucunun büyük kısmı vahşi doğa olduğunda, her {@code checkResult} veya {@code getRegionInfo} çağrısının tüm hook'ları
+ * gezmesi gereksizdir. Bu indeks sayesinde işaretli bir chunk içindeki sorgular hook'lara hiç gitmeden yanıtlanır.
+ * <p>
+ * Çalışma şekli:
+ * <ul>
+ *     <li>Bir chunk yüklendiğinde, kayıtlı tüm hook'lara {@link IShieldHook#isChunkEmpty(World, int, int)} sorulur.
+ *     Thread-safe hook'lar asenkron olarak sorulur; hepsi boş derse thread-safe olmayan hook'lar toplu halde ana
+ *     thread'de sorulur. Hepsi boş derse chunk işaretlenir.</li>
+ *     <li>Chunk bellekten atıldığında biti temizlenir.</li>
+ *     <li>Bir geçersiz kılma (invalidation) olduğunda nesil (generation) sayacı artırılır. Geçersiz kılma sırasında
+ *     devam eden taramaların sonuçları yayınlanmaz; bu taramalar kuyruğa geri konur. Kuyrukta bekleyen taramalar
+ *     zaten geçersiz kılmadan sonra çalışacaklarından etkilenmez.</li>
+ *     <li>Yüklü chunk'lar periyodik olarak yeniden taranır. Bu, bölge eklentilerinin değişiklik olayı sunmadığı durumlar
+ *     için bir güvenlik ağıdır.</li>
+ * </ul>
+ * Bit haritası 32x32 chunk'lık bölge dosyası (region file) karoları halinde tutulur; her karo 1024 bitlik
+ * bir {@link AtomicLongArray}'dir. Okumalar kilitsizdir.
+ */
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class ChunkRegionIndex implements Listener {
+
+    private static final int TILE_WORDS = 16;
+
+    private final Plugin plugin;
+    private final HookRegistry hookRegistry;
+
+    private final Map<UUID, Map<Long, AtomicLongArray>> worlds = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Queue<PendingScan> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * Yeni bir chunk indeksi oluşturur.
+     *
+     * @param plugin       Asenkron taramaların sahibi olacak eklenti.
+     * @param hookRegistry Taramalarda sorgulanacak hook'ların kayıt defteri.
+     */
+    public ChunkRegionIndex(Plugin plugin, HookRegistry hookRegistry) {
+        this.plugin = plugin;
+        this.hookRegistry = hookRegistry;
+    }
+
+    /**
+     * Verilen blok koordinatının bulunduğu chunk'ın bölgesiz olarak işaretlenip işaretlenmediğini döndürür.
+     *
+     * @param world  Dünya.
+     * @param blockX Bloğun X koordinatı.
+     * @param blockZ Bloğun Z koordinatı.
+     * @return Chunk'ta hiçbir hook'un bölgesi yoksa {@code true}. Emin olunamıyorsa {@code false}.
+     */
+    public boolean isEmpty(World world, int blockX, int blockZ) {
+        Map<Long, AtomicLongArray> tiles = worlds.get(world.getUID());
+        if (tiles == null) return false;
+
+        int chunkX = blockX >> 4;
+        int chunkZ = blockZ >> 4;
+        AtomicLongArray tile = tiles.get(tileKey(chunkX, chunkZ));
+        if (tile == null) return false;
+
+        int bit = bitIndex(chunkX, chunkZ);
+        return (tile.get(bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    /**
+     * Tüm işaretleri siler ve yüklü tüm chunk'ları yeniden taramaya alır.
+     * Hook kümesi değiştiğinde veya bir bölge eklentisi toplu değişiklik yaptığında çağrılmalıdır.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        worlds.clear();
+        rescanLoaded();
+    }
+
+    /**
+     * Verilen dünyanın tüm işaretlerini siler ve yüklü chunk'larını yeniden taramaya alır.
+     * Ana thread üzerinden çağrılmalıdır.
+     *
+     * @param world Dünya.
+     */
+    public void invalidateWorld(World world) {
+        generation.incrementAndGet();
+        worlds.remove(world.getUID());
+        for (Chunk chunk : world.getLoadedChunks()) {
+            enqueue(new PendingScan(world, chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    /**
+     * Verilen blok alanıyla kesişen chunk'ların işaretlerini siler ve yüklü olanları yeniden taramaya alır.
+     *
+     * @param world Dünya.
+     * @param minX  Alanın en küçük X blok koordinatı.
+     * @param minZ  Alanın en küçük Z blok koordinatı.
+     * @param maxX  Alanın en büyük X blok koordinatı.
+     * @param maxZ  Alanın en büyük Z blok koordinatı.
+     */
+    public void invalidateArea(World world, int minX, int minZ, int maxX, int maxZ) {
+        generation.incrementAndGet();
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                mark(world.getUID(), chunkX, chunkZ, false);
+                if (world.isChunkLoaded(chunkX, chunkZ)) {
+                    enqueue(new PendingScan(world, chunkX, chunkZ));
+                }
+            }
+        }
+    }
+
+    /**
+     * Yüklü tüm chunk'ları mevcut işaretleri silmeden yeniden taramaya alır. Periyodik yenileme için kullanılır.
+     * Ana thread üzerinden çağrılmalıdır.
+     */
+    public void rescanLoaded() {
+        for (World world : Bukkit.getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                enqueue(new PendingScan(world, chunk.getX(), chunk.getZ()));
+            }
+        }
+    }
+
+    /**
+     * Yüklenen chunk'ı asenkron taramaya alır.
+     *
+     * @param event ChunkLoadEvent olayı.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        enqueue(new PendingScan(event.getWorld(), chunk.getX(), chunk.getZ()));
+    }
+
+    /**
+     * Bellekten atılan chunk'ın işaretini siler.
+     *
+     * @param event ChunkUnloadEvent olayı.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        mark(event.getWorld().getUID(), chunk.getX(), chunk.getZ(), false);
+    }
+
+    /**
+     * Bellekten atılan dünyanın tüm işaretlerini siler.
+     *
+     * @param event WorldUnloadEvent olayı.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        worlds.remove(event.getWorld().getUID());
+    }
+
+    /**
+     * Bir taramayı kuyruğa ekler ve kuyruğu boşaltan asenkron görev çalışmıyorsa başlatır.
+     */
+    private void enqueue(PendingScan scan) {
+        pending.add(scan);
+        if (draining.compareAndSet(false, true)) {
+            try {
+                Bukkit.getScheduler().runTaskAsynchronously(plugin, this::drain);
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * Kuyruktaki tüm taramaları asenkron thread üzerinde işler.
+     * <p>
+     * Nesil, tarama başlamadan önce okunur. Tarama sırasında bir geçersiz kılma olduysa "boş" sonucu eski veriye
+     * dayanıyor olabilir; bit yazılmaz ve tarama kuyruğa geri konur. Nesil kontrolü ile işaretleme arasında da bir
+     * geçersiz kılma araya girebilir; bu durumda bit, geçersiz kılmanın temizliğinden sonra yazılmış olur. Bu yüzden
+     * bit yazıldıktan sonra nesil yeniden okunur ve değiştiyse bit geri alınıp tarama yeniden kuyruğa konur.
+     * Geçersiz kılmalar nesli bitleri temizlemeden önce artırdığından, ikinci okuma eski nesli görürse temizlik
+     * yazmamızdan sonra gelir.
+     */
+    private void drain() {
+        do {
+            List<DeferredScan> deferred = new ArrayList<>();
+            PendingScan scan;
+            while ((scan = pending.poll()) != null) {
+                UUID worldId = scan.world().getUID();
+                long scanGeneration = generation.get();
+                HookRegistry.DispatchPlan plan = hookRegistry.planAll();
+                if (plan.hooks().length == 0 || !scanChunk(scan, plan, true)) {
+                    mark(worldId, scan.x(), scan.z(), false);
+                    continue;
+                }
+                if (scanGeneration != generation.get()) {
+                    pending.add(scan);
+                    continue;
+                }
+                if (!allThreadSafe(plan)) {
+                    deferred.add(new DeferredScan(scan, scanGeneration));
+                    continue;
+                }
+
+                mark(worldId, scan.x(), scan.z(), true);
+                if (scanGeneration != generation.get()) {
+                    mark(worldId, scan.x(), scan.z(), false);
+                    pending.add(scan);
+                }
+            }
+            if (!deferred.isEmpty()) finishOnMainThread(deferred);
+            draining.set(false);
+        } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Thread-safe hook'ların boş bulduğu chunk'ları, thread-safe olmayan hook'lara ana thread'de sorar. Geçersiz
+     * kılmalar da ana thread'de yapıldığından, nesil değişmediyse sonuç doğrudan yazılır; değiştiyse tarama kuyruğa
+     * geri konur.
+     */
+    private void finishOnMainThread(List<DeferredScan> scans) {
+        try {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                HookRegistry.DispatchPlan plan = hookRegistry.planAll();
+                for (DeferredScan deferred : scans) {
+                    PendingScan scan = deferred.scan();
+                    if (deferred.generation() != generation.get()) {
+                        enqueue(scan);
+                        continue;
+                    }
+                    mark(scan.world().getUID(), scan.x(), scan.z(), scanChunk(scan, plan, false));
+                }
+            });
+        } catch (IllegalStateException | IllegalArgumentException ignored) {}
+    }
+
+    /**
+     * Plandaki, thread güvenliği verilen değerle eşleşen hook'lara chunk'ın boş olup olmadığını sorar. Biri boş
+     * değil derse veya hata verirse {@code false} döner.
+     */
+    private boolean scanChunk(PendingScan scan, HookRegistry.DispatchPlan plan, boolean threadSafe) {
+        IShieldHook[] hooks = plan.hooks();
+        for (int i = 0; i < hooks.length; i++) {
+            if (plan.threadSafe()[i] != threadSafe) continue;
+            try {
+                if (!hooks[i].isChunkEmpty(scan.world(), scan.x(), scan.z())) return false;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allThreadSafe(HookRegistry.DispatchPlan plan) {
+        for (boolean threadSafe : plan.threadSafe()) {
+            if (!threadSafe) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Bir chunk'ın bitini set eder veya temizler.
+     */
+    private void mark(UUID worldId, int chunkX, int chunkZ, boolean empty) {
+        long key = tileKey(chunkX, chunkZ);
+        int bit = bitIndex(chunkX, chunkZ);
+        long mask = 1L << bit;
+
+        if (empty) {
+            AtomicLongArray tile = worlds.computeIfAbsent(worldId, id -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(key, k -> new AtomicLongArray(TILE_WORDS));
+            tile.getAndAccumulate(bit >>> 6, mask, (current, m) -> current | m);
+            return;
+        }
+
+        Map<Long, AtomicLongArray> tiles = worlds.get(worldId);
+        if (tiles == null) return;
+        AtomicLongArray tile = tiles.get(key);
+        if (tile != null) {
+            tile.getAndAccumulate(bit >>> 6, ~mask, (current, m) -> current & m);
+        }
+    }
+
+    /**
+     * Chunk koordinatlarından, ait olduğu 32x32'lik karonun anahtarını üretir.
+     */
+    private static long tileKey(int chunkX, int chunkZ) {
+        return ((long) (chunkX >> 5) << 32) | ((chunkZ >> 5) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Chunk'ın karo içindeki bit indeksini (0-1023) döndürür.
+     */
+    private static int bitIndex(int chunkX, int chunkZ) {
+        return ((chunkX & 31) << 5) | (chunkZ & 31);
+    }
+
+    /**
+     * Kuyrukta bekleyen tek bir chunk taraması.
+     */
+    private record PendingScan(World world, int x, int z) {}
+
+    /**
+     * Thread-safe hook'lardan geçmiş, ana thread'de tamamlanmayı bekleyen bir tarama.
+     */
+    private record DeferredScan(PendingScan scan, long generation) {}
+}
@@ -0,0 +1,191 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.api.CircuitState;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Tek bir hook için sayı tabanlı kayan pencereye (count-based sliding window) sahip devre kesici.
+ * <p>
+ * Son {@code windowSize} çağrının sonuçları bir halka tamponda tutulur. Penceredeki hatalı veya yavaş çağrı oranı
+ * eşiği aştığında devre açılır ({@link CircuitState#OPEN}) ve hook bekleme süresi boyunca çağrılmaz. Süre dolunca
+ * tek bir deneme çağrısına izin verilir ({@link CircuitState#HALF_OPEN}); deneme başarılıysa devre kapanır,
+ * değilse yeniden açılır.
+ * <p>
+ * Kapalı durumdaki kontrol tek bir {@code volatile} okumadan ibarettir. Pencere tamamen başarılı çağrılarla doluyken
+ * yeni bir başarılı çağrı pencereyi değiştirmeyeceği için kilit alınmadan atlanır; diğer kayıtlar kısa bir
+ * {@code synchronized} blok içinde yapılır.
+ */
+public class CircuitBreaker {
+
+    /**
+     * Aynı hook için hata logları arasındaki en kısa süre.
+     */
+    private static final long LOG_INTERVAL_NANOS = 30_000_000_000L;
+
+    private final String hookName;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final Consumer<String> stateLogger;
+    private final AtomicInteger openCircuits;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private volatile boolean clean;
+
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private long lastLogAt;
+    private boolean loggedOnce;
+    private final AtomicInteger suppressedLogs = new AtomicInteger();
+
+    /**
+     * Yeni bir devre kesici oluşturur.
+     *
+     * @param hookName             Loglarda kullanılacak hook adı.
+     * @param windowSize           Hata oranının hesaplandığı son çağrı sayısı.
+     * @param minimumCalls         Devrenin açılabilmesi için gereken en az çağrı sayısı.
+     * @param failureRateThreshold Devreyi açan hatalı veya yavaş çağrı oranı.
+     * @param slowCallNanos        Bir çağrının yavaş sayılacağı süre.
+     * @param openNanos            Devrenin açık kalacağı süre.
+     * @param stateLogger          Durum geçişlerinin bildirileceği uyarı logu.
+     * @param openCircuits         Kapalı olmayan devre sayısını tutan, tüm devre kesicilerce paylaşılan sayaç.
+     */
+    public CircuitBreaker(String hookName, int windowSize, int minimumCalls, double failureRateThreshold,
+                          long slowCallNanos, long openNanos, Consumer<String> stateLogger, AtomicInteger openCircuits) {
+        this.hookName = hookName;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallNanos;
+        this.openNanos = openNanos;
+        this.stateLogger = stateLogger;
+        this.openCircuits = openCircuits;
+    }
+
+    /**
+     * Hook'un şu anda çağrılıp çağrılamayacağını döndürür. Bekleme süresi dolmuş açık bir devrede, çağıranı
+     * deneme çağrısının sahibi yapar; bu durumda sonuç mutlaka {@link #onResult(boolean, long)} ile bildirilmelidir.
+     *
+     * @return Hook çağrılabilirse {@code true}.
+     */
+    public boolean tryAcquire() {
+        if (state == CircuitState.CLOSED) return true;
+
+        synchronized (this) {
+            if (state == CircuitState.CLOSED) return true;
+            if (state == CircuitState.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                state = CircuitState.HALF_OPEN;
+                probeInFlight = false;
+            }
+            if (state == CircuitState.HALF_OPEN && !probeInFlight) {
+                probeInFlight = true;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Bir çağrının sonucunu kaydeder ve gerekirse devrenin durumunu değiştirir.
+     *
+     * @param failed Çağrı istisna fırlattıysa {@code true}.
+     * @param nanos  Çağrının süresi.
+     */
+    public void onResult(boolean failed, long nanos) {
+        boolean bad = failed || nanos >= slowCallNanos;
+        if (!bad && clean && state == CircuitState.CLOSED) return;
+
+        String transition = null;
+        synchronized (this) {
+            if (state == CircuitState.HALF_OPEN) {
+                probeInFlight = false;
+                if (bad) {
+                    open();
+                    transition = "Deneme çağrısı başarısız, devre yeniden açıldı: " + hookName;
+                } else {
+                    close();
+                    transition = "Hook düzeldi, devre kapandı: " + hookName;
+                }
+            } else if (state == CircuitState.CLOSED) {
+                if (windowCount == window.length && window[windowIndex]) windowFailures--;
+                window[windowIndex] = bad;
+                if (bad) windowFailures++;
+                windowIndex = (windowIndex + 1) % window.length;
+                if (windowCount < window.length) windowCount++;
+                clean = windowFailures == 0 && windowCount == window.length;
+
+                if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+                    open();
+                    transition = "Hook çok sık hata veriyor veya yavaş, devre açıldı: " + hookName
+                            + " (" + windowFailures + "/" + windowCount + " çağrı)";
+                }
+            }
+        }
+        if (transition != null) stateLogger.accept(transition);
+    }
+
+    /**
+     * Bir hata logunun basılıp basılmayacağını belirler. Aynı hook için en fazla {@link #LOG_INTERVAL_NANOS}
+     * aralıkla bir log basılmasına izin verilir; aradaki loglar sayılarak bastırılır.
+     *
+     * @return Log basılmalıysa bastırılan log sayısı (0 veya daha büyük), basılmamalıysa -1.
+     */
+    public int tryLog() {
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (loggedOnce && now - lastLogAt < LOG_INTERVAL_NANOS) {
+                suppressedLogs.incrementAndGet();
+                return -1;
+            }
+            loggedOnce = true;
+            lastLogAt = now;
+        }
+        return suppressedLogs.getAndSet(0);
+    }
+
+    /**
+     * Devrenin güncel durumunu döndürür.
+     *
+     * @return Devre durumu.
+     */
+    public CircuitState state() {
+        return state;
+    }
+
+    /**
+     * Devreyi kapatır ve pencereyi sıfırlar.
+     */
+    public synchronized void reset() {
+        probeInFlight = false;
+        if (state != CircuitState.CLOSED) close();
+        else resetWindow();
+    }
+
+    private void open() {
+        if (state == CircuitState.CLOSED) openCircuits.incrementAndGet();
+        state = CircuitState.OPEN;
+        openedAt = System.nanoTime();
+        resetWindow();
+    }
+
+    private void close() {
+        resetWindow();
+        state = CircuitState.CLOSED;
+        openCircuits.decrementAndGet();
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        clean = false;
+    }
+}
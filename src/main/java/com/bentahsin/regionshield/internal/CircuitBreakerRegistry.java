@@ -0,0 +1,95 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.BenthShieldOptions;
+import com.bentahsin.regionshield.api.CircuitState;
+import com.bentahsin.regionshield.api.IShieldHook;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Kayıtlı her hook için bir {@link CircuitBreaker} tutan kayıt defteri.
+ * <p>
+ * Devre kesiciler hook ilk çağrıldığında yapılandırmadaki eşiklerle oluşturulur. Kapalı olmayan devre sayısı
+ * ortak bir sayaçta tutulur; böylece "herhangi bir devre açık mı" sorusu tek bir okumayla yanıtlanır.
+ */
+public class CircuitBreakerRegistry {
+
+    private final BenthShieldOptions options;
+    private final Consumer<String> stateLogger;
+    private final Map<IShieldHook, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final AtomicInteger openCircuits = new AtomicInteger();
+
+    /**
+     * Yeni bir kayıt defteri oluşturur.
+     *
+     * @param options     Eşikleri içeren yapılandırma.
+     * @param stateLogger Durum geçişlerinin bildirileceği uyarı logu.
+     */
+    public CircuitBreakerRegistry(BenthShieldOptions options, Consumer<String> stateLogger) {
+        this.options = options;
+        this.stateLogger = stateLogger;
+    }
+
+    /**
+     * Verilen hook'un devre kesicisini döndürür; hook ilk kez görülüyorsa oluşturur.
+     *
+     * @param hook Hook.
+     * @return Hook'un devre kesicisi.
+     */
+    public CircuitBreaker of(IShieldHook hook) {
+        CircuitBreaker breaker = breakers.get(hook);
+        if (breaker != null) return breaker;
+        return breakers.computeIfAbsent(hook, h -> new CircuitBreaker(h.getName(),
+                options.getBreakerWindowSize(),
+                options.getBreakerMinimumCalls(),
+                options.getBreakerFailureRateThreshold(),
+                TimeUnit.MILLISECONDS.toNanos(options.getBreakerSlowCallMillis()),
+                TimeUnit.MILLISECONDS.toNanos(options.getBreakerOpenMillis()),
+                stateLogger, openCircuits));
+    }
+
+    /**
+     * En az bir devrenin açık veya yarı açık olup olmadığını döndürür.
+     *
+     * @return Kapalı olmayan bir devre varsa {@code true}.
+     */
+    public boolean isDegraded() {
+        return openCircuits.get() > 0;
+    }
+
+    /**
+     * Adı verilen hook'un devre durumunu döndürür.
+     *
+     * @param hookName Hook'un adı (büyük/küçük harf duyarsız).
+     * @return Devre durumu. Hook henüz hiç çağrılmadıysa {@link CircuitState#CLOSED}.
+     */
+    public CircuitState state(String hookName) {
+        for (Map.Entry<IShieldHook, CircuitBreaker> entry : breakers.entrySet()) {
+            if (entry.getKey().getName().equalsIgnoreCase(hookName)) return entry.getValue().state();
+        }
+        return CircuitState.CLOSED;
+    }
+
+    /**
+     * Kayıttan kaldırılan bir hook'un devre kesicisini siler.
+     *
+     * @param hook Hook.
+     */
+    public void remove(IShieldHook hook) {
+        CircuitBreaker breaker = breakers.remove(hook);
+        if (breaker != null) breaker.reset();
+    }
+
+    /**
+     * Tüm devreleri kapatır.
+     */
+    public void resetAll() {
+        for (CircuitBreaker breaker : breakers.values()) {
+            breaker.reset();
+        }
+    }
+}
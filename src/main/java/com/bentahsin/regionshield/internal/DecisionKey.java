@@ -0,0 +1,23 @@
+package com.bentahsin.regionshield.internal;
+
+/**
+ * Nesne tabanlı önbellek arka uçlarında (Guava, W-TinyLFU) kullanılan bileşik anahtar.
+ * <p>
+ * {@link PrimitiveDecisionCache} bu sınıfa ihtiyaç duymaz; iki {@code long} değeri doğrudan paralel dizilerde tutar.
+ *
+ * @param key     Paketlenmiş konum anahtarı veya bölge parmak izi.
+ * @param context Paketlenmiş bağlam anahtarı.
+ */
+public record DecisionKey(long key, long context) {
+
+    @Override
+    public int hashCode() {
+        long h = key * 0x9E3779B97F4A7C15L ^ context * 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof DecisionKey other && other.key == key && other.context == context;
+    }
+}
@@ -0,0 +1,220 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.model.InteractionType;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Karar önbelleği için nesne oluşturmadan (allocation-free) kullanılan ilkel anahtarları üreten sınıf.
+ * <p>
+ * Bir önbellek kaydı iki {@code long} değer ile tanımlanır:
+ * <ul>
+ *     <li><b>Konum anahtarı:</b> Bloğun X, Y ve Z koordinatları tek bir {@code long} içine paketlenir
+ *     (X ve Z için 26 bit, Y için 12 bit).</li>
+ *     <li><b>Bağlam anahtarı:</b> Oyuncu slotu (üst 32 bit), dünya indeksi (24 bit) ve
+ *     {@link InteractionType} sıra numarası (alt 8 bit).</li>
+ * </ul>
+ * Dünya adları yerine dünyaların UUID'sinden türetilen küçük tam sayı indeksleri, oyuncu UUID'leri yerine
+ * ise oturum boyunca geçerli olan slot numaraları kullanılır. Slotlar oyuncu çıkış yaptığında serbest
+ * bırakılır ve <u>asla yeniden kullanılmaz</u>; bu sayede eski bir oyuncunun önbellek kaydı yeni bir
+ * oyuncuya yanlışlıkla eşleşemez. Slotlar yalnızca sunucuda çevrimiçi olan oyunculara verilir; NPC'ler ve çıkış
+ * yapmış oyuncular slot almaz ve kararları önbelleğe yazılmaz.
+ */
+public class DecisionKeys implements Listener {
+
+    /**
+     * Bölge parmak izi hesaplamalarında kullanılan başlangıç değeri (FNV-1a offset basis).
+     */
+    public static final long FINGERPRINT_SEED = 0xCBF29CE484222325L;
+
+    /**
+     * Bağlam anahtarında, kaydın blok yerine bölge parmak izine göre tutulduğunu belirten bit.
+     * {@link InteractionType} sıra numaraları bu bitin altında kaldığı sürece çakışma olmaz.
+     */
+    private static final long REGION_SCOPE_BIT = 1L << 7;
+
+    /**
+     * {@link #playerSlot(Player)} tarafından, slotu olmayan ve slot verilemeyen oyuncular için döndürülen değer.
+     */
+    public static final int NO_SLOT = -1;
+
+    private final Map<UUID, Integer> worldIndices = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> playerSlots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextWorldIndex = new AtomicInteger();
+    private final AtomicInteger nextPlayerSlot = new AtomicInteger();
+
+    /**
+     * Blok koordinatlarını tek bir {@code long} değer içine paketler.
+     *
+     * @param x Bloğun X koordinatı.
+     * @param y Bloğun Y koordinatı.
+     * @param z Bloğun Z koordinatı.
+     * @return Paketlenmiş konum anahtarı.
+     */
+    public static long packBlock(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    /**
+     * Oyuncu slotu, dünya indeksi ve etkileşim türünü tek bir bağlam anahtarında birleştirir.
+     *
+     * @param playerSlot Oyuncunun oturum slotu.
+     * @param worldIndex Dünyanın indeksi.
+     * @param type       Etkileşim türü.
+     * @return Paketlenmiş bağlam anahtarı.
+     */
+    public static long context(int playerSlot, int worldIndex, InteractionType type) {
+        return ((long) playerSlot << 32) | ((long) (worldIndex & 0xFFFFFF) << 8) | type.ordinal();
+    }
+
+    /**
+     * Bir bağlam anahtarını, bölge kapsamlı (region-scoped) önbellek kayıtları için işaretler.
+     * Böylece aynı sayısal değere sahip bir blok anahtarı ile bir bölge parmak izi asla çakışmaz.
+     *
+     * @param context {@link #context(int, int, InteractionType)} ile üretilmiş bağlam anahtarı.
+     * @return Bölge kapsamı bitini içeren bağlam anahtarı.
+     */
+    public static long regionScoped(long context) {
+        return context | REGION_SCOPE_BIT;
+    }
+
+    /**
+     * Bağlam anahtarının bölge kapsamlı bir kayda ait olup olmadığını döndürür.
+     *
+     * @param context Bağlam anahtarı.
+     * @return Kayıt bölge parmak izine göre tutuluyorsa {@code true}.
+     */
+    public static boolean isRegionScoped(long context) {
+        return (context & REGION_SCOPE_BIT) != 0;
+    }
+
+    /**
+     * Bağlam anahtarından dünya indeksini çıkarır.
+     *
+     * @param context Bağlam anahtarı.
+     * @return Dünya indeksi.
+     */
+    public static int worldOf(long context) {
+        return (int) ((context >>> 8) & 0xFFFFFF);
+    }
+
+    /**
+     * Bağlam anahtarından oyuncu slotunu çıkarır.
+     *
+     * @param context Bağlam anahtarı.
+     * @return Oyuncu slotu.
+     */
+    public static int playerOf(long context) {
+        return (int) (context >>> 32);
+    }
+
+    /**
+     * Paketlenmiş bir konum anahtarından bloğun X koordinatını (işaretiyle birlikte) çıkarır.
+     *
+     * @param key {@link #packBlock(int, int, int)} ile üretilmiş anahtar.
+     * @return Bloğun X koordinatı.
+     */
+    public static int blockX(long key) {
+        return (int) (key >> 38);
+    }
+
+    /**
+     * Paketlenmiş bir konum anahtarından bloğun Z koordinatını (işaretiyle birlikte) çıkarır.
+     *
+     * @param key {@link #packBlock(int, int, int)} ile üretilmiş anahtar.
+     * @return Bloğun Z koordinatı.
+     */
+    public static int blockZ(long key) {
+        return (int) (key << 26 >> 38);
+    }
+
+    /**
+     * Bir metnin (örn. bölge ID'si) 64 bitlik FNV-1a özetini hesaplar.
+     * {@link String#hashCode()} yerine 64 bit kullanılması, binlerce bölge arasında çakışma olasılığını
+     * pratikte sıfıra indirir.
+     *
+     * @param value Özeti alınacak metin.
+     * @return 64 bitlik özet.
+     */
+    public static long fingerprint(String value) {
+        long hash = FINGERPRINT_SEED;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Mevcut bir parmak izine yeni bir değeri sıraya duyarlı şekilde ekler.
+     *
+     * @param hash  Şimdiye kadar biriktirilmiş parmak izi.
+     * @param value Eklenecek değer.
+     * @return Birleştirilmiş parmak izi.
+     */
+    public static long mix(long hash, long value) {
+        long h = hash * 0x9E3779B97F4A7C15L + value;
+        return h ^ (h >>> 29);
+    }
+
+    /**
+     * Verilen dünyanın kalıcı indeksini döndürür; dünya ilk kez görülüyorsa yeni bir indeks atar.
+     *
+     * @param world İndeksi alınacak dünya.
+     * @return Dünyanın indeksi.
+     */
+    public int worldIndex(World world) {
+        UUID uid = world.getUID();
+        Integer index = worldIndices.get(uid);
+        if (index != null) return index;
+        return worldIndices.computeIfAbsent(uid, k -> nextWorldIndex.getAndIncrement());
+    }
+
+    /**
+     * Verilen oyuncunun oturum slotunu döndürür; oyuncunun henüz bir slotu yoksa ve oyuncu sunucuda çevrimiçiyse
+     * yeni bir slot atar. NPC'ler (sunucunun oyuncu listesinde olmayan {@link Player} nesneleri) ve çıkış yapmış
+     * oyuncular slot almaz; aksi halde {@link #onQuit} ile hiç serbest bırakılmayacak slotlar birikirdi.
+     *
+     * @param player Slotu alınacak oyuncu.
+     * @return Oyuncunun slot numarası veya oyuncuya slot verilemiyorsa {@link #NO_SLOT}.
+     */
+    public int playerSlot(Player player) {
+        UUID uuid = player.getUniqueId();
+        Integer slot = playerSlots.get(uuid);
+        if (slot != null) return slot;
+        if (!player.isOnline() || Bukkit.getPlayer(uuid) != player) return NO_SLOT;
+        return playerSlots.computeIfAbsent(uuid, k -> nextPlayerSlot.getAndIncrement());
+    }
+
+    /**
+     * Verilen oyuncunun mevcut slotunu, yeni bir slot atamadan döndürür.
+     *
+     * @param uuid Oyuncunun UUID'si.
+     * @return Oyuncunun slotu veya slotu yoksa {@link #NO_SLOT}.
+     */
+    public int existingSlot(UUID uuid) {
+        Integer slot = playerSlots.get(uuid);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    /**
+     * Oyuncu çıkış yaptığında slotunu serbest bırakır. Bu slota ait önbellek kayıtları
+     * bir daha eşleşmeyeceği için süreleri dolduğunda kendiliğinden temizlenir.
+     *
+     * @param event PlayerQuitEvent olayı.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        playerSlots.remove(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,38 @@
+package com.bentahsin.regionshield.internal;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * {@link ReflectionUtils#fieldAccessor} ile bir kez çözümlenmiş, bir alanın (field) değerini okuyan erişimci.
+ * <p>
+ * Alan, {@link java.lang.invoke.VarHandle} üzerinden okunur; her okumada {@code getDeclaredField} ve
+ * {@code setAccessible} çağrılmaz. Statik alanlarda verilen nesne yok sayılır. Okuma sırasındaki istisnalar
+ * yutulur ve {@code null} döner; {@link Error}'lar yutulmaz.
+ */
+public final class FieldAccessor {
+
+    private final MethodHandle getter;
+
+    /**
+     * @param getter Türü {@code (Object)Object} olan, alanın {@code GET} erişim kipine ait tutamaç.
+     */
+    FieldAccessor(MethodHandle getter) {
+        this.getter = getter;
+    }
+
+    /**
+     * Alanın değerini okur.
+     *
+     * @param instance Değerin okunacağı nesne örneği; statik alanlar için {@code null}.
+     * @return Alanın değeri veya bir hata oluşursa (örn: nesne alanın sınıfından değilse) {@code null}.
+     */
+    public Object get(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+}
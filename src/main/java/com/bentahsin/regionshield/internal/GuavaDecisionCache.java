@@ -0,0 +1,114 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.api.DecisionCacheStats;
+import com.bentahsin.regionshield.api.IDecisionCache;
+import com.bentahsin.regionshield.api.ShieldResponse;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Guava {@link Cache} üzerine kurulu {@link IDecisionCache} arka ucu.
+ * <p>
+ * Guava, kapasite dolduğunda yaklaşık LRU (en uzun süre kullanılmayan) politikasıyla kayıt çıkarır ve
+ * kilidi segmentlere böldüğü için çok sayıda thread'in aynı anda eriştiği senaryolarda iyi ölçeklenir.
+ * <p>
+ * Kayıt süreleri tick cinsinden tutulduğundan her okumada ayrıca kontrol edilir; Guava'nın yazma sonrası
+ * süre dolumu ({@code expireAfterWrite}) yalnızca hiç okunmayan kayıtların bellekten temizlenmesi için
+ * bir dakikalık üst sınır olarak kullanılır.
+ */
+public class GuavaDecisionCache implements IDecisionCache {
+
+    private static final long MAX_LIFETIME_SECONDS = 60L;
+
+    private final Cache<DecisionKey, Entry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Yeni bir Guava önbelleği oluşturur.
+     *
+     * @param maximumSize Önbellekte tutulacak en fazla kayıt sayısı.
+     */
+    public GuavaDecisionCache(int maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(MAX_LIFETIME_SECONDS, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Kaydı arar; süresi dolmuşsa siler ve ıskalama olarak sayar.
+     *
+     * @param key     Konum anahtarı.
+     * @param context Bağlam anahtarı.
+     * @param now     Mevcut tick değeri.
+     * @return Geçerli karar veya yoksa {@code null}.
+     */
+    @Override
+    public ShieldResponse get(long key, long context, int now) {
+        DecisionKey decisionKey = new DecisionKey(key, context);
+        Entry entry = cache.getIfPresent(decisionKey);
+        if (entry != null) {
+            if (entry.expiresAt - now > 0) {
+                hits.increment();
+                return entry.value;
+            }
+            cache.asMap().remove(decisionKey, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Kararı önbelleğe yazar.
+     *
+     * @param key       Konum anahtarı.
+     * @param context   Bağlam anahtarı.
+     * @param value     Saklanacak karar.
+     * @param now       Mevcut tick değeri.
+     * @param expiresAt Kaydın geçersiz sayılacağı tick değeri.
+     */
+    @Override
+    public void put(long key, long context, ShieldResponse value, int now, int expiresAt) {
+        cache.put(new DecisionKey(key, context), new Entry(value, expiresAt));
+    }
+
+    /**
+     * Filtreyle eşleşen kayıtları siler.
+     *
+     * @param filter Silinecek kayıtları seçen filtre.
+     */
+    @Override
+    public void invalidateIf(EntryFilter filter) {
+        cache.asMap().keySet().removeIf(k -> filter.test(k.key(), k.context()));
+    }
+
+    /**
+     * Tüm kayıtları siler.
+     */
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * İsabet ve ıskalama sayılarını (tick tabanlı süre kontrolü dahil) ve Guava'nın çıkarma sayısını döndürür.
+     *
+     * @return İstatistiklerin anlık görüntüsü.
+     */
+    @Override
+    public DecisionCacheStats stats() {
+        CacheStats guavaStats = cache.stats();
+        return new DecisionCacheStats(hits.sum(), misses.sum(), guavaStats.evictionCount(), cache.size());
+    }
+
+    /**
+     * Bir kararı ve geçersiz sayılacağı tick değerini tutan kayıt.
+     */
+    private record Entry(ShieldResponse value, int expiresAt) {}
+}
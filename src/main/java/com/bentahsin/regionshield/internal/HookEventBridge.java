@@ -0,0 +1,107 @@
+package com.bentahsin.regionshield.internal;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+import java.util.function.Consumer;
+
+/**
+ * Hook'ların, entegre ettikleri eklentinin olaylarını (event) derleme zamanı bağımlılığı olmadan dinlemesini sağlar.
+ * <p>
+ * Olay sınıfları tam nitelikli adlarıyla, yansıtma (reflection) kullanılarak bulunur. Sunucudaki eklenti sürümünde
+ * bulunmayan olaylar sessizce atlanır; bu sayede farklı sürümler için aynı ad listesi güvenle kullanılabilir.
+ * Tüm dinleyiciler {@link EventPriority#MONITOR} önceliğinde ve iptal edilen olayları yoksayacak şekilde kaydedilir.
+ * <p>
+ * Bölge eklentilerinin çoğu olayı değişiklik uygulanmadan <u>önce</u> tetikler. Bu yüzden işleyici olayın
+ * kendisinde değil, bir sonraki tick'te ana thread üzerinde çalıştırılır; böylece değişiklik uygulandıktan sonra
+ * önbelleğe yazılmış olabilecek eski kararlar da temizlenir.
+ * <p>
+ * Olay etkilenen alanı taşıyorsa hook yalnızca o alanı geçersiz kılmalıdır: GriefPrevention claim olayları claim'i,
+ * Towny arsa olayları arsayı (TownBlock), Lands chunk olayları chunk'ı taşır. Kasaba veya arazi üyeliği gibi
+ * bölgenin tamamına yayılan değişiklikler ile kapsamı okunamayan olaylarda tüm önbellek geçersiz kılınır. Bu olaylar
+ * oyuncu hareketleri ve blok etkileşimlerine göre çok nadir olduğundan maliyeti önemsizdir.
+ * <p>
+ * Örnek kullanım:
+ * <pre>{@code
+ * events = new HookEventBridge(plugin);
+ * events.listen(event -> invalidator.invalidateAll(),
+ *         "com.palmergames.bukkit.towny.event.NewTownEvent",
+ *         "com.palmergames.bukkit.towny.event.DeleteTownEvent");
+ * }</pre>
+ */
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class HookEventBridge implements Listener {
+
+    private final Plugin plugin;
+
+    /**
+     * Yeni bir olay köprüsü oluşturur.
+     *
+     * @param plugin Dinleyicilerin adına kaydedileceği eklenti.
+     */
+    public HookEventBridge(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Adı verilen olay sınıflarının her biri için işleyiciyi kaydeder.
+     *
+     * @param handler          Olay tetiklendiğinde çağrılacak işleyici.
+     * @param eventClassNames  Dinlenecek olay sınıflarının tam nitelikli adları.
+     * @return Başarıyla kaydedilen olay sayısı.
+     */
+    public int listen(Consumer<Event> handler, String... eventClassNames) {
+        return listen(null, handler, eventClassNames);
+    }
+
+    /**
+     * Adı verilen olay sınıflarının her biri için işleyicileri kaydeder. {@code immediate} işleyicisi ertelenmeden,
+     * olayın içinde çalışır; aynı tick içinde tutulan ve olayla birlikte geçersizleşen hafif durumları (ör. bir
+     * sayaç) hemen güncellemek için kullanılır. Olay sırasında değişiklik henüz uygulanmamış olabileceğinden
+     * önbellek temizliği gibi işler {@code handler} içinde yapılmalıdır.
+     *
+     * @param immediate       Olay tetiklendiği anda, olayın thread'inde çağrılacak işleyici; {@code null} olabilir.
+     * @param handler         Bir sonraki tick'te çağrılacak işleyici.
+     * @param eventClassNames Dinlenecek olay sınıflarının tam nitelikli adları.
+     * @return Başarıyla kaydedilen olay sayısı.
+     */
+    public int listen(Consumer<Event> immediate, Consumer<Event> handler, String... eventClassNames) {
+        int registered = 0;
+        for (String className : eventClassNames) {
+            Class<?> found = ReflectionUtils.getClass(className);
+            if (found == null || !Event.class.isAssignableFrom(found)) continue;
+
+            Class<? extends Event> eventClass = found.asSubclass(Event.class);
+            try {
+                plugin.getServer().getPluginManager().registerEvent(eventClass, this, EventPriority.MONITOR,
+                        (listener, event) -> {
+                            if (!eventClass.isInstance(event)) return;
+                            if (immediate != null) immediate.accept(event);
+                            defer(handler, event);
+                        }, plugin, true);
+                registered++;
+            } catch (RuntimeException ignored) {}
+        }
+        return registered;
+    }
+
+    /**
+     * İşleyiciyi bir sonraki tick'te çalıştırır. Eklenti kapanıyorsa görev zamanlanamaz ve olay yoksayılır.
+     */
+    private void defer(Consumer<Event> handler, Event event) {
+        try {
+            plugin.getServer().getScheduler().runTask(plugin, () -> handler.accept(event));
+        } catch (IllegalStateException | IllegalArgumentException ignored) {}
+    }
+
+    /**
+     * Bu köprü üzerinden kaydedilen tüm dinleyicileri kaldırır.
+     */
+    public void close() {
+        HandlerList.unregisterAll(this);
+    }
+}
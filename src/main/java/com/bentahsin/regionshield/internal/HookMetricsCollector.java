@@ -0,0 +1,227 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.api.HookMetrics;
+import com.bentahsin.regionshield.api.HookOperation;
+import com.bentahsin.regionshield.api.IShieldHook;
+import com.bentahsin.regionshield.api.ShieldMetrics;
+import com.bentahsin.regionshield.model.InteractionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hook çağrılarının gecikme histogramlarını ve izin/red/hata sayaçlarını toplayan sınıf.
+ * <p>
+ * Üretimde sürekli açık kalabilecek kadar ucuz olacak şekilde tasarlanmıştır:
+ * <ul>
+ *     <li>Tüm sayaçlar {@link LongAdder}'dır; farklı thread'lerden gelen kayıtlar aynı önbellek satırı için yarışmaz.</li>
+ *     <li>Histogram sabit sayıda logaritmik kovadan oluşur; kova indeksi tek bir {@link Long#numberOfLeadingZeros(long)}
+ *     ile bulunur ve kayıt sırasında nesne oluşturulmaz.</li>
+ *     <li>Hook başına sayaç kümeleri kayıt sırasında değil, hook ilk görüldüğünde bir kez oluşturulur.</li>
+ * </ul>
+ */
+public class HookMetricsCollector {
+
+    /**
+     * Histogramdaki kova sayısı. Son kova ~275 saniyenin üzerindeki tüm çağrıları toplar.
+     */
+    public static final int BUCKETS = 40;
+
+    private static final InteractionType[] TYPES = InteractionType.values();
+
+    private final Map<IShieldHook, HookStats> hooks = new ConcurrentHashMap<>();
+
+    /**
+     * Verilen hook'un sayaç kümesini döndürür; hook ilk kez görülüyorsa oluşturur.
+     *
+     * @param hook Hook.
+     * @return Hook'un sayaç kümesi.
+     */
+    public HookStats of(IShieldHook hook) {
+        HookStats stats = hooks.get(hook);
+        if (stats != null) return stats;
+        return hooks.computeIfAbsent(hook, h -> new HookStats(h.getName()));
+    }
+
+    /**
+     * Kayıttan kaldırılan bir hook'un sayaçlarını atar; hook ve eklentisi bellekte tutulmaz ve artık metriklerde
+     * görünmez.
+     *
+     * @param hook Hook.
+     */
+    public void remove(IShieldHook hook) {
+        hooks.remove(hook);
+    }
+
+    /**
+     * Tüm sayaçları sıfırlar.
+     */
+    public void reset() {
+        hooks.clear();
+    }
+
+    /**
+     * Sıfırdan farklı en az bir çağrısı olan tüm sayaçların anlık görüntüsünü oluşturur.
+     *
+     * @return Metriklerin anlık görüntüsü.
+     */
+    public ShieldMetrics snapshot() {
+        List<HookMetrics> entries = new ArrayList<>();
+        for (HookStats stats : hooks.values()) {
+            for (int i = 0; i < TYPES.length; i++) {
+                stats.checks[i].snapshotInto(entries, stats.name, HookOperation.CHECK, TYPES[i]);
+            }
+            stats.regionInfo.snapshotInto(entries, stats.name, HookOperation.REGION_INFO, null);
+            stats.regionBounds.snapshotInto(entries, stats.name, HookOperation.REGION_BOUNDS, null);
+            stats.snapshot.snapshotInto(entries, stats.name, HookOperation.SNAPSHOT, null);
+        }
+        return new ShieldMetrics(entries);
+    }
+
+    /**
+     * Bir süreyi histogram kova indeksine çevirir.
+     */
+    static int bucketOf(long nanos) {
+        if (nanos <= 0) return 0;
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * Tek bir hook'un tüm çağrı türleri için sayaç kümeleri.
+     */
+    public static final class HookStats {
+        private final String name;
+        private final OperationStats[] checks = new OperationStats[TYPES.length];
+        private final OperationStats regionInfo = new OperationStats();
+        private final OperationStats regionBounds = new OperationStats();
+        private final OperationStats snapshot = new OperationStats();
+
+        private HookStats(String name) {
+            this.name = name;
+            for (int i = 0; i < checks.length; i++) {
+                checks[i] = new OperationStats();
+            }
+        }
+
+        /**
+         * @param operation Çağrı türü.
+         * @param type      Etkileşim türü. Yalnızca {@link HookOperation#CHECK} için kullanılır.
+         * @return Çağrı türünün sayaçları.
+         */
+        public OperationStats get(HookOperation operation, InteractionType type) {
+            switch (operation) {
+                case REGION_INFO:
+                    return regionInfo;
+                case REGION_BOUNDS:
+                    return regionBounds;
+                case SNAPSHOT:
+                    return snapshot;
+                default:
+                    return checks[type.ordinal()];
+            }
+        }
+
+        /**
+         * @param type Etkileşim türü.
+         * @return Bu türdeki {@code check} çağrılarının sayaçları.
+         */
+        public OperationStats check(InteractionType type) {
+            return checks[type.ordinal()];
+        }
+
+        /**
+         * @return {@code getRegionInfo} çağrılarının sayaçları.
+         */
+        public OperationStats regionInfo() {
+            return regionInfo;
+        }
+
+        /**
+         * @return {@code getRegionBounds} çağrılarının sayaçları.
+         */
+        public OperationStats regionBounds() {
+            return regionBounds;
+        }
+
+        /**
+         * @return {@code getRegionSnapshot} çağrılarının sayaçları.
+         */
+        public OperationStats snapshot() {
+            return snapshot;
+        }
+    }
+
+    /**
+     * Tek bir çağrı türünün sayaçları ve gecikme histogramı.
+     */
+    public static final class OperationStats {
+        private final LongAdder allows = new LongAdder();
+        private final LongAdder denies = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        private OperationStats() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Başarıyla tamamlanan tek bir çağrıyı kaydeder.
+         *
+         * @param denied Çağrı işlemi reddettiyse {@code true}.
+         * @param nanos  Çağrının süresi.
+         */
+        public void record(boolean denied, long nanos) {
+            (denied ? denies : allows).increment();
+            totalNanos.add(nanos);
+            buckets[bucketOf(nanos)].increment();
+        }
+
+        /**
+         * Aynı çağrıda değerlendirilen birden çok konumu (toplu kontrol) kaydeder. Histograma konum başına
+         * ortalama süre, konum sayısı kadar eklenir.
+         *
+         * @param allowed İzin verilen konum sayısı.
+         * @param denied  Reddedilen konum sayısı.
+         * @param nanos   Çağrının toplam süresi.
+         */
+        public void recordBatch(int allowed, int denied, long nanos) {
+            int count = allowed + denied;
+            if (count == 0) return;
+            allows.add(allowed);
+            denies.add(denied);
+            totalNanos.add(nanos);
+            buckets[bucketOf(nanos / count)].add(count);
+        }
+
+        /**
+         * İstisna fırlatan bir çağrıyı kaydeder.
+         *
+         * @param nanos Çağrının istisnaya kadar geçen süresi.
+         */
+        public void recordError(long nanos) {
+            errors.increment();
+            totalNanos.add(nanos);
+            buckets[bucketOf(nanos)].increment();
+        }
+
+        private void snapshotInto(List<HookMetrics> entries, String hookName, HookOperation operation, InteractionType type) {
+            long allowCount = allows.sum();
+            long denyCount = denies.sum();
+            long errorCount = errors.sum();
+            if (allowCount + denyCount + errorCount == 0) return;
+
+            long[] histogram = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = buckets[i].sum();
+            }
+            entries.add(new HookMetrics(hookName, operation, type, allowCount, denyCount, errorCount,
+                    totalNanos.sum(), histogram));
+        }
+    }
+}
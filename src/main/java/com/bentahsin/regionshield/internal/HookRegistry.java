@@ -0,0 +1,265 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.api.HookCapabilities;
+import com.bentahsin.regionshield.api.IShieldHook;
+import com.bentahsin.regionshield.model.InteractionType;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Kayıtlı {@link IShieldHook} örneklerini tutan, kilitsiz okunabilen "kopyala-ve-yayınla" (copy-on-write) kayıt defteri.
+ * <p>
+ * Her değişiklik (kayıt/kaldırma) öncelik sırasına göre dizilmiş yeni ve değişmez bir {@link Snapshot} üretir ve
+ * bunu {@code volatile} bir alan üzerinden yayınlar. Okuyucular (ör. {@code checkResult}) hangi thread'de olurlarsa
+ * olsunlar kilit almadan ve nesne oluşturmadan dizi üzerinde gezinebilir; sıralama işlemi hiçbir zaman
+ * okunmakta olan bir listenin üzerinde yapılmaz.
+ * <p>
+ * İsimle arama için önceden hazırlanmış iki indeks tutulur: birebir isim ve küçük harfe çevrilmiş isim.
+ * Böylece {@link #find(String)} çağrıları O(1) maliyetle tamamlanır.
+ * <p>
+ * Ayrıca her {@link InteractionType} için, hook'ların {@link HookCapabilities} bilgisinden türetilen bir
+ * {@link DispatchPlan} hazırlanır: o türü değerlendiren hook'lar ve her karar noktası için önbellek süresi.
+ * Tüm hook'ların bölge parmak izi üretip üretemediği de görüntü oluşturulurken bir kez belirlenir.
+ */
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class HookRegistry {
+
+    private static final Comparator<IShieldHook> PRIORITY_ORDER =
+            Comparator.comparingInt((IShieldHook h) -> h.getPriority().getValue()).reversed();
+
+    private final int defaultTtlTicks;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Boş bir kayıt defteri oluşturur.
+     *
+     * @param defaultTtlTicks Süre belirtmeyen hook'lar için kullanılacak global önbellek süresi (tick).
+     */
+    public HookRegistry(int defaultTtlTicks) {
+        this.defaultTtlTicks = defaultTtlTicks;
+        this.snapshot = new Snapshot(new IShieldHook[0], buildPlans(new IShieldHook[0]), false,
+                Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Yeni bir hook ekler ve öncelik sırasına göre dizilmiş yeni bir anlık görüntü yayınlar.
+     * Aynı önceliğe sahip hook'lar kayıt sırasını korur.
+     *
+     * @param hook Eklenecek hook.
+     */
+    public synchronized void register(IShieldHook hook) {
+        IShieldHook[] current = snapshot.hooks;
+        IShieldHook[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = hook;
+        Arrays.sort(next, PRIORITY_ORDER);
+        publish(next);
+    }
+
+    /**
+     * Adı verilen isimle (büyük/küçük harf duyarsız) eşleşen tüm hook'ları kaldırır ve kapatılabilmeleri için
+     * döndürür.
+     *
+     * @param name Kaldırılacak hook'un adı.
+     * @return Kaldırılan hook'lar. Eşleşen hook yoksa boş dizi.
+     */
+    public synchronized IShieldHook[] removeNamed(String name) {
+        IShieldHook[] current = snapshot.hooks;
+        IShieldHook[] next = Arrays.stream(current)
+                .filter(hook -> !hook.getName().equalsIgnoreCase(name))
+                .toArray(IShieldHook[]::new);
+
+        if (next.length == current.length) return new IShieldHook[0];
+        publish(next);
+        return Arrays.stream(current)
+                .filter(hook -> hook.getName().equalsIgnoreCase(name))
+                .toArray(IShieldHook[]::new);
+    }
+
+    /**
+     * Tüm hook'ları kaldırır ve kapatılabilmeleri için döndürür.
+     *
+     * @return Kaldırılan hook'lar.
+     */
+    public synchronized IShieldHook[] removeAll() {
+        IShieldHook[] current = snapshot.hooks;
+        publish(new IShieldHook[0]);
+        return current;
+    }
+
+    /**
+     * Öncelik sırasına göre (yüksekten düşüğe) dizilmiş güncel hook dizisini döndürür.
+     * <p>
+     * Dönen dizi paylaşılan, değişmez kabul edilen bir anlık görüntüdür; <b>değiştirilmemelidir</b>.
+     *
+     * @return Güncel hook dizisi.
+     */
+    public IShieldHook[] hooks() {
+        return snapshot.hooks;
+    }
+
+    /**
+     * Verilen etkileşim türü için önceden hazırlanmış dağıtım planını döndürür.
+     *
+     * @param type Etkileşim türü.
+     * @return Türü değerlendiren hook'ları ve önbellek sürelerini içeren plan.
+     */
+    public DispatchPlan plan(InteractionType type) {
+        return snapshot.plans[type.ordinal()];
+    }
+
+    /**
+     * Etkileşim türünden bağımsız sorgular (örn. bölge bilgisi) için tüm hook'ları içeren planı döndürür.
+     *
+     * @return Tüm hook'ları içeren plan.
+     */
+    public DispatchPlan planAll() {
+        return snapshot.plans[snapshot.plans.length - 1];
+    }
+
+    /**
+     * Kayıtlı tüm hook'ların {@link IShieldHook#getRegionFingerprint(Location)} metodunu uygulayıp uygulamadığını
+     * döndürür. Uygulamayan tek bir hook bile birleşik parmak izini imkânsız kıldığından, bu durumda parmak izi
+     * hesaplaması hiç başlatılmamalıdır.
+     *
+     * @return En az bir hook kayıtlıysa ve hepsi parmak izi üretebiliyorsa {@code true}.
+     */
+    public boolean fingerprinted() {
+        return snapshot.fingerprinted;
+    }
+
+    /**
+     * Bir hook'u adına göre O(1) maliyetle bulur. Önce birebir eşleşme denenir; bulunamazsa
+     * küçük harfe çevrilmiş isimle arama yapılır.
+     *
+     * @param name Aranacak hook'un adı (büyük/küçük harf duyarsız).
+     * @return Eşleşen en yüksek öncelikli hook veya bulunamazsa {@code null}.
+     */
+    public IShieldHook find(String name) {
+        if (name == null) return null;
+        Snapshot current = snapshot;
+        IShieldHook hook = current.byName.get(name);
+        return hook != null ? hook : current.byLowerName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Verilen diziden indeksleri hazırlar ve yeni anlık görüntüyü yayınlar.
+     */
+    private void publish(IShieldHook[] hooks) {
+        Map<String, IShieldHook> byName = new HashMap<>();
+        Map<String, IShieldHook> byLowerName = new HashMap<>();
+        for (IShieldHook hook : hooks) {
+            byLowerName.putIfAbsent(hook.getName().toLowerCase(Locale.ROOT), hook);
+        }
+        for (IShieldHook hook : hooks) {
+            if (byLowerName.get(hook.getName().toLowerCase(Locale.ROOT)) == hook) {
+                byName.putIfAbsent(hook.getName(), hook);
+            }
+        }
+        this.snapshot = new Snapshot(hooks, buildPlans(hooks), supportsFingerprints(hooks),
+                Collections.unmodifiableMap(byName), Collections.unmodifiableMap(byLowerName));
+    }
+
+    /**
+     * Tüm hook'ların {@code getRegionFingerprint} metodunu geçersiz kılıp kılmadığını kontrol eder. Metodu
+     * geçersiz kılmayan bir hook her konum için {@link IShieldHook#NO_FINGERPRINT} döndürür.
+     */
+    private static boolean supportsFingerprints(IShieldHook[] hooks) {
+        if (hooks.length == 0) return false;
+        for (IShieldHook hook : hooks) {
+            try {
+                if (hook.getClass().getMethod("getRegionFingerprint", Location.class).getDeclaringClass()
+                        == IShieldHook.class) return false;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Her etkileşim türü için, o türü değerlendiren hook'lardan bir dağıtım planı oluşturur.
+     * Dizinin son elemanı, türden bağımsız olarak tüm hook'ları içeren plandır.
+     */
+    private DispatchPlan[] buildPlans(IShieldHook[] hooks) {
+        HookCapabilities[] capabilities = new HookCapabilities[hooks.length];
+        for (int i = 0; i < hooks.length; i++) {
+            HookCapabilities declared = hooks[i].getCapabilities();
+            capabilities[i] = declared != null ? declared : HookCapabilities.defaults();
+        }
+
+        InteractionType[] types = InteractionType.values();
+        DispatchPlan[] plans = new DispatchPlan[types.length + 1];
+        for (InteractionType type : types) {
+            plans[type.ordinal()] = buildPlan(hooks, capabilities, type);
+        }
+        plans[types.length] = buildPlan(hooks, capabilities, null);
+        return plans;
+    }
+
+    /**
+     * Verilen türü değerlendiren (tür {@code null} ise tüm) hook'lardan tek bir dağıtım planı oluşturur.
+     */
+    private DispatchPlan buildPlan(IShieldHook[] hooks, HookCapabilities[] capabilities, InteractionType type) {
+        List<Integer> selected = new ArrayList<>();
+        for (int i = 0; i < hooks.length; i++) {
+            if (type == null || capabilities[i].evaluates(type)) selected.add(i);
+        }
+
+        int count = selected.size();
+        IShieldHook[] planHooks = new IShieldHook[count];
+        boolean[] threadSafe = new boolean[count];
+        int[] ttlTicks = new int[count];
+        int ttl = Integer.MAX_VALUE;
+
+        for (int i = 0; i < count; i++) {
+            int index = selected.get(i);
+            HookCapabilities hookCapabilities = capabilities[index];
+            int hookTtl;
+            if (type == null ? !hookCapabilities.isCacheable() : !hookCapabilities.isCacheable(type)) {
+                hookTtl = 0;
+            } else if (hookCapabilities.getCacheTtlTicks() == HookCapabilities.DEFAULT_TTL) {
+                hookTtl = defaultTtlTicks;
+            } else {
+                hookTtl = Math.max(0, hookCapabilities.getCacheTtlTicks());
+            }
+            ttl = Math.min(ttl, hookTtl);
+
+            planHooks[i] = hooks[index];
+            threadSafe[i] = hookCapabilities.isThreadSafe();
+            ttlTicks[i] = ttl;
+        }
+        return new DispatchPlan(planHooks, threadSafe, ttlTicks, count == 0 ? defaultTtlTicks : ttl);
+    }
+
+    /**
+     * Kayıt defterinin belirli bir andaki değişmez görüntüsü.
+     */
+    private record Snapshot(IShieldHook[] hooks, DispatchPlan[] plans, boolean fingerprinted,
+                            Map<String, IShieldHook> byName,
+                            Map<String, IShieldHook> byLowerName) {
+    }
+
+    /**
+     * Belirli bir etkileşim türü için önceden hesaplanmış dağıtım planı.
+     * <p>
+     * Diziler paylaşılan, değişmez kabul edilen verilerdir; <b>değiştirilmemelidir</b>.
+     *
+     * @param hooks      Türü değerlendiren hook'lar (öncelik sırasına göre).
+     * @param threadSafe {@code threadSafe[i]}: {@code hooks[i]} ana thread dışından çağrılabilir mi?
+     * @param ttlTicks   {@code ttlTicks[i]}: {@code hooks[i]} reddettiğinde kararın önbellek süresi; yani ilk
+     *                   {@code i + 1} hook'un en kısa süresi. {@code 0} ise karar önbelleğe yazılmaz.
+     * @param allowTtl   Hiçbir hook reddetmediğinde (tüm hook'lar sorgulandığında) kararın önbellek süresi.
+     */
+    @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+    public record DispatchPlan(IShieldHook[] hooks, boolean[] threadSafe, int[] ttlTicks, int allowTtl) {
+    }
+}
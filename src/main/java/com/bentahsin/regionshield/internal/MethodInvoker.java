@@ -0,0 +1,118 @@
+package com.bentahsin.regionshield.internal;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * {@link ReflectionUtils#compile} ile bir kez derlenmiş, yansıtma tabanlı hook'ların sıcak yollarında kullanılan
+ * metot çağırıcısı.
+ * <p>
+ * {@link ReflectionUtils#invoke} her çağrıda {@code Method.invoke} üzerinden erişim denetimi, varargs dizisi ve
+ * istisna sarmalama maliyeti öder. Bu sınıf ise tüm parametreleri ve dönüşü {@code Object} türüne uyarlanmış bir
+ * {@link MethodHandle}'ı {@code invokeExact} ile sabit sayıda argümanla çağırır. Tutamaç bir örnek alanında
+ * saklandığından JIT onu sabit olarak katlayamaz ve hedef metodu satır içine almaz; kazanç yalnızca
+ * {@code Method.invoke}'un bu ek maliyetlerinden kaçınmaktır. Statik metotlarda hedef nesne yok sayılır.
+ * <p>
+ * {@link ReflectionUtils#invoke} ile aynı sözleşmeye uyar: hedef metodun fırlattığı istisnalar yutulur ve
+ * {@code null} döner. Argüman sayısı metotla uyuşmazsa da {@code null} döner. {@link Error}'lar yutulmaz.
+ */
+public final class MethodInvoker {
+
+    private final MethodHandle handle;
+
+    /**
+     * @param handle Hedef nesne dahil tüm parametreleri ve dönüş türü {@code Object} olan metot tutamacı.
+     */
+    MethodInvoker(MethodHandle handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Parametresiz bir metodu çağırır.
+     *
+     * @param target Metodun çağrılacağı nesne; statik metotlar için {@code null}.
+     * @return Metodun dönüş değeri veya bir hata oluşursa {@code null}.
+     */
+    public Object call(Object target) {
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Tek parametreli bir metodu çağırır.
+     *
+     * @param target Metodun çağrılacağı nesne; statik metotlar için {@code null}.
+     * @param arg    Birinci argüman.
+     * @return Metodun dönüş değeri veya bir hata oluşursa {@code null}.
+     */
+    public Object call(Object target, Object arg) {
+        try {
+            return (Object) handle.invokeExact(target, arg);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * İki parametreli bir metodu çağırır.
+     *
+     * @param target Metodun çağrılacağı nesne; statik metotlar için {@code null}.
+     * @param arg1   Birinci argüman.
+     * @param arg2   İkinci argüman.
+     * @return Metodun dönüş değeri veya bir hata oluşursa {@code null}.
+     */
+    public Object call(Object target, Object arg1, Object arg2) {
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Üç parametreli bir metodu çağırır.
+     *
+     * @param target Metodun çağrılacağı nesne; statik metotlar için {@code null}.
+     * @param arg1   Birinci argüman.
+     * @param arg2   İkinci argüman.
+     * @param arg3   Üçüncü argüman.
+     * @return Metodun dönüş değeri veya bir hata oluşursa {@code null}.
+     */
+    public Object call(Object target, Object arg1, Object arg2, Object arg3) {
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2, arg3);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * Dört parametreli bir metodu çağırır.
+     *
+     * @param target Metodun çağrılacağı nesne; statik metotlar için {@code null}.
+     * @param arg1   Birinci argüman.
+     * @param arg2   İkinci argüman.
+     * @param arg3   Üçüncü argüman.
+     * @param arg4   Dördüncü argüman.
+     * @return Metodun dönüş değeri veya bir hata oluşursa {@code null}.
+     */
+    public Object call(Object target, Object arg1, Object arg2, Object arg3, Object arg4) {
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2, arg3, arg4);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.bentahsin.regionshield.internal;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Method;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Oyuncuların bypass yetkilerini (permission) ve OP durumlarını ezberleyen (memoization) dahili önbellek.
+ * <p>
+ * Derin miras zincirine sahip yetki eklentilerinde {@code hasPermission} çağrısı, koruduğu önbellek
+ * isabetinden daha pahalı olabilir. Bu sınıf her yetki düğümüne küçük bir indeks atar ve her oyuncu için
+ * çözümlenmiş yetkileri bir bit kümesinde (BitSet) tutar; böylece tekrar eden sorgular tek bir bit okumasına iner.
+ * <p>
+ * Kayıtlar şu durumlarda yeniden hesaplanır:
+ * <ul>
+ *     <li>Oyuncu sunucuya katıldığında ve dünya değiştirdiğinde (bilinen tüm düğümler önceden çözülür).</li>
+ *     <li>LuckPerms yüklüyse, oyuncunun yetki verisi yeniden hesaplandığında ({@code UserDataRecalculateEvent}).</li>
+ *     <li>{@link #invalidate(UUID)} çağrıldığında.</li>
+ *     <li>Bukkit yetki değişiklikleri için bir olay sunmadığından, güvenlik ağı olarak yapılandırılan süre dolduğunda.</li>
+ * </ul>
+ */
+public class PermissionCache implements Listener {
+
+    /**
+     * OP durumu için ayrılmış sahte yetki indeksi.
+     */
+    private static final int OP_INDEX = 0;
+
+    private final TickClock clock;
+    private final int ttlTicks;
+
+    private final Map<String, Integer> nodeIndices = new ConcurrentHashMap<>();
+    private final List<String> nodes = new CopyOnWriteArrayList<>();
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Yeni bir yetki önbelleği oluşturur.
+     *
+     * @param clock    Kayıt yaşını ölçmek için kullanılan tick saati.
+     * @param ttlTicks Bir oyuncunun çözümlenmiş yetkilerinin yeniden hesaplanmadan önce geçerli kalacağı süre (tick).
+     */
+    public PermissionCache(TickClock clock, int ttlTicks) {
+        this.clock = clock;
+        this.ttlTicks = Math.max(1, ttlTicks);
+        this.nodes.add("<op>");
+    }
+
+    /**
+     * Oyuncunun OP olup olmadığını ezberlenmiş değerden döndürür.
+     *
+     * @param player Kontrol edilecek oyuncu.
+     * @return Oyuncu OP ise {@code true}.
+     */
+    public boolean isOp(Player player) {
+        return resolve(player, OP_INDEX, null);
+    }
+
+    /**
+     * Oyuncunun verilen yetkiye sahip olup olmadığını ezberlenmiş değerden döndürür.
+     *
+     * @param player     Kontrol edilecek oyuncu.
+     * @param permission Yetki düğümü.
+     * @return Oyuncu yetkiye sahipse {@code true}.
+     */
+    public boolean has(Player player, String permission) {
+        return resolve(player, indexOf(permission), permission);
+    }
+
+    /**
+     * Bir oyuncunun ezberlenmiş tüm yetkilerini geçersiz kılar. Bir sonraki sorguda yeniden hesaplanır.
+     *
+     * @param uuid Oyuncunun UUID'si.
+     */
+    public void invalidate(UUID uuid) {
+        entries.remove(uuid);
+    }
+
+    /**
+     * Tüm oyuncuların ezberlenmiş yetkilerini geçersiz kılar.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Oyuncunun kaydını sıfırlar ve şimdiye kadar görülmüş tüm yetki düğümlerini önceden çözer.
+     *
+     * @param player Kaydı yenilenecek oyuncu.
+     */
+    public void refresh(Player player) {
+        entries.remove(player.getUniqueId());
+        for (int index = 0; index < nodes.size(); index++) {
+            resolve(player, index, nodes.get(index));
+        }
+    }
+
+    /**
+     * LuckPerms yüklüyse, oyuncu yetkileri yeniden hesaplandığında kaydı geçersiz kılmak için
+     * LuckPerms olay veri yoluna (event bus) yansıtma ile abone olur.
+     *
+     * @param plugin Aboneliğin sahibi olacak eklenti.
+     */
+    public void subscribeLuckPerms(Plugin plugin) {
+        if (!ReflectionUtils.isPluginActive("LuckPerms")) return;
+
+        try {
+            Class<?> providerClass = ReflectionUtils.getClass("net.luckperms.api.LuckPermsProvider");
+            Class<?> apiClass = ReflectionUtils.getClass("net.luckperms.api.LuckPerms");
+            Class<?> busClass = ReflectionUtils.getClass("net.luckperms.api.event.EventBus");
+            Class<?> eventClass = ReflectionUtils.getClass("net.luckperms.api.event.user.UserDataRecalculateEvent");
+            Class<?> userClass = ReflectionUtils.getClass("net.luckperms.api.model.user.User");
+            if (providerClass == null || eventClass == null || userClass == null) return;
+
+            Object api = ReflectionUtils.invoke(ReflectionUtils.getMethod(providerClass, "get"), null);
+            Object bus = ReflectionUtils.invoke(ReflectionUtils.getMethod(apiClass, "getEventBus"), api);
+            Method subscribe = ReflectionUtils.getMethod(busClass, "subscribe", Object.class, Class.class, Consumer.class);
+            Method getUser = ReflectionUtils.getMethod(eventClass, "getUser");
+            Method getUniqueId = ReflectionUtils.getMethod(userClass, "getUniqueId");
+            if (bus == null || subscribe == null || getUser == null || getUniqueId == null) return;
+
+            Consumer<Object> handler = event -> {
+                Object user = ReflectionUtils.invoke(getUser, event);
+                Object uuid = ReflectionUtils.invoke(getUniqueId, user);
+                if (uuid instanceof UUID) invalidate((UUID) uuid);
+            };
+            ReflectionUtils.invoke(subscribe, bus, plugin, eventClass, handler);
+        } catch (Exception ignored) {}
+    }
+
+    /**
+     * Oyuncu katıldığında, yetki eklentilerinin eklerini (attachment) kurmasından sonra kaydı önceden hesaplar.
+     *
+     * @param event PlayerJoinEvent olayı.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    /**
+     * Dünyaya özel yetkiler değişebileceği için, oyuncu dünya değiştirdiğinde kaydı yeniden hesaplar.
+     *
+     * @param event PlayerChangedWorldEvent olayı.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    /**
+     * Oyuncu ayrıldığında kaydını siler.
+     *
+     * @param event PlayerQuitEvent olayı.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Bir yetki indeksini oyuncunun kaydından okur; daha önce çözülmemişse hesaplayıp ezberler.
+     */
+    private boolean resolve(Player player, int index, String permission) {
+        UUID uuid = player.getUniqueId();
+        int now = clock.now();
+
+        Entry entry = entries.get(uuid);
+        if (entry == null || now - entry.createdAt >= ttlTicks) {
+            entry = new Entry(now);
+            if (player.isOnline()) entries.put(uuid, entry);
+        }
+
+        synchronized (entry) {
+            if (entry.resolved.get(index)) {
+                return entry.granted.get(index);
+            }
+            boolean value = index == OP_INDEX ? player.isOp() : player.hasPermission(permission);
+            entry.resolved.set(index);
+            if (value) entry.granted.set(index);
+            return value;
+        }
+    }
+
+    /**
+     * Bir yetki düğümünün kalıcı indeksini döndürür; düğüm ilk kez görülüyorsa yeni bir indeks atar.
+     */
+    private int indexOf(String permission) {
+        Integer index = nodeIndices.get(permission);
+        if (index != null) return index;
+
+        synchronized (nodes) {
+            return nodeIndices.computeIfAbsent(permission, p -> {
+                nodes.add(p);
+                return nodes.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Tek bir oyuncunun çözümlenmiş yetkilerini tutan kayıt.
+     */
+    private static final class Entry {
+        private final BitSet resolved = new BitSet();
+        private final BitSet granted = new BitSet();
+        private final int createdAt;
+
+        private Entry(int createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.api.DecisionCacheStats;
+import com.bentahsin.regionshield.api.IDecisionCache;
+import com.bentahsin.regionshield.api.ShieldResponse;
+
+import java.util.Arrays;
+
+/**
+ * İzin kararları için özel olarak tasarlanmış, açık adresli (open-addressing) ve sabit kapasiteli önbellek.
+ * <p>
+ * Anahtarlar {@link DecisionKeys} tarafından üretilen iki {@code long} değerden oluşur; kayıtlar paralel
+ * diziler üzerinde tutulur. Bu sayede önbellekte bulunan (hit) bir sorgu <u>hiçbir nesne oluşturmaz</u>.
+ * <p>
+ * Süre (TTL) kontrolü duvar saati yerine {@link TickClock} tarafından üretilen tick değerleriyle yapılır.
+ * Her anahtar için en fazla {@value #PROBE_LIMIT} ardışık yuva taranır; pencere doluysa süresi en erken
+ * dolacak kayıt çıkarılır. Silme işlemi için mezar taşı (tombstone) gerekmez, çünkü okuma her zaman
+ * tüm pencereyi tarar.
+ * <p>
+ * Tüm metotlar {@code synchronized} olduğundan sınıf thread-safe'tir; ana thread üzerinde rekabet
+ * olmadığı için kilit maliyeti ihmal edilebilir düzeydedir.
+ */
+public class PrimitiveDecisionCache implements IDecisionCache {
+
+    private static final int PROBE_LIMIT = 8;
+
+    private final long[] keys;
+    private final long[] contexts;
+    private final int[] expiries;
+    private final ShieldResponse[] values;
+    private final int mask;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int size;
+
+    /**
+     * Verilen kapasiteyi karşılayabilecek büyüklükte yeni bir önbellek oluşturur.
+     * Tablo boyutu, {@code maximumSize} değerine eşit veya büyük en küçük ikinin kuvvetine yuvarlanır.
+     *
+     * @param maximumSize Önbellekte tutulması hedeflenen yaklaşık kayıt sayısı.
+     */
+    public PrimitiveDecisionCache(int maximumSize) {
+        int capacity = Integer.highestOneBit(Math.max(PROBE_LIMIT * 2, maximumSize) - 1) << 1;
+        this.keys = new long[capacity];
+        this.contexts = new long[capacity];
+        this.expiries = new int[capacity];
+        this.values = new ShieldResponse[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Önbellekte geçerli bir karar varsa onu döndürür.
+     *
+     * @param key     Paketlenmiş konum anahtarı.
+     * @param context Paketlenmiş bağlam anahtarı.
+     * @param now     Mevcut tick değeri.
+     * @return Süresi dolmamış kayıt varsa {@link ShieldResponse}, yoksa {@code null}.
+     */
+    @Override
+    public synchronized ShieldResponse get(long key, long context, int now) {
+        int home = index(key, context);
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            int slot = (home + probe) & mask;
+            ShieldResponse value = values[slot];
+            if (value != null && keys[slot] == key && contexts[slot] == context) {
+                if (expiries[slot] - now > 0) {
+                    hits++;
+                    return value;
+                }
+                values[slot] = null;
+                size--;
+                break;
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Bir kararı önbelleğe yazar. Aynı anahtara sahip bir kayıt varsa üzerine yazılır.
+     *
+     * @param key       Paketlenmiş konum anahtarı.
+     * @param context   Paketlenmiş bağlam anahtarı.
+     * @param value     Saklanacak karar.
+     * @param now       Mevcut tick değeri.
+     * @param expiresAt Kaydın geçersiz sayılacağı tick değeri.
+     */
+    @Override
+    public synchronized void put(long key, long context, ShieldResponse value, int now, int expiresAt) {
+        int home = index(key, context);
+        int free = -1;
+        int victim = home;
+
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            int slot = (home + probe) & mask;
+            ShieldResponse existing = values[slot];
+            if (existing == null || expiries[slot] - now <= 0) {
+                if (free < 0) free = slot;
+                continue;
+            }
+            if (keys[slot] == key && contexts[slot] == context) {
+                free = slot;
+                break;
+            }
+            if (expiries[slot] - expiries[victim] < 0) {
+                victim = slot;
+            }
+        }
+
+        int target;
+        if (free >= 0) {
+            target = free;
+            if (values[target] == null) size++;
+        } else {
+            target = victim;
+            evictions++;
+        }
+        keys[target] = key;
+        contexts[target] = context;
+        expiries[target] = expiresAt;
+        values[target] = value;
+    }
+
+    /**
+     * Filtreyle eşleşen kayıtları tüm tabloyu tarayarak siler.
+     *
+     * @param filter Silinecek kayıtları seçen filtre.
+     */
+    @Override
+    public synchronized void invalidateIf(EntryFilter filter) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null && filter.test(keys[slot], contexts[slot])) {
+                values[slot] = null;
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Önbellekteki tüm kayıtları geçersiz kılar.
+     */
+    @Override
+    public synchronized void invalidateAll() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * İsabet, ıskalama ve çıkarma sayılarını döndürür. Çıkarma sayısı, yalnızca süresi dolmamış bir kaydın
+     * yeni bir kayıt için yer açmak amacıyla silindiği durumları içerir.
+     *
+     * @return İstatistiklerin anlık görüntüsü.
+     */
+    @Override
+    public synchronized DecisionCacheStats stats() {
+        return new DecisionCacheStats(hits, misses, evictions, size);
+    }
+
+    /**
+     * İki anahtarı karıştırarak tablo içindeki başlangıç yuvasını hesaplar.
+     */
+    private int index(long key, long context) {
+        long h = key * 0x9E3779B97F4A7C15L ^ context * 0xC2B2AE3D27D4EB4FL;
+        h ^= h >>> 31;
+        return (int) h & mask;
+    }
+}
@@ -4,8 +4,16 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.experimental.UtilityClass;
 import org.bukkit.Bukkit;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Java Reflection (Yansıtma) işlemlerini basitleştirmek ve güvenli hale getirmek için bir dizi statik yardımcı metot sağlar.
@@ -20,6 +28,18 @@ import java.lang.reflect.Method;
 @SuppressFBWarnings("REFLF_REFLECTION_MAY_INCREASE_ACCESSIBILITY_OF_FIELD")
 public class ReflectionUtils {
 
+    /**
+     * Sınıf başına, alan adından çözümlenmiş erişimciye giden önbellek. Bulunamayan alanlar da
+     * ({@link Optional#empty()}) saklanır. {@link ClassValue} kullanıldığından eklentiler kaldırıldığında
+     * sınıfları bellekte tutulmaz.
+     */
+    private final ClassValue<Map<String, Optional<FieldAccessor>>> FIELD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<FieldAccessor>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * Tam nitelikli adına göre bir sınıfı güvenli bir şekilde bulmaya ve yüklemeye çalışır.
      * Bu metot, {@link ClassNotFoundException} istisnasını kapsüller.
@@ -74,9 +94,30 @@ public class ReflectionUtils {
         }
     }
 
+    /**
+     * Bir metodu, sıcak yollarda {@link #invoke} yerine kullanılacak bir {@link MethodInvoker}'a derler.
+     * Derleme hook başlatılırken bir kez yapılmalıdır.
+     *
+     * @param method Derlenecek metot; genellikle {@link #getMethod} sonucudur.
+     * @return Metodu çağıran derlenmiş çağırıcı veya metot null ise ya da erişilemiyorsa null.
+     */
+    public MethodInvoker compile(Method method) {
+        if (method == null) return null;
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return new MethodInvoker(handle.asType(MethodType.genericMethodType(method.getParameterCount() + 1)));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
     /**
      * Verilen bir örnekten bir alanın (field) değerini güvenli bir şekilde okur.
-     * Bu metot, {@code getDeclaredField} kullanarak ve erişilebilir olarak ayarlayarak özel alanlara erişebilir.
+     * Alan {@link #fieldAccessor} ile çözümlenir; aynı sınıf ve alan için sonraki çağrılar önbellekteki
+     * erişimciyi kullanır. Sıcak yollarda erişimcinin hook başlatılırken alınıp saklanması tercih edilmelidir.
      *
      * @param clazz     Alanın bulunduğu sınıf.
      * @param instance  Değerin okunacağı nesne örneği.
@@ -84,12 +125,35 @@ public class ReflectionUtils {
      * @return Alanın değeri veya bir hata oluşursa (örn: alan bulunamadı) null.
      */
     public Object getField(Class<?> clazz, Object instance, String fieldName) {
-        if (clazz == null) return null;
+        FieldAccessor accessor = fieldAccessor(clazz, fieldName);
+        return accessor != null ? accessor.get(instance) : null;
+    }
+
+    /**
+     * Bir sınıfta tanımlı (declared) bir alan için, özel alanları da okuyabilen bir {@link FieldAccessor} döndürür.
+     * Sonuç sınıf ve alan adına göre önbelleğe alınır; çözümleme her alan için yalnızca bir kez yapılır.
+     *
+     * @param clazz     Alanın bulunduğu sınıf.
+     * @param fieldName Alanın adı.
+     * @return Alanın erişimcisi veya alan bulunamazsa ya da erişilemiyorsa null.
+     */
+    public FieldAccessor fieldAccessor(Class<?> clazz, String fieldName) {
+        if (clazz == null || fieldName == null) return null;
+        return FIELD_ACCESSORS.get(clazz)
+                .computeIfAbsent(fieldName, name -> Optional.ofNullable(resolveField(clazz, name)))
+                .orElse(null);
+    }
+
+    private FieldAccessor resolveField(Class<?> clazz, String fieldName) {
         try {
             Field field = clazz.getDeclaredField(fieldName);
-            field.setAccessible(true);
-            return field.get(instance);
-        } catch (Exception e) {
+            VarHandle handle = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup()).unreflectVarHandle(field);
+            MethodHandle getter = handle.toMethodHandle(VarHandle.AccessMode.GET);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return new FieldAccessor(getter.asType(MethodType.genericMethodType(1)));
+        } catch (ReflectiveOperationException | RuntimeException e) {
             return null;
         }
     }
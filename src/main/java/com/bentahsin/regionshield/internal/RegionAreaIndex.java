@@ -0,0 +1,217 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.model.RegionArea;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tüm hook'ların bölgelerini dünya başına tek bir uzamsal indekste birleştiren, alan sorguları için önbellek.
+ * <p>
+ * Bir dünya ilk kez sorgulandığında, yükleyici fonksiyon (kayıtlı hook'ların
+ * {@link com.bentahsin.regionshield.api.IShieldHook#getRegionAreas(World)} sonuçları) bir kez çağrılır ve
+ * bölgeler XZ düzleminde {@code 256x256} blokluk hücrelere dağıtılır. Çok sayıda hücreye yayılan büyük bölgeler
+ * hücrelere kopyalanmaz, ayrı bir listede tutulur. Oluşturulan indeks değişmezdir; okumalar kilitsizdir.
+ * <p>
+ * Dünya veya tüm dünyalar geçersiz kılındığında ilgili indeks atılır ve bir sonraki sorguda yeniden oluşturulur.
+ * Alan geçersiz kılmalarında ise indeks atılmaz; değişen alan "kirli" olarak işaretlenir. Kirli bir alanla kesişmeyen
+ * sorgular mevcut indeksten yanıtlanmaya devam eder, kesişen ilk sorgu dünyayı yeniden oluşturur. Böylece sık bölge
+ * düzenlemeleri dünyanın geri kalanındaki sorguları yeniden oluşturmaya zorlamaz ve art arda gelen değişiklikler tek
+ * bir yeniden oluşturmada birleşir. Bu, geçersiz kılınan alanın değişen bölgelerin eski ve yeni sınırlarını
+ * kapsamasına dayanır (bkz. {@link com.bentahsin.regionshield.api.IRegionInvalidator#invalidateArea}).
+ * <p>
+ * Her geçersiz kılma bir nesil (generation) sayacını artırır; oluşturulması sürerken geçersiz kılınan bir indeks
+ * yayınlanmaz.
+ */
+public class RegionAreaIndex {
+
+    private static final int CELL_SHIFT = 8;
+    private static final int MAX_CELLS = 64;
+    private static final int MAX_DIRTY = 32;
+    private static final RegionArea[] NO_AREAS = new RegionArea[0];
+
+    private final Function<World, List<RegionArea>> loader;
+    private final Map<UUID, WorldAreas> worlds = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Yeni bir alan indeksi oluşturur.
+     *
+     * @param loader Bir dünyadaki tüm bölgeleri, öncelik sırasıyla döndüren fonksiyon.
+     */
+    public RegionAreaIndex(Function<World, List<RegionArea>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Verilen blok kutusuyla kesişen tüm bölgeleri döndürür. Dünyanın indeksi yoksa önce oluşturulur; bu yüzden
+     * yükleyicinin çağrılabileceği thread'den (genellikle ana thread) çağrılmalıdır.
+     * <p>
+     * Dönen akış tembeldir: hücreler ve bölgeler yalnızca tüketildikçe gezilir. Her bölge en fazla bir kez döner.
+     *
+     * @return Kutusu verilen kutuyla kesişen bölgelerin akışı.
+     */
+    public Stream<RegionArea> query(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return areas(world, minX, minZ, maxX, maxZ).query(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Bir dünyadaki blok alanını kirli olarak işaretler. Dünyanın indeksi korunur; yalnızca bu alanla kesişen
+     * sorgular indeksin yeniden oluşturulmasını tetikler. Kirli alan sayısı sınırı aşarsa indeks atılır.
+     *
+     * @param world Dünya.
+     */
+    public void invalidateArea(World world, int minX, int minZ, int maxX, int maxZ) {
+        generation.incrementAndGet();
+        worlds.computeIfPresent(world.getUID(), (id, current) -> current.markDirty(minX, minZ, maxX, maxZ));
+    }
+
+    /**
+     * Bir dünyanın indeksini atar.
+     *
+     * @param world Dünya.
+     */
+    public void invalidateWorld(World world) {
+        generation.incrementAndGet();
+        worlds.remove(world.getUID());
+    }
+
+    /**
+     * Tüm dünyaların indekslerini atar.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        worlds.clear();
+    }
+
+    private WorldAreas areas(World world, int minX, int minZ, int maxX, int maxZ) {
+        UUID worldId = world.getUID();
+        WorldAreas current = worlds.get(worldId);
+        if (current != null && !current.isDirty(minX, minZ, maxX, maxZ)) return current;
+
+        long before = generation.get();
+        WorldAreas built = new WorldAreas(loader.apply(world));
+        boolean published = current == null
+                ? worlds.putIfAbsent(worldId, built) == null
+                : worlds.replace(worldId, current, built);
+        if (published && generation.get() != before) worlds.remove(worldId, built);
+        return built;
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return (long) cellX << 32 | cellZ & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Tek bir dünyanın değişmez hücre indeksi ve bu indeksin artık güvenilmediği kirli alanlar ({@code minX, minZ,
+     * maxX, maxZ} dörtlüleri).
+     */
+    private static final class WorldAreas {
+        private static final int[] CLEAN = new int[0];
+
+        private final Map<Long, RegionArea[]> cells;
+        private final RegionArea[] large;
+        private final int[] dirty;
+
+        private WorldAreas(List<RegionArea> areas) {
+            Map<Long, List<RegionArea>> building = new HashMap<>();
+            List<RegionArea> oversized = new ArrayList<>();
+            for (RegionArea area : areas) {
+                int minCellX = area.getMinX() >> CELL_SHIFT;
+                int minCellZ = area.getMinZ() >> CELL_SHIFT;
+                int maxCellX = area.getMaxX() >> CELL_SHIFT;
+                int maxCellZ = area.getMaxZ() >> CELL_SHIFT;
+                if ((long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1) > MAX_CELLS) {
+                    oversized.add(area);
+                    continue;
+                }
+                for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                    for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                        building.computeIfAbsent(cellKey(cellX, cellZ), key -> new ArrayList<>()).add(area);
+                    }
+                }
+            }
+
+            this.cells = new HashMap<>(building.size() * 2);
+            building.forEach((key, list) -> cells.put(key, list.toArray(NO_AREAS)));
+            this.large = oversized.toArray(NO_AREAS);
+            this.dirty = CLEAN;
+        }
+
+        private WorldAreas(Map<Long, RegionArea[]> cells, RegionArea[] large, int[] dirty) {
+            this.cells = cells;
+            this.large = large;
+            this.dirty = dirty;
+        }
+
+        /**
+         * Hücreleri paylaşan, verilen alanı da kirli sayan bir kopya döndürür; sınır aşılırsa {@code null} döner ve
+         * indeks atılır.
+         */
+        private WorldAreas markDirty(int minX, int minZ, int maxX, int maxZ) {
+            if (dirty.length / 4 >= MAX_DIRTY) return null;
+
+            int[] marked = Arrays.copyOf(dirty, dirty.length + 4);
+            marked[dirty.length] = minX;
+            marked[dirty.length + 1] = minZ;
+            marked[dirty.length + 2] = maxX;
+            marked[dirty.length + 3] = maxZ;
+            return new WorldAreas(cells, large, marked);
+        }
+
+        private boolean isDirty(int minX, int minZ, int maxX, int maxZ) {
+            for (int i = 0; i < dirty.length; i += 4) {
+                if (dirty[i] <= maxX && dirty[i + 2] >= minX && dirty[i + 1] <= maxZ && dirty[i + 3] >= minZ) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Birden çok hücreye yayılan bir bölge, yalnızca sorgu kutusuyla kesişen hücrelerinin en küçüğünde
+         * raporlanır; böylece sonuçlar tekrar içermez. Sorgu dünyadaki dolu hücrelerden fazlasını kapsıyorsa
+         * hücre aralığı yerine dolu hücreler gezilir.
+         */
+        private Stream<RegionArea> query(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+            int minCellX = minX >> CELL_SHIFT;
+            int minCellZ = minZ >> CELL_SHIFT;
+            int maxCellX = maxX >> CELL_SHIFT;
+            int maxCellZ = maxZ >> CELL_SHIFT;
+
+            Stream<RegionArea> small;
+            if ((long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1) > cells.size()) {
+                small = cells.entrySet().stream().flatMap(entry -> {
+                    int cellX = (int) (entry.getKey() >> 32);
+                    int cellZ = (int) (long) entry.getKey();
+                    return owned(entry.getValue(), cellX, cellZ, minCellX, minCellZ);
+                });
+            } else {
+                small = IntStream.rangeClosed(minCellX, maxCellX).boxed()
+                        .flatMap(cellX -> IntStream.rangeClosed(minCellZ, maxCellZ)
+                                .mapToObj(cellZ -> owned(cells.get(cellKey(cellX, cellZ)), cellX, cellZ, minCellX, minCellZ)))
+                        .flatMap(Function.identity());
+            }
+
+            return Stream.concat(small, Arrays.stream(large))
+                    .filter(area -> area.intersects(minX, minY, minZ, maxX, maxY, maxZ));
+        }
+
+        private static Stream<RegionArea> owned(RegionArea[] areas, int cellX, int cellZ, int minCellX, int minCellZ) {
+            if (areas == null) return Stream.empty();
+            return Arrays.stream(areas).filter(area ->
+                    Math.max(area.getMinX() >> CELL_SHIFT, minCellX) == cellX
+                            && Math.max(area.getMinZ() >> CELL_SHIFT, minCellZ) == cellZ);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.api.DecisionCacheStats;
+import com.bentahsin.regionshield.model.RegionInfo;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.bukkit.Location;
+
+import java.util.Arrays;
+
+/**
+ * Konumdan bölge bilgisine ({@link RegionInfo}) giden sorgular için, bayat-iken-yenile (stale-while-revalidate)
+ * destekli, açık adresli ve sabit kapasiteli önbellek.
+ * <p>
+ * Yapı {@link PrimitiveDecisionCache} ile aynıdır: anahtarlar paralel diziler üzerinde tutulur ve isabet eden
+ * bir sorgu nesne oluşturmaz. Bölgesiz konumlar da ({@code null}) önbelleğe alınır; vahşi doğada yürüyen
+ * oyuncular da hook'lara gitmez.
+ * <p>
+ * Her kaydın iki süresi vardır:
+ * <ul>
+ *     <li><b>Taze:</b> Kayıt olduğu gibi döndürülür.</li>
+ *     <li><b>Bayat:</b> Kayıt yine döndürülür, ancak ilk okuyan çağırana {@link Stale} sarmalayıcısı verilir ve
+ *     arka planda yenilemeyi başlatması beklenir. Yenileme sürerken diğer okumalar bayat değeri alır.</li>
+ * </ul>
+ * Her geçersiz kılma bir nesil (generation) sayacını artırır. Yazma işlemleri okumanın başladığı nesli taşır;
+ * arada bir geçersiz kılma olduysa eski sonuç önbelleğe yazılmaz.
+ * <p>
+ * Tüm metotlar {@code synchronized} olduğundan sınıf thread-safe'tir.
+ */
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class RegionInfoCache {
+
+    /**
+     * Önbellekte kayıt olmadığını belirten işaret nesnesi.
+     */
+    public static final Object MISS = new Object();
+
+    private static final int PROBE_LIMIT = 8;
+
+    private final long[] keys;
+    private final int[] worlds;
+    private final int[] freshUntil;
+    private final int[] staleUntil;
+    private final RegionInfo[] values;
+    private final boolean[] occupied;
+    private final boolean[] refreshing;
+    private final int mask;
+    private final int freshTicks;
+    private final int staleTicks;
+    private final boolean chunkScope;
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int size;
+
+    /**
+     * Yeni bir bölge bilgisi önbelleği oluşturur.
+     *
+     * @param maximumSize Önbellekte tutulması hedeflenen yaklaşık kayıt sayısı.
+     * @param freshTicks  Kaydın taze sayıldığı süre (tick).
+     * @param staleTicks  Taze süre dolduktan sonra kaydın bayat olarak sunulabileceği ek süre (tick).
+     * @param chunkScope  {@code true} ise anahtarlar chunk, {@code false} ise blok çözünürlüğündedir.
+     */
+    public RegionInfoCache(int maximumSize, int freshTicks, int staleTicks, boolean chunkScope) {
+        int capacity = Integer.highestOneBit(Math.max(PROBE_LIMIT * 2, maximumSize) - 1) << 1;
+        this.keys = new long[capacity];
+        this.worlds = new int[capacity];
+        this.freshUntil = new int[capacity];
+        this.staleUntil = new int[capacity];
+        this.values = new RegionInfo[capacity];
+        this.occupied = new boolean[capacity];
+        this.refreshing = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.freshTicks = Math.max(1, freshTicks);
+        this.staleTicks = Math.max(0, staleTicks);
+        this.chunkScope = chunkScope;
+    }
+
+    /**
+     * Konumun önbellek anahtarını üretir. Chunk çözünürlüğünde anahtar, chunk'ın köşe bloğudur.
+     *
+     * @param location Konum.
+     * @return Paketlenmiş anahtar.
+     */
+    public long keyOf(Location location) {
+        if (chunkScope) {
+            return DecisionKeys.packBlock(location.getBlockX() & ~15, 0, location.getBlockZ() & ~15);
+        }
+        return DecisionKeys.packBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Önbellekteki kaydı döndürür.
+     *
+     * @param key   Paketlenmiş konum anahtarı.
+     * @param world Dünya indeksi.
+     * @param now   Mevcut tick değeri.
+     * @return Taze kayıt veya yenilemesi zaten süren bayat kayıt için {@link RegionInfo} ya da {@code null};
+     * yenilemesi çağırana düşen bayat kayıt için {@link Stale}; kayıt yoksa {@link #MISS}.
+     */
+    public synchronized Object get(long key, int world, int now) {
+        int home = index(key, world);
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            int slot = (home + probe) & mask;
+            if (!occupied[slot] || keys[slot] != key || worlds[slot] != world) continue;
+
+            if (freshUntil[slot] - now > 0) {
+                hits++;
+                return values[slot];
+            }
+            if (staleUntil[slot] - now > 0) {
+                hits++;
+                if (refreshing[slot]) return values[slot];
+                refreshing[slot] = true;
+                return new Stale(values[slot], generation);
+            }
+            occupied[slot] = false;
+            values[slot] = null;
+            size--;
+            break;
+        }
+        misses++;
+        return MISS;
+    }
+
+    /**
+     * Bir sorgu sonucunu önbelleğe yazar. Sorgu başladıktan sonra bir geçersiz kılma olduysa hiçbir şey yapmaz.
+     *
+     * @param key        Paketlenmiş konum anahtarı.
+     * @param world      Dünya indeksi.
+     * @param value      Bölge bilgisi veya bölge yoksa {@code null}.
+     * @param now        Mevcut tick değeri.
+     * @param generation Sorgu başlarken {@link #generation()} ile okunan nesil.
+     */
+    public synchronized void put(long key, int world, RegionInfo value, int now, long generation) {
+        if (generation != this.generation) {
+            cancelRefresh(key, world);
+            return;
+        }
+
+        int home = index(key, world);
+        int free = -1;
+        int victim = home;
+
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            int slot = (home + probe) & mask;
+            if (!occupied[slot] || staleUntil[slot] - now <= 0) {
+                if (free < 0) free = slot;
+                continue;
+            }
+            if (keys[slot] == key && worlds[slot] == world) {
+                free = slot;
+                break;
+            }
+            if (staleUntil[slot] - staleUntil[victim] < 0) {
+                victim = slot;
+            }
+        }
+
+        int target;
+        if (free >= 0) {
+            target = free;
+            if (!occupied[target]) size++;
+        } else {
+            target = victim;
+            evictions++;
+        }
+        keys[target] = key;
+        worlds[target] = world;
+        freshUntil[target] = now + freshTicks;
+        staleUntil[target] = now + freshTicks + staleTicks;
+        values[target] = value;
+        occupied[target] = true;
+        refreshing[target] = false;
+    }
+
+    /**
+     * Başarısız olan bir yenilemenin işaretini kaldırır; bir sonraki okuma yenilemeyi yeniden dener.
+     *
+     * @param key   Paketlenmiş konum anahtarı.
+     * @param world Dünya indeksi.
+     */
+    public synchronized void cancelRefresh(long key, int world) {
+        int home = index(key, world);
+        for (int probe = 0; probe < PROBE_LIMIT; probe++) {
+            int slot = (home + probe) & mask;
+            if (occupied[slot] && keys[slot] == key && worlds[slot] == world) {
+                refreshing[slot] = false;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return Güncel nesil. Bir sorgudan önce okunup {@link #put} ile birlikte verilmelidir.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Verilen dünyanın tüm kayıtlarını siler.
+     *
+     * @param world Dünya indeksi.
+     */
+    public synchronized void invalidateWorld(int world) {
+        generation++;
+        for (int slot = 0; slot < values.length; slot++) {
+            if (occupied[slot] && worlds[slot] == world) remove(slot);
+        }
+    }
+
+    /**
+     * Verilen dünyada, blok alanıyla kesişen tüm kayıtları siler.
+     *
+     * @param world Dünya indeksi.
+     * @param minX  Alanın en küçük X blok koordinatı.
+     * @param minZ  Alanın en küçük Z blok koordinatı.
+     * @param maxX  Alanın en büyük X blok koordinatı.
+     * @param maxZ  Alanın en büyük Z blok koordinatı.
+     */
+    public synchronized void invalidateArea(int world, int minX, int minZ, int maxX, int maxZ) {
+        generation++;
+        int span = chunkScope ? 15 : 0;
+        for (int slot = 0; slot < values.length; slot++) {
+            if (!occupied[slot] || worlds[slot] != world) continue;
+            int x = DecisionKeys.blockX(keys[slot]);
+            int z = DecisionKeys.blockZ(keys[slot]);
+            if (x + span >= minX && x <= maxX && z + span >= minZ && z <= maxZ) remove(slot);
+        }
+    }
+
+    /**
+     * Tüm kayıtları siler.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        Arrays.fill(values, null);
+        Arrays.fill(occupied, false);
+        Arrays.fill(refreshing, false);
+        size = 0;
+    }
+
+    /**
+     * @return İsabet (bayat sunulanlar dahil), ıskalama ve çıkarma sayılarının anlık görüntüsü.
+     */
+    public synchronized DecisionCacheStats stats() {
+        return new DecisionCacheStats(hits, misses, evictions, size);
+    }
+
+    private void remove(int slot) {
+        occupied[slot] = false;
+        refreshing[slot] = false;
+        values[slot] = null;
+        size--;
+    }
+
+    private int index(long key, int world) {
+        long h = key * 0x9E3779B97F4A7C15L ^ world * 0xC2B2AE3D27D4EB4FL;
+        h ^= h >>> 31;
+        return (int) h & mask;
+    }
+
+    /**
+     * Yenilemesi çağırana düşen bayat bir kayıt.
+     *
+     * @param value      Bayat bölge bilgisi; çağırana hemen döndürülmelidir.
+     * @param generation Yenileme sonucu yazılırken {@link #put} ile verilecek nesil.
+     */
+    public record Stale(RegionInfo value, long generation) {}
+}
@@ -0,0 +1,116 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.api.IDecisionCache;
+import com.bentahsin.regionshield.api.IRegionInvalidator;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.UUID;
+
+/**
+ * {@link IRegionInvalidator} arayüzünün dahili uygulaması.
+ * <p>
+ * Karar önbelleğinden yalnızca etkilenen kayıtları, {@link DecisionKeys} ile paketlenmiş anahtarları çözerek siler:
+ * <ul>
+ *     <li><b>Alan:</b> Aynı dünyadaki, koordinatı alanın içinde kalan blok kayıtları ile o dünyanın tüm bölge
+ *     kapsamlı kayıtları (parmak izinden koordinat çıkarılamadığı için).</li>
+ *     <li><b>Dünya:</b> Dünya indeksi eşleşen tüm kayıtlar.</li>
+ *     <li><b>Oyuncu:</b> Oyuncu slotu eşleşen tüm kayıtlar.</li>
+ * </ul>
+ * Bölge bilgisi önbelleği açıksa aynı kapsamdaki kayıtları da silinir (oyuncu kapsamı hariç; bölge bilgisi
+ * oyuncuya bağlı değildir). Alan sorgularının bölge indeksi dünya kapsamında atılır; alan kapsamında korunur ve
+ * yalnızca değişen alanla kesişen sorgular onu yeniden oluşturur. Chunk indeksi açıksa ilgili chunk'lar da yeniden taramaya alınır. Chunk taramaları yüklü chunk listesine
+ * eriştiği için bu kısım gerekirse ana thread'e taşınır.
+ */
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class RegionInvalidator implements IRegionInvalidator {
+
+    private final Plugin plugin;
+    private final IDecisionCache cache;
+    private final DecisionKeys decisionKeys;
+    private final ChunkRegionIndex chunkIndex;
+    private final RegionInfoCache regionInfoCache;
+    private final RegionAreaIndex areaIndex;
+    private final TickClock clock;
+
+    /**
+     * Yeni bir geçersiz kılıcı oluşturur.
+     *
+     * @param plugin          Ana thread görevlerinin sahibi olacak eklenti.
+     * @param cache           Karar önbelleği.
+     * @param decisionKeys    Dünya indeksleri ve oyuncu slotları.
+     * @param chunkIndex      Chunk indeksi veya kapalıysa {@code null}.
+     * @param regionInfoCache Bölge bilgisi önbelleği veya kapalıysa {@code null}.
+     * @param areaIndex       Alan sorgularının bölge indeksi.
+     * @param clock           {@link #currentTick()} ile paylaşılan tick saati.
+     */
+    public RegionInvalidator(Plugin plugin, IDecisionCache cache, DecisionKeys decisionKeys, ChunkRegionIndex chunkIndex,
+                             RegionInfoCache regionInfoCache, RegionAreaIndex areaIndex, TickClock clock) {
+        this.plugin = plugin;
+        this.cache = cache;
+        this.decisionKeys = decisionKeys;
+        this.chunkIndex = chunkIndex;
+        this.regionInfoCache = regionInfoCache;
+        this.areaIndex = areaIndex;
+        this.clock = clock;
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+        if (regionInfoCache != null) regionInfoCache.invalidateAll();
+        areaIndex.invalidateAll();
+        if (chunkIndex != null) onMainThread(chunkIndex::invalidateAll);
+    }
+
+    @Override
+    public void invalidateWorld(World world) {
+        int worldIndex = decisionKeys.worldIndex(world);
+        cache.invalidateIf((key, context) -> DecisionKeys.worldOf(context) == worldIndex);
+        if (regionInfoCache != null) regionInfoCache.invalidateWorld(worldIndex);
+        areaIndex.invalidateWorld(world);
+        if (chunkIndex != null) onMainThread(() -> chunkIndex.invalidateWorld(world));
+    }
+
+    @Override
+    public void invalidateArea(World world, int minX, int minZ, int maxX, int maxZ) {
+        int worldIndex = decisionKeys.worldIndex(world);
+        cache.invalidateIf((key, context) -> {
+            if (DecisionKeys.worldOf(context) != worldIndex) return false;
+            if (DecisionKeys.isRegionScoped(context)) return true;
+
+            int x = DecisionKeys.blockX(key);
+            int z = DecisionKeys.blockZ(key);
+            return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+        });
+        if (regionInfoCache != null) regionInfoCache.invalidateArea(worldIndex, minX, minZ, maxX, maxZ);
+        areaIndex.invalidateArea(world, minX, minZ, maxX, maxZ);
+        if (chunkIndex != null) onMainThread(() -> chunkIndex.invalidateArea(world, minX, minZ, maxX, maxZ));
+    }
+
+    @Override
+    public void invalidatePlayer(UUID playerId) {
+        int slot = decisionKeys.existingSlot(playerId);
+        if (slot < 0) return;
+        cache.invalidateIf((key, context) -> DecisionKeys.playerOf(context) == slot);
+    }
+
+    @Override
+    public int currentTick() {
+        return clock.now();
+    }
+
+    /**
+     * Görevi ana thread'de çalıştırır; zaten ana thread'deyse hemen çalıştırır.
+     */
+    private void onMainThread(Runnable task) {
+        if (plugin.getServer().isPrimaryThread()) {
+            task.run();
+            return;
+        }
+        try {
+            plugin.getServer().getScheduler().runTask(plugin, task);
+        } catch (IllegalStateException | IllegalArgumentException ignored) {}
+    }
+}
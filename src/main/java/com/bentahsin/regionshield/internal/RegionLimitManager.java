@@ -5,6 +5,7 @@ import com.bentahsin.regionshield.events.BenthRegionCrossEvent;
 import com.bentahsin.regionshield.events.BenthRegionEnterEvent;
 import com.bentahsin.regionshield.events.BenthRegionLeaveEvent;
 import com.bentahsin.regionshield.model.RegionInfo;
+import com.bentahsin.regionshield.model.RegionKey;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -32,16 +33,16 @@ public class RegionLimitManager implements Listener {
     private final BenthRegionShield manager;
     /**
      * Tanımlanmış bölge limitlerini saklar.
-     * Anahtar: "provider:regionid" formatında (küçük harfli).
+     * Anahtar: Bölgenin küçük harfli {@link RegionKey} anahtarı.
      * Değer: Maksimum oyuncu sayısı.
      */
-    private final Map<String, Integer> limits = new HashMap<>();
+    private final Map<RegionKey, Integer> limits = new HashMap<>();
     /**
      * Her bir limitli bölgedeki mevcut oyuncu sayısını anlık olarak saklar.
      * Bu harita, potansiyel olarak eşzamanlı erişimlere karşı güvenli olması için
      * {@link ConcurrentHashMap} olarak tanımlanmıştır.
      */
-    private final Map<String, Integer> activeCounts = new ConcurrentHashMap<>();
+    private final Map<RegionKey, Integer> activeCounts = new ConcurrentHashMap<>();
 
     /**
      * Yeni bir RegionLimitManager örneği oluşturur ve mevcut oyuncu durumunu sayar.
@@ -64,8 +65,7 @@ public class RegionLimitManager implements Listener {
      * @param limit    Bu bölge için izin verilen maksimum oyuncu sayısı.
      */
     public void setLimit(String provider, String regionId, int limit) {
-        String key = (provider + ":" + regionId).toLowerCase();
-        limits.put(key, limit);
+        limits.put(RegionKey.of(provider, regionId).ignoringCase(), limit);
     }
 
     /**
@@ -75,8 +75,7 @@ public class RegionLimitManager implements Listener {
      * @param regionId Limiti kaldırılacak bölgenin ID'si.
      */
     public void removeLimit(String provider, String regionId) {
-        String key = (provider + ":" + regionId).toLowerCase();
-        limits.remove(key);
+        limits.remove(RegionKey.of(provider, regionId).ignoringCase());
     }
 
     /**
@@ -104,7 +103,7 @@ public class RegionLimitManager implements Listener {
     public boolean isFull(RegionInfo info) {
         if (info == null) return false;
 
-        String key = getKey(info);
+        RegionKey key = getKey(info);
         if (!limits.containsKey(key)) return false;
 
         int limit = limits.get(key);
@@ -124,7 +123,7 @@ public class RegionLimitManager implements Listener {
         RegionInfo from = event.getFromRegion();
         RegionInfo to = event.getToRegion();
 
-        if (isFull(to) && !event.getPlayer().hasPermission("regionshield.bypass.limit")) {
+        if (isFull(to) && !manager.hasPermission(event.getPlayer(), manager.getOptions().getLimitBypassPermission())) {
             event.setCancelled(true);
             return;
         }
@@ -146,10 +145,11 @@ public class RegionLimitManager implements Listener {
         RegionInfo info = event.getRegion();
         String limitPerm = manager.getOptions().getLimitBypassPermission();
 
-        if (isFull(info) && !event.getPlayer().hasPermission("regionshield.bypass.limit")) {
+        if (isFull(info) && !manager.hasPermission(event.getPlayer(), limitPerm)) {
             event.setCancelled(true);
-            int current = activeCounts.get(getKey(info));
-            int max = limits.get(getKey(info));
+            RegionKey key = getKey(info);
+            int current = activeCounts.getOrDefault(key, 0);
+            int max = limits.get(key);
             String statusStr = current + "/" + max;
             manager.getOptions().getLimitRejectionHandler().accept(event.getPlayer(), statusStr);
             return;
@@ -198,7 +198,7 @@ public class RegionLimitManager implements Listener {
      * @param info Sayacı artırılacak bölge.
      */
     private void increment(RegionInfo info) {
-        String key = getKey(info);
+        RegionKey key = getKey(info);
         if (limits.containsKey(key)) {
             activeCounts.merge(key, 1, Integer::sum);
         }
@@ -211,19 +211,20 @@ public class RegionLimitManager implements Listener {
      * @param info Sayacı azaltılacak bölge.
      */
     private void decrement(RegionInfo info) {
-        String key = getKey(info);
+        RegionKey key = getKey(info);
         if (limits.containsKey(key)) {
             activeCounts.computeIfPresent(key, (k, v) -> v > 0 ? v - 1 : 0);
         }
     }
 
     /**
-     * Bir RegionInfo nesnesinden limit haritaları için standartlaştırılmış bir anahtar oluşturur.
+     * Bir RegionInfo nesnesinden limit haritalarının büyük/küçük harf duyarsız anahtarını alır.
+     * Küçük harfli anahtar bölge başına bir kez hesaplandığından olay başına String oluşturulmaz.
      *
-     * @param info Anahtar oluşturulacak bölge bilgisi.
-     * @return "provider:id" formatında küçük harfli bir String.
+     * @param info Anahtarı alınacak bölge bilgisi.
+     * @return Bölgenin küçük harfli, havuzlanmış anahtarı.
      */
-    private String getKey(RegionInfo info) {
-        return (info.getProvider() + ":" + info.getId()).toLowerCase();
+    private RegionKey getKey(RegionInfo info) {
+        return info.getKey().ignoringCase();
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.bentahsin.regionshield.events.BenthRegionCrossEvent;
 import com.bentahsin.regionshield.events.BenthRegionEnterEvent;
 import com.bentahsin.regionshield.events.BenthRegionLeaveEvent;
 import com.bentahsin.regionshield.model.RegionInfo;
+import com.bentahsin.regionshield.model.RegionKey;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -20,14 +21,15 @@ import org.bukkit.event.player.PlayerTeleportEvent;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
 
 /**
  * Oyuncuların bölgeler arasındaki hareketlerini izleyen ve bu hareketlere bağlı olarak
  * özel {@link BenthRegionEnterEvent} ve {@link BenthRegionLeaveEvent} olaylarını tetikleyen dahili bir dinleyici sınıfı.
  * <p>
- * Her oyuncunun bulunduğu son bölgeyi hafızada tutarak bölge değişikliklerini algılar.
+ * Her oyuncunun bulunduğu son bölgeyi hafızada tutarak bölge değişikliklerini algılar. Bölgeler havuzlanmış
+ * {@link RegionKey} anahtarlarıyla karşılaştırılır; aynı bölgenin içinde yürümek, bölge bilgisi yeniden oluşturulsa
+ * veya sahip/üye listesi değişse bile olay tetiklemez. Olaylar yalnızca gerçek bölge sınırı geçişlerinde tetiklenir.
  * Bu sınıf, API'nin dahili bir parçasıdır ve son kullanıcılar tarafından doğrudan kullanılması amaçlanmamıştır.
  */
 @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
@@ -121,10 +123,11 @@ public class RegionMovementListener implements Listener {
         RegionInfo currentRegion = manager.getRegionInfo(to);
         RegionInfo lastRegion = lastRegions.get(uuid);
 
-        boolean changed = !Objects.equals(lastRegion, currentRegion);
+        RegionKey lastKey = lastRegion != null ? lastRegion.getKey() : null;
+        RegionKey currentKey = currentRegion != null ? currentRegion.getKey() : null;
 
-        if (changed) {
-            if (lastRegion != null && currentRegion != null && !lastRegion.getId().equals(currentRegion.getId())) {
+        if (lastKey != currentKey) {
+            if (lastRegion != null && currentRegion != null) {
                 BenthRegionCrossEvent crossEvent = new BenthRegionCrossEvent(player, lastRegion, currentRegion);
                 Bukkit.getPluginManager().callEvent(crossEvent);
 
@@ -161,6 +164,8 @@ public class RegionMovementListener implements Listener {
                 }
             }
 
+            lastRegions.put(uuid, currentRegion);
+        } else if (lastRegion != currentRegion) {
             lastRegions.put(uuid, currentRegion);
         }
     }
@@ -59,11 +59,11 @@ public class ShieldGate {
         String key = instance.getClass().getName() + "#" + methodName;
         GateLogic logic = gateCache.computeIfAbsent(key, k -> buildLogic(instance.getClass(), methodName, paramTypes));
 
-        if (player.hasPermission(manager.getOptions().getBypassPermission()) || player.isOp()) {
+        if (manager.hasBypass(player)) {
             return true;
         }
 
-        if (logic.bypassPerm != null && player.hasPermission(logic.bypassPerm)) {
+        if (logic.bypassPerm != null && manager.hasPermission(player, logic.bypassPerm)) {
             return true;
         }
 
@@ -150,7 +150,7 @@ public class ShieldGate {
 
         if (check != null) {
             validators.add((p, info) -> {
-                if (!check.bypassPerm().isEmpty() && p.hasPermission(check.bypassPerm())) return true;
+                if (!check.bypassPerm().isEmpty() && manager.hasPermission(p, check.bypassPerm())) return true;
                 ShieldResponse response = manager.checkResult(p, p.getLocation(), check.type());
                 return response.isAllowed();
             });
@@ -173,8 +173,8 @@ public class ShieldGate {
             validators.add((p, info) -> {
                 UUID uuid = p.getUniqueId();
                 return switch (role.value()) {
-                    case OWNER -> info.getOwners().contains(uuid);
-                    case MEMBER_OR_OWNER -> info.getOwners().contains(uuid) || info.getMembers().contains(uuid);
+                    case OWNER -> info.isOwner(uuid);
+                    case MEMBER_OR_OWNER -> info.isOwner(uuid) || info.isMember(uuid);
                     case VISITOR -> true;
                 };
             });
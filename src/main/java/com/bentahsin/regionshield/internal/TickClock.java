@@ -0,0 +1,39 @@
+package com.bentahsin.regionshield.internal;
+
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sunucu tick'lerini sayan hafif bir saat görevi.
+ * <p>
+ * Önbellek süreleri duvar saati ({@code System.currentTimeMillis()}) yerine bu sayaçla ölçülür.
+ * Böylece her önbellek erişiminde saat okuma maliyeti ortadan kalkar ve sunucu yavaşladığında
+ * (TPS düştüğünde) önbellek kayıtları da aynı oranda "yavaşlar".
+ * <p>
+ * Görev her tick'te bir kez ana thread üzerinde çalışır; sayaç herhangi bir thread'den okunabilir.
+ */
+public class TickClock extends BukkitRunnable {
+
+    private final AtomicInteger ticks = new AtomicInteger();
+
+    /**
+     * Tick sayacını bir artırır. Zamanlayıcı tarafından her tick'te çağrılır.
+     */
+    @Override
+    public void run() {
+        ticks.incrementAndGet();
+    }
+
+    /**
+     * Saatin başlatılmasından bu yana geçen tick sayısını döndürür.
+     * <p>
+     * Değer yaklaşık 3 yıllık kesintisiz çalışmadan sonra taşabilir; bu yüzden karşılaştırmalar
+     * her zaman fark üzerinden ({@code a - b > 0}) yapılmalıdır.
+     *
+     * @return Mevcut tick değeri.
+     */
+    public int now() {
+        return ticks.get();
+    }
+}
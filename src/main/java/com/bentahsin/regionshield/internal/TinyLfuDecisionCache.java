@@ -0,0 +1,341 @@
+package com.bentahsin.regionshield.internal;
+
+import com.bentahsin.regionshield.api.DecisionCacheStats;
+import com.bentahsin.regionshield.api.IDecisionCache;
+import com.bentahsin.regionshield.api.ShieldResponse;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * W-TinyLFU (Window TinyLFU) kabul politikasını uygulayan {@link IDecisionCache} arka ucu.
+ * <p>
+ * Caffeine'in kullandığı tasarımın sade bir uyarlamasıdır:
+ * <ul>
+ *     <li><b>Pencere (window):</b> Kapasitenin ~%1'i kadar küçük bir LRU bölümü. Yeni kayıtlar önce buraya girer;
+ *     böylece ani yoğunlaşmalar (örn. bir oyuncunun aynı bloğa tekrar tekrar tıklaması) yakalanır.</li>
+ *     <li><b>Ana bölüm (main):</b> Deneme (probation) ve korumalı (protected, ~%80) kısımlardan oluşan segmentli LRU.
+ *     Deneme kısmında tekrar erişilen kayıtlar korumalı kısma terfi eder.</li>
+ *     <li><b>Frekans özeti:</b> 4 bitlik sayaçlardan oluşan bir Count-Min Sketch. Pencereden taşan aday ile ana
+ *     bölümün çıkarılacak kaydı karşılaştırılır; yalnızca daha sık erişilen kayıt önbellekte kalır. Sayaçlar
+ *     periyodik olarak yarıya indirilerek eski popülerlik unutulur.</li>
+ * </ul>
+ * Bu politika, tek seferlik taramaların (örn. uçan bir oyuncunun geçtiği bloklar) sık erişilen kayıtları önbellekten
+ * atmasını engeller. Tüm metotlar {@code synchronized} olduğundan sınıf thread-safe'tir.
+ */
+public class TinyLfuDecisionCache implements IDecisionCache {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+
+    private final Map<DecisionKey, Node> data = new HashMap<>();
+    private final Node windowHead = Node.sentinel();
+    private final Node probationHead = Node.sentinel();
+    private final Node protectedHead = Node.sentinel();
+    private int windowSize;
+    private int protectedSize;
+
+    private final FrequencySketch sketch;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Yeni bir W-TinyLFU önbelleği oluşturur.
+     *
+     * @param maximumSize Önbellekte tutulacak en fazla kayıt sayısı.
+     */
+    public TinyLfuDecisionCache(int maximumSize) {
+        this.maximumSize = Math.max(2, maximumSize);
+        this.windowMaximum = Math.max(1, this.maximumSize / 100);
+        this.protectedMaximum = (int) ((this.maximumSize - windowMaximum) * 0.8);
+        this.sketch = new FrequencySketch(this.maximumSize);
+    }
+
+    /**
+     * Kaydı arar ve erişimi frekans özetine işler. Deneme kısmında bulunan kayıtlar korumalı kısma terfi eder.
+     *
+     * @param key     Konum anahtarı.
+     * @param context Bağlam anahtarı.
+     * @param now     Mevcut tick değeri.
+     * @return Geçerli karar veya yoksa {@code null}.
+     */
+    @Override
+    public synchronized ShieldResponse get(long key, long context, int now) {
+        DecisionKey decisionKey = new DecisionKey(key, context);
+        sketch.increment(decisionKey.hashCode());
+
+        Node node = data.get(decisionKey);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        if (node.expiresAt - now <= 0) {
+            remove(node);
+            misses++;
+            return null;
+        }
+
+        onAccess(node);
+        hits++;
+        return node.value;
+    }
+
+    /**
+     * Kaydı pencereye ekler; pencere taşarsa en eski pencere kaydı ana bölüme aday olarak geçer ve
+     * kapasite aşılmışsa frekans karşılaştırmasıyla bir kayıt çıkarılır.
+     *
+     * @param key       Konum anahtarı.
+     * @param context   Bağlam anahtarı.
+     * @param value     Saklanacak karar.
+     * @param now       Mevcut tick değeri.
+     * @param expiresAt Kaydın geçersiz sayılacağı tick değeri.
+     */
+    @Override
+    public synchronized void put(long key, long context, ShieldResponse value, int now, int expiresAt) {
+        DecisionKey decisionKey = new DecisionKey(key, context);
+        Node node = data.get(decisionKey);
+        if (node != null) {
+            node.value = value;
+            node.expiresAt = expiresAt;
+            onAccess(node);
+            return;
+        }
+
+        node = new Node(decisionKey, value, expiresAt);
+        data.put(decisionKey, node);
+        node.queue = WINDOW;
+        node.linkLast(windowHead);
+        windowSize++;
+
+        if (windowSize > windowMaximum) {
+            Node candidate = windowHead.next;
+            candidate.unlink();
+            windowSize--;
+            candidate.queue = PROBATION;
+            candidate.linkLast(probationHead);
+
+            if (data.size() > maximumSize) {
+                evict(candidate, now);
+            }
+        }
+    }
+
+    /**
+     * Filtreyle eşleşen kayıtları siler.
+     *
+     * @param filter Silinecek kayıtları seçen filtre.
+     */
+    @Override
+    public synchronized void invalidateIf(EntryFilter filter) {
+        Iterator<Node> iterator = data.values().iterator();
+        while (iterator.hasNext()) {
+            Node node = iterator.next();
+            if (filter.test(node.key.key(), node.key.context())) {
+                iterator.remove();
+                detach(node);
+            }
+        }
+    }
+
+    /**
+     * Tüm kayıtları siler. Frekans özeti korunur.
+     */
+    @Override
+    public synchronized void invalidateAll() {
+        data.clear();
+        windowHead.next = windowHead.prev = windowHead;
+        probationHead.next = probationHead.prev = probationHead;
+        protectedHead.next = protectedHead.prev = protectedHead;
+        windowSize = 0;
+        protectedSize = 0;
+    }
+
+    /**
+     * İsabet, ıskalama ve kapasite nedeniyle çıkarma sayılarını döndürür.
+     *
+     * @return İstatistiklerin anlık görüntüsü.
+     */
+    @Override
+    public synchronized DecisionCacheStats stats() {
+        return new DecisionCacheStats(hits, misses, evictions, data.size());
+    }
+
+    /**
+     * Kaydın bulunduğu bölüme göre LRU sırasını günceller veya terfi ettirir.
+     */
+    private void onAccess(Node node) {
+        switch (node.queue) {
+            case WINDOW:
+                node.unlink();
+                node.linkLast(windowHead);
+                break;
+            case PROBATION:
+                node.unlink();
+                node.queue = PROTECTED;
+                node.linkLast(protectedHead);
+                protectedSize++;
+                if (protectedSize > protectedMaximum) {
+                    Node demoted = protectedHead.next;
+                    demoted.unlink();
+                    protectedSize--;
+                    demoted.queue = PROBATION;
+                    demoted.linkLast(probationHead);
+                }
+                break;
+            default:
+                node.unlink();
+                node.linkLast(protectedHead);
+        }
+    }
+
+    /**
+     * Pencereden gelen aday ile deneme kısmının en eski kaydını karşılaştırır ve daha az sık erişileni çıkarır.
+     * Süresi dolmuş bir kurban her zaman önce çıkarılır.
+     */
+    private void evict(Node candidate, int now) {
+        Node victim = probationHead.next;
+        if (victim == candidate || victim == probationHead) {
+            victim = protectedHead.next != protectedHead ? protectedHead.next : candidate;
+        }
+
+        Node evicted;
+        if (victim.expiresAt - now <= 0) {
+            evicted = victim;
+        } else if (candidate.expiresAt - now <= 0) {
+            evicted = candidate;
+        } else {
+            evicted = sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())
+                    ? victim : candidate;
+            evictions++;
+        }
+        remove(evicted);
+    }
+
+    /**
+     * Kaydı hem haritadan hem de bağlı listeden siler.
+     */
+    private void remove(Node node) {
+        data.remove(node.key);
+        detach(node);
+    }
+
+    /**
+     * Kaydı bağlı listeden çıkarır ve bölüm sayaçlarını günceller.
+     */
+    private void detach(Node node) {
+        node.unlink();
+        if (node.queue == WINDOW) windowSize--;
+        else if (node.queue == PROTECTED) protectedSize--;
+    }
+
+    /**
+     * Çift yönlü bağlı listedeki tek bir önbellek kaydı.
+     */
+    private static final class Node {
+        private final DecisionKey key;
+        private ShieldResponse value;
+        private int expiresAt;
+        private int queue;
+        private Node prev;
+        private Node next;
+
+        private Node(DecisionKey key, ShieldResponse value, int expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private static Node sentinel() {
+            Node node = new Node(null, null, 0);
+            node.prev = node;
+            node.next = node;
+            return node;
+        }
+
+        private void linkLast(Node head) {
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        private void unlink() {
+            if (prev == null) return;
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+
+    /**
+     * 4 bitlik sayaçlar kullanan Count-Min Sketch. Her {@code long} 16 sayaç içerir; her anahtar için dört farklı
+     * satırdan sayaç seçilir ve en küçük değer tahmin olarak kullanılır. Toplam artış sayısı örnekleme boyutuna
+     * ulaştığında tüm sayaçlar yarıya indirilir (yaşlandırma).
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L
+        };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int maximumSize) {
+            int length = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = 10 * maximumSize;
+        }
+
+        private int frequency(int hash) {
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int shift = counterShift(hash, i);
+                frequency = Math.min(frequency, (int) ((table[index] >>> shift) & 0xFL));
+            }
+            return frequency;
+        }
+
+        private void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int shift = counterShift(hash, i);
+                if (((table[index] >>> shift) & 0xFL) != 0xFL) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & RESET_MASK;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int indexOf(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        private int counterShift(int hash, int row) {
+            int h = hash * 0x9E3779B9 + row * 0x85EBCA6B;
+            return ((h >>> 28) & 0xF) << 2;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.bentahsin.regionshield.model;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.Getter;
+import lombok.ToString;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * Alan sorgularında ({@code queryRegions}) döndürülen, bir bölgenin bilgisini ve eksen hizalı sınır kutusunu
+ * birlikte taşıyan değişmez (immutable) nesne.
+ * <p>
+ * Koordinatlar blok cinsindendir ve her iki uçta da dahildir. Çokgen veya düzensiz bölgelerde kutu, bölgenin
+ * tamamını kapsayan en küçük kutudur; bu yüzden alan sorguları bu tür bölgeler için ihtiyatlıdır (kutusu kesişen
+ * ama kendisi kesişmeyen bölgeler de dönebilir).
+ */
+@Getter
+@ToString
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public final class RegionArea {
+
+    /**
+     * Bölgenin bilgisi (ID, sağlayıcı, sahipler, üyeler).
+     */
+    private final RegionInfo info;
+
+    /**
+     * Bölgenin bulunduğu dünya.
+     */
+    @ToString.Exclude
+    private final World world;
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    /**
+     * Yeni bir bölge alanı oluşturur. Köşeler herhangi bir sırada verilebilir; en küçük ve en büyük değerler
+     * ayrıca hesaplanır.
+     *
+     * @param info  Bölgenin bilgisi.
+     * @param world Bölgenin bulunduğu dünya.
+     * @param x1    Birinci köşenin X koordinatı.
+     * @param y1    Birinci köşenin Y koordinatı.
+     * @param z1    Birinci köşenin Z koordinatı.
+     * @param x2    İkinci köşenin X koordinatı.
+     * @param y2    İkinci köşenin Y koordinatı.
+     * @param z2    İkinci köşenin Z koordinatı.
+     */
+    public RegionArea(RegionInfo info, World world, int x1, int y1, int z1, int x2, int y2, int z2) {
+        this.info = info;
+        this.world = world;
+        this.minX = Math.min(x1, x2);
+        this.minY = Math.min(y1, y2);
+        this.minZ = Math.min(z1, z2);
+        this.maxX = Math.max(x1, x2);
+        this.maxY = Math.max(y1, y2);
+        this.maxZ = Math.max(z1, z2);
+    }
+
+    /**
+     * Kutunun verilen blok kutusuyla kesişip kesişmediğini kontrol eder. Kenarları paylaşan kutular kesişir.
+     *
+     * @return Kutular en az bir bloğu paylaşıyorsa {@code true}.
+     */
+    public boolean intersects(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        return this.minX <= maxX && this.maxX >= minX
+                && this.minY <= maxY && this.maxY >= minY
+                && this.minZ <= maxZ && this.maxZ >= minZ;
+    }
+
+    /**
+     * Bir noktanın kutuya olan en kısa uzaklığının karesini döndürür. Kutu, bloklarının dış yüzeyleriyle
+     * ({@code max + 1}) sınırlı kabul edilir.
+     *
+     * @return Nokta kutunun içindeyse {@code 0}, aksi halde uzaklığın karesi.
+     */
+    public double distanceSquared(double x, double y, double z) {
+        double dx = axisDistance(x, minX, maxX + 1);
+        double dy = axisDistance(y, minY, maxY + 1);
+        double dz = axisDistance(z, minZ, maxZ + 1);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * @return Kutunun köşelerini taşıyan yeni bir {@link RegionBounds}.
+     */
+    public RegionBounds toBounds() {
+        return new RegionBounds(new Location(world, minX, minY, minZ), new Location(world, maxX, maxY, maxZ));
+    }
+
+    private static double axisDistance(double value, double min, double max) {
+        if (value < min) return min - value;
+        if (value > max) return value - max;
+        return 0;
+    }
+}
@@ -1,41 +1,64 @@
 package com.bentahsin.regionshield.model;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
+import org.bukkit.Bukkit;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Bir koruma bölgesi hakkında detaylı bilgileri temsil eder.
  * Bu sınıf, bölgenin ID'si, sahipleri, üyeleri ve bu bilgiyi sağlayan
  * kaynak (provider) gibi verileri kapsar.
  * <p>
- * Sınıf, dışarıdan yapılacak değişikliklere karşı korumalı (immutable) olacak şekilde tasarlanmıştır.
- * Sahiplerin ve üyelerin listeleri, hem nesne oluşturulurken hem de getter metotlarında
- * kopyalanarak dahili durumun korunması sağlanır.
+ * Sınıf tamamen değişmezdir (immutable). Sahipler ve üyeler oluşturma sırasında bir kez değişmez kümelere
+ * kopyalanır; getter'lar kopya oluşturmaz ve {@link #isOwner(UUID)} / {@link #isMember(UUID)} sabit zamanda çalışır.
+ * Bölgenin kimliği (ID ve kaynak) oluşturma sırasında havuzlanmış bir {@link RegionKey} olarak bir kez çözülür;
+ * hash değeri ve {@link #isSameRegion(RegionInfo)} yalnızca bu anahtara bakar.
+ * <p>
+ * Sahip ve üye listesini üretmek pahalı olan hook'lar {@link #lazy} ile tembel bir nesne oluşturabilir. Bu
+ * durumda listeler ana thread'deki ilk başarılı erişimde (getter'lar, {@link #isOwner(UUID)},
+ * {@link #equals(Object)}, {@code toString}) çözülür ve saklanır. Yalnızca ID ve kaynağa bakan tüketiciler
+ * ({@link #isSameRegion(RegionInfo)}, limitler, kara listeler) listeleri hiç çözdürmez.
+ * <p>
+ * {@link #builder()} ile oluşturulan nesneler havuzlanır (interned): bölgenin aynı sürümü (aynı ID, kaynak,
+ * sahipler ve üyeler) için her zaman aynı örnek döndürülür. Bu sayede önbellekler ve bölge geçişi karşılaştırmaları
+ * çoğunlukla referans eşitliğiyle sonuçlanır.
  */
 @Getter
 @ToString
-@SuppressFBWarnings({"EI_EXPOSE_REP2"})
+@SuppressFBWarnings({"EI_EXPOSE_REP"})
 public class RegionInfo {
+
+    private static final Interner<RegionInfo> INTERNER = Interners.newWeakInterner();
+
     /**
      * Bölgenin benzersiz kimliği (ID).
      */
     private final String id;
 
     /**
-     * Bölge sahiplerinin UUID listesi.
+     * Bölge sahiplerinin UUID kümesi veya onu ilk başarılı erişimde çözen kaynak.
      */
-    private final List<UUID> owners;
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private final Roster owners;
 
     /**
-     * Bölge üyelerinin UUID listesi.
+     * Bölge üyelerinin UUID kümesi veya onu ilk başarılı erişimde çözen kaynak.
      */
-    private final List<UUID> members;
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private final Roster members;
 
     /**
      * Bu bölge bilgisini sağlayan eklentinin veya kaynağın adı (Örn: "WorldGuard").
@@ -43,40 +66,279 @@ public class RegionInfo {
     private final String provider;
 
     /**
-     * Yeni bir RegionInfo nesnesi oluşturur. Genellikle Lombok'un @Builder'ı ile kullanılır.
-     * Sağlanan sahip ve üye listeleri, nesnenin değişmezliğini sağlamak için
-     * defansif olarak kopyalanır.
+     * Bölgenin havuzlanmış kimliği (kaynak + ID). Aynı bölgenin tüm sürümleri ve tüm örnekleri aynı anahtarı
+     * paylaşır; bölge geçişleri ve limit sayaçları gibi yalnızca kimliğe bakan tüketiciler bu anahtarı kullanmalıdır.
+     */
+    @ToString.Exclude
+    private final RegionKey key;
+
+    /**
+     * Yeni bir RegionInfo nesnesi oluşturur. Nesne havuzlanmaz; paylaşılan örnek için {@link #builder()}
+     * veya {@link #intern()} kullanılmalıdır. {@code null} UUID'ler yok sayılır.
      *
      * @param id       Bölgenin benzersiz kimliği.
-     * @param owners   Bölge sahiplerinin UUID'lerini içeren liste.
-     * @param members  Bölge üyelerinin UUID'lerini içeren liste.
+     * @param owners   Bölge sahiplerinin UUID'leri.
+     * @param members  Bölge üyelerinin UUID'leri.
+     * @param provider Bu bilgiyi sağlayan kaynağın adı.
+     */
+    public RegionInfo(String id, Collection<UUID> owners, Collection<UUID> members, String provider) {
+        this(id, provider, new Roster(toSet(owners)), new Roster(toSet(members)));
+    }
+
+    /**
+     * {@link #RegionInfo(String, Collection, Collection, String)} ile aynıdır. Önceki sürümlere karşı derlenmiş
+     * hook'ların ikili uyumluluğu için korunur.
+     *
+     * @param id       Bölgenin benzersiz kimliği.
+     * @param owners   Bölge sahiplerinin UUID'leri.
+     * @param members  Bölge üyelerinin UUID'leri.
      * @param provider Bu bilgiyi sağlayan kaynağın adı.
      */
-    @Builder
     public RegionInfo(String id, List<UUID> owners, List<UUID> members, String provider) {
+        this(id, (Collection<UUID>) owners, members, provider);
+    }
+
+    private RegionInfo(String id, String provider, Roster owners, Roster members) {
         this.id = id;
         this.provider = provider;
-        this.owners = owners != null ? new ArrayList<>(owners) : new ArrayList<>();
-        this.members = members != null ? new ArrayList<>(members) : new ArrayList<>();
+        this.owners = owners;
+        this.members = members;
+        this.key = RegionKey.of(provider, id);
+    }
+
+    /**
+     * Havuzlanmış bir RegionInfo döndürür. Genellikle Lombok'un @Builder'ı ile ({@link #builder()}) kullanılır.
+     *
+     * @param id       Bölgenin benzersiz kimliği.
+     * @param owners   Bölge sahiplerinin UUID'leri.
+     * @param members  Bölge üyelerinin UUID'leri.
+     * @param provider Bu bilgiyi sağlayan kaynağın adı.
+     * @return Bölgenin bu sürümü için paylaşılan örnek.
+     */
+    @Builder
+    public static RegionInfo of(String id, Collection<UUID> owners, Collection<UUID> members, String provider) {
+        return new RegionInfo(id, owners, members, provider).intern();
+    }
+
+    /**
+     * Sahipleri ve üyeleri ilk erişimde çözülen bir RegionInfo oluşturur. Tembel nesneler havuzlanmaz.
+     * <p>
+     * Kaynaklar yalnızca <b>ana thread'de</b> çağrılır; böylece thread-safe olmayan eklenti verilerini okuyabilirler.
+     * Ana thread dışından, henüz çözülmemiş bir listeye erişilirse boş küme döner ve sonuç saklanmaz; asenkron
+     * tüketiciler listeleri önceden ana thread'de çözülmüş nesneler almalıdır (bkz. {@link #resolve()}).
+     * <p>
+     * Kaynak listeyi okuyamazsa kısmi bir sonuç yerine {@code null} döndürmeli (veya bir istisna fırlatmalıdır); bu
+     * durumda sonuç saklanmaz, o erişim boş küme görür ve bir sonraki erişimde kaynak yeniden çağrılır. Yalnızca
+     * başarıyla okunan listeler saklanır.
+     * <p>
+     * Nesne önbelleklerde ve oyuncu oturumları boyunca saklanabilir. Bu yüzden kaynaklar hook'un canlı bölge
+     * nesnelerini değil, yalnızca bölgenin kimliğini yakalamalı ve bölgeyi çağrıldıklarında yeniden bulmalıdır.
+     *
+     * @param id       Bölgenin benzersiz kimliği.
+     * @param provider Bu bilgiyi sağlayan kaynağın adı.
+     * @param owners   Bölge sahiplerinin UUID'lerini üreten kaynak.
+     * @param members  Bölge üyelerinin UUID'lerini üreten kaynak.
+     * @return Yeni bir tembel RegionInfo.
+     */
+    public static RegionInfo lazy(String id, String provider,
+                                  Supplier<? extends Collection<UUID>> owners,
+                                  Supplier<? extends Collection<UUID>> members) {
+        return new RegionInfo(id, provider, new Roster(owners), new Roster(members));
+    }
+
+    /**
+     * Sahip ve üye listelerinin çözülüp çözülmediğini döndürür. {@link #lazy} dışındaki nesnelerde her zaman
+     * {@code true} döner.
+     *
+     * @return İki liste de çözülmüşse {@code true}.
+     */
+    public boolean isResolved() {
+        return owners.isResolved() && members.isResolved();
+    }
+
+    /**
+     * Tembel listeleri şimdi çözer. Ana thread'de çağrılmalıdır; nesneyi asenkron tüketicilere vermeden önce
+     * kullanılır. Bir kaynak başarısız olursa o liste çözülmemiş kalır.
+     *
+     * @return Bu nesne.
+     */
+    public RegionInfo resolve() {
+        owners.get();
+        members.get();
+        return this;
+    }
+
+    /**
+     * Tembel bir nesnede bu çağrı, havuzdaki aynı ID'li nesnelerle karşılaştırma sırasında listeleri çözebilir.
+     *
+     * @return Bu nesneye eşit olan paylaşılan örnek; havuzda yoksa bu nesnenin kendisi.
+     */
+    public RegionInfo intern() {
+        return INTERNER.intern(this);
     }
 
     /**
-     * Bölge sahiplerinin UUID listesinin bir kopyasını döndürür.
-     * Bu nesnenin dahili durumunun değiştirilmesini önlemek için yeni bir liste oluşturulur.
+     * Bölge sahiplerini, eklendikleri sırayla döndürür. Liste değiştirilemez ve kopyalanmaz.
      *
-     * @return Sahiplerin UUID'lerini içeren yeni bir liste.
+     * @return Sahiplerin UUID'lerini içeren değiştirilemez liste.
      */
+    @ToString.Include(name = "owners")
     public List<UUID> getOwners() {
-        return new ArrayList<>(owners);
+        return owners.get().asList();
     }
 
     /**
-     * Bölge üyelerinin UUID listesinin bir kopyasını döndürür.
-     * Bu nesnenin dahili durumunun değiştirilmesini önlemek için yeni bir liste oluşturulur.
+     * Bölge üyelerini, eklendikleri sırayla döndürür. Liste değiştirilemez ve kopyalanmaz.
      *
-     * @return Üyelerin UUID'lerini içeren yeni bir liste.
+     * @return Üyelerin UUID'lerini içeren değiştirilemez liste.
      */
+    @ToString.Include(name = "members")
     public List<UUID> getMembers() {
-        return new ArrayList<>(members);
+        return members.get().asList();
+    }
+
+    /**
+     * @param uuid Kontrol edilecek oyuncu.
+     * @return Oyuncu bölgenin sahiplerinden biriyse {@code true}.
+     */
+    public boolean isOwner(UUID uuid) {
+        return uuid != null && owners.get().contains(uuid);
+    }
+
+    /**
+     * Yalnızca üye kümesine bakar; sahipler ayrıca üye olarak eklenmedikçe {@code false} döner.
+     *
+     * @param uuid Kontrol edilecek oyuncu.
+     * @return Oyuncu bölgenin üyelerinden biriyse {@code true}.
+     */
+    public boolean isMember(UUID uuid) {
+        return uuid != null && members.get().contains(uuid);
+    }
+
+    /**
+     * Sahip ve üye listelerine bakmadan, iki nesnenin aynı bölgeyi (aynı ID ve kaynak) temsil edip etmediğini
+     * kontrol eder. Tembel nesnelerin listelerini çözdürmez.
+     *
+     * @param other Karşılaştırılacak bölge bilgisi.
+     * @return İki nesne de aynı bölgeyi temsil ediyorsa {@code true}.
+     */
+    public final boolean isSameRegion(RegionInfo other) {
+        return this == other || other != null && key == other.key;
+    }
+
+    /**
+     * İki nesne, aynı bölgenin aynı sürümünü (aynı sahipler ve üyeler) temsil ediyorsa eşittir. Tembel nesnelerde
+     * listeleri çözer; yalnızca bölge kimliği gerekiyorsa {@link #isSameRegion(RegionInfo)} tercih edilmelidir.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RegionInfo other)) return false;
+        return isSameRegion(other)
+                && owners.get().equals(other.owners.get())
+                && members.get().equals(other.members.get());
+    }
+
+    @Override
+    public final int hashCode() {
+        return key.hashCode();
+    }
+
+    /**
+     * {@link #builder()} tarafından döndürülen builder. Sahip ve üye ayarlayıcılarının {@link List} alan sürümleri,
+     * önceki sürümlere karşı derlenmiş hook'ların ikili uyumluluğu için korunur.
+     */
+    public static class RegionInfoBuilder {
+
+        /**
+         * @param owners Bölge sahiplerinin UUID'leri.
+         * @return Bu builder.
+         */
+        public RegionInfoBuilder owners(Collection<UUID> owners) {
+            this.owners = owners;
+            return this;
+        }
+
+        /**
+         * @param owners Bölge sahiplerinin UUID'leri.
+         * @return Bu builder.
+         */
+        public RegionInfoBuilder owners(List<UUID> owners) {
+            this.owners = owners;
+            return this;
+        }
+
+        /**
+         * @param members Bölge üyelerinin UUID'leri.
+         * @return Bu builder.
+         */
+        public RegionInfoBuilder members(Collection<UUID> members) {
+            this.members = members;
+            return this;
+        }
+
+        /**
+         * @param members Bölge üyelerinin UUID'leri.
+         * @return Bu builder.
+         */
+        public RegionInfoBuilder members(List<UUID> members) {
+            this.members = members;
+            return this;
+        }
+    }
+
+    /**
+     * Bir UUID kümesini ya doğrudan tutan ya da ana thread'deki ilk başarılı erişimde kaynağından çözen tutucu.
+     * Çözüldükten sonra kaynak bırakılır.
+     */
+    private static final class Roster implements Supplier<ImmutableSet<UUID>> {
+        private volatile ImmutableSet<UUID> value;
+        private Supplier<? extends Collection<UUID>> source;
+
+        private Roster(ImmutableSet<UUID> value) {
+            this.value = value;
+        }
+
+        private Roster(Supplier<? extends Collection<UUID>> source) {
+            this.source = source;
+        }
+
+        private boolean isResolved() {
+            return value != null;
+        }
+
+        @Override
+        public ImmutableSet<UUID> get() {
+            ImmutableSet<UUID> current = value;
+            if (current != null) return current;
+            if (Bukkit.getServer() != null && !Bukkit.isPrimaryThread()) return ImmutableSet.of();
+
+            synchronized (this) {
+                if (value != null) return value;
+                Collection<UUID> resolved;
+                try {
+                    resolved = source.get();
+                } catch (RuntimeException e) {
+                    resolved = null;
+                }
+                if (resolved == null) return ImmutableSet.of();
+
+                current = toSet(resolved);
+                value = current;
+                source = null;
+                return current;
+            }
+        }
+    }
+
+    private static ImmutableSet<UUID> toSet(Collection<UUID> uuids) {
+        if (uuids == null || uuids.isEmpty()) return ImmutableSet.of();
+        if (uuids instanceof ImmutableSet<UUID> set) return set;
+
+        ImmutableSet.Builder<UUID> builder = ImmutableSet.builderWithExpectedSize(uuids.size());
+        for (UUID uuid : uuids) {
+            if (uuid != null) builder.add(uuid);
+        }
+        return builder.build();
     }
-}
\ No newline at end of file
+}
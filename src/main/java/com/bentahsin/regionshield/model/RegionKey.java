@@ -0,0 +1,98 @@
+package com.bentahsin.regionshield.model;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Bir bölgenin sahip ve üye listelerinden bağımsız, kalıcı kimliği: sağlayıcı (provider) ve bölge ID'si.
+ * <p>
+ * Anahtarlar havuzlanır (interned): aynı sağlayıcı ve ID için her zaman aynı örnek döndürülür. Bu sayede iki
+ * anahtarın aynı bölgeyi gösterip göstermediği referans eşitliğiyle ({@code ==}) anlaşılabilir; bölge geçişi
+ * tespiti ve limit sayaçları gibi sık çalışan yollar String birleştirmeden ve karşılaştırmadan kurtulur.
+ * <p>
+ * Karşılaştırma büyük/küçük harfe duyarlıdır. Kullanıcıların yazdığı ID'lerle eşleştirme yapan tüketiciler
+ * {@link #ignoringCase()} anahtarını kullanmalıdır.
+ */
+@Getter
+public final class RegionKey {
+
+    private static final Interner<RegionKey> INTERNER = Interners.newWeakInterner();
+
+    /**
+     * Bölgeyi sağlayan eklentinin veya kaynağın adı (Örn: "WorldGuard").
+     */
+    private final String provider;
+
+    /**
+     * Bölgenin sağlayıcı içindeki kimliği (ID).
+     */
+    private final String id;
+
+    @Getter(AccessLevel.NONE)
+    private final int hash;
+
+    /**
+     * Küçük harfli karşılığı; ilk istendiğinde hesaplanır. Anahtarlar havuzlandığından yarışan thread'ler aynı
+     * örneği yazar.
+     */
+    @Getter(AccessLevel.NONE)
+    private RegionKey lowerCase;
+
+    private RegionKey(String provider, String id) {
+        this.provider = provider;
+        this.id = id;
+        this.hash = Objects.hash(id, provider);
+    }
+
+    /**
+     * Verilen sağlayıcı ve ID için havuzlanmış anahtarı döndürür.
+     *
+     * @param provider Bölgeyi sağlayan kaynağın adı.
+     * @param id       Bölgenin ID'si.
+     * @return Paylaşılan anahtar örneği.
+     */
+    public static RegionKey of(String provider, String id) {
+        return INTERNER.intern(new RegionKey(provider, id));
+    }
+
+    /**
+     * Sağlayıcı ve ID'si küçük harfe çevrilmiş havuzlanmış anahtarı döndürür. Sonuç anahtar başına bir kez
+     * hesaplanır ve saklanır.
+     *
+     * @return Büyük/küçük harf farklarını yok sayan karşılaştırmalar için anahtar.
+     */
+    public RegionKey ignoringCase() {
+        RegionKey lower = lowerCase;
+        if (lower == null) {
+            lower = of(lower(provider), lower(id));
+            lowerCase = lower;
+        }
+        return lower;
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RegionKey other)) return false;
+        return hash == other.hash && Objects.equals(id, other.id) && Objects.equals(provider, other.provider);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return provider + ":" + id;
+    }
+}